@@ -1,13 +1,18 @@
 import calendar.command.CommandParser;
+import calendar.controller.BatchRunner;
+import calendar.controller.CommandPlan;
 import calendar.controller.Controller;
 import calendar.controller.ControllerInterface;
+import calendar.controller.LineSource;
+import calendar.controller.ParallelController;
+import calendar.controller.PipelinedController;
+import calendar.controller.PlanController;
 import calendar.model.CalendarManager;
 import calendar.view.ConsoleView;
 import calendar.view.ViewInterface;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.Reader;
+import java.nio.file.Paths;
 
 /**
  * Main entry point for the calendar application.
@@ -17,21 +22,28 @@ import java.io.Reader;
  * The application now supports multiple calendars with different timezones.
  */
 public class CalendarRunner {
+  private static final int PARSE_WORKERS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+  private static final int RUN_WORKERS =
+      Math.max(1, Runtime.getRuntime().availableProcessors());
+
   /**
    * Main method to run the calendar application.
    *
    * @param args command line arguments: --mode [interactive|headless]
-   *             [commands.txt]
+   *             [commands.txt [--compile|--pipelined|--parallel]], or
+   *             --mode batch directory
    */
   public static void main(String[] args) {
+    ViewInterface view = new ConsoleView(System.out, ConsoleView.DEFAULT_CHUNK_SIZE);
     try {
       if (args.length < 2 || !args[0].equalsIgnoreCase("--mode")) {
-        System.err.println("Usage: --mode [interactive|headless] [commands.txt]");
+        System.err.println("Usage: --mode [interactive|headless] "
+            + "[commands.txt [--compile|--pipelined|--parallel]] | --mode batch <dir>");
         System.exit(1);
       }
       CalendarManager manager = new CalendarManager();
       CommandParser parser = new CommandParser();
-      ViewInterface view = new ConsoleView(System.out);
 
       String mode = args[1].toLowerCase();
       if (mode.equals("interactive")) {
@@ -43,15 +55,41 @@ public class CalendarRunner {
           System.err.println("Headless mode requires a commands file path");
           System.exit(1);
         }
-        try (Reader reader = new FileReader(args[2])) {
-          ControllerInterface controller = new Controller(manager, view, parser, reader, false);
-          controller.run();
+        String option = args.length > 3 ? args[3].toLowerCase() : "";
+        if (option.equals("--compile")) {
+          CommandPlan plan = CommandPlan.load(Paths.get(args[2]), parser);
+          new PlanController(manager, view, plan).run();
+          return;
+        }
+        if (option.equals("--parallel")) {
+          new ParallelController(CalendarManager::new, view, parser, Paths.get(args[2]),
+              RUN_WORKERS).run();
+          return;
         }
+        LineSource lines = LineSource.open(Paths.get(args[2]));
+        ControllerInterface controller = option.equals("--pipelined")
+            ? new PipelinedController(manager, view, parser, lines, PARSE_WORKERS)
+            : new Controller(manager, view, parser, lines, false);
+        controller.run();
+      } else if (mode.equals("batch")) {
+        if (args.length < 3) {
+          System.err.println("Batch mode requires a directory of commands files");
+          System.exit(1);
+        }
+        BatchRunner batch = new BatchRunner(Paths.get(args[2]), parser, RUN_WORKERS);
+        int scripts = batch.run().size();
+        System.out.println("Ran " + scripts + " scripts; summary written to "
+            + batch.getReportPath());
       } else {
         System.err.println("Invalid mode: " + mode);
         System.exit(1);
       }
     } catch (IOException e) {
+      try {
+        view.flush();
+      } catch (IOException flushFailure) {
+        e.addSuppressed(flushFailure);
+      }
       e.printStackTrace();
       System.exit(2);
     }
@@ -11,6 +11,11 @@ import java.io.IOException;
  * Updated to work with CalendarManager instead of CalendarModelInterface.
  * Commands can access the current calendar model via manager.getCurrentCalendar().getModel().
  * Calendar management commands work directly with the CalendarManager.
+ *
+ * <p>Commands only hold the strings, numbers and flags they were parsed from,
+ * and take them all, in field declaration order, in one public constructor,
+ * so a parsed script can be saved as a compiled command plan and replayed
+ * without parsing it again.
  */
 public interface CommandInterface {
 
@@ -1,11 +1,12 @@
 package calendar.command;
 
 /**
- * Interface for command matchers in the Chain of Responsibility pattern.
+ * Interface for command matchers.
  *
  * <p>Each matcher attempts to parse a command string and return a CommandInterface
- * if it matches, or null if it doesn't match. Matchers are chained together
- * and tried in sequence until one succeeds.
+ * if it matches, or null if it doesn't match. {@link CommandParser} registers
+ * each matcher under its command's leading keywords and only tries the
+ * matchers registered for a line's keywords, in registration order.
  */
 public interface CommandMatcher {
 
@@ -16,4 +17,17 @@ public interface CommandMatcher {
    * @return the parsed command if matched, null if not matched
    */
   CommandInterface tryMatch(String input);
+
+  /**
+   * Attempts to match a line that has already been split into words. The
+   * default reads the line back as a string; matchers for the most frequent
+   * commands override it to check keywords and cut fields out of the
+   * scanner directly.
+   *
+   * @param line the scanned command line
+   * @return the parsed command if matched, null if not matched
+   */
+  default CommandInterface tryMatch(CommandScanner line) {
+    return tryMatch(line.text());
+  }
 }
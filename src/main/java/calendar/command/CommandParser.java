@@ -1,5 +1,6 @@
 package calendar.command;
 
+import calendar.command.matchers.CompleteSubjectCommandMatcher;
 import calendar.command.matchers.CopyEventCommandMatcher;
 import calendar.command.matchers.CopyEventsOnDayCommandMatcher;
 import calendar.command.matchers.CopyEventsRangeCommandMatcher;
@@ -10,59 +11,113 @@ import calendar.command.matchers.CreateCalendarCommandMatcher;
 import calendar.command.matchers.CreateEventCommandMatcher;
 import calendar.command.matchers.CreateEventSeriesFromToForCommandMatcher;
 import calendar.command.matchers.CreateEventSeriesFromToUntilCommandMatcher;
+import calendar.command.matchers.DeleteEventCommandMatcher;
+import calendar.command.matchers.DeleteEventsBetweenCommandMatcher;
+import calendar.command.matchers.DeleteSeriesCommandMatcher;
+import calendar.command.matchers.EditAllCommandMatcher;
 import calendar.command.matchers.EditCalendarCommandMatcher;
 import calendar.command.matchers.EditEventCommandMatcher;
 import calendar.command.matchers.EditEventsCommandMatcher;
 import calendar.command.matchers.EditSeriesCommandMatcher;
 import calendar.command.matchers.ExitCommandMatcher;
 import calendar.command.matchers.ExportCommandMatcher;
+import calendar.command.matchers.ExportFreeBusyCommandMatcher;
 import calendar.command.matchers.PrintAllEventsCommandMatcher;
 import calendar.command.matchers.PrintEventsOnCommandMatcher;
 import calendar.command.matchers.PrintEventsRangeCommandMatcher;
+import calendar.command.matchers.PrintMonthCommandMatcher;
+import calendar.command.matchers.PrintNextEventsCommandMatcher;
+import calendar.command.matchers.PrintWeekCommandMatcher;
+import calendar.command.matchers.SearchCommandMatcher;
+import calendar.command.matchers.ShowCacheStatsCommandMatcher;
 import calendar.command.matchers.ShowStatusCommandMatcher;
+import calendar.command.matchers.ShowStatusFileCommandMatcher;
+import calendar.command.matchers.ShowStatusRangeCommandMatcher;
+import calendar.command.matchers.StatsCommandMatcher;
 import calendar.command.matchers.UseCalendarCommandMatcher;
-import java.util.Arrays;
+import calendar.command.matchers.UtilizationCommandMatcher;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
- * Parses command strings into CommandInterface objects using Chain of Responsibility pattern.
+ * Parses command strings into CommandInterface objects.
  *
- * <p>This parser uses a chain of CommandMatcher objects to try matching the input
- * against different command patterns. Each matcher is tried in sequence until one
- * successfully matches, or all matchers fail. This design eliminates the long
- * if-else chain and makes the parser more maintainable and extensible.
+ * <p>Every command starts with one or two fixed keywords ({@code create event},
+ * {@code edit series}, {@code exit}, ...). The parser splits a line into
+ * words once with a {@link CommandScanner}, picks the routes registered
+ * under the first keyword's initial and compares keywords in place, so a
+ * line is only handed to the one or few {@link CommandMatcher}s that could
+ * accept it instead of walking a chain of every pattern. The same scanner is
+ * passed on to the matcher, so the line is not split again.
+ *
+ * <p>Where several forms share the same keywords (the six {@code create event}
+ * forms, {@code print events on/from}, ...), each route carries a guard on
+ * the fixed words that tell the forms apart, such as the trailing
+ * {@code repeats ... for N times}. A guard only rejects lines its matcher
+ * could never accept, so routes are still tried in registration order and
+ * the result is the same as trying every matcher in sequence.
  */
 public class CommandParser {
-  private final List<CommandMatcher> matchers;
+  private static final int INITIALS = 26;
+
+  private final List<List<Route>> routes;
 
   /**
    * Creates a CommandParser with all registered matchers.
-   * Matchers are ordered from most specific to least specific.
+   * Within a keyword, matchers are ordered from most specific to least specific.
    */
   public CommandParser() {
-    this.matchers = Arrays.asList(
-        new ExitCommandMatcher(),
-        new CreateCalendarCommandMatcher(),
-        new EditCalendarCommandMatcher(),
-        new UseCalendarCommandMatcher(),
-        new CopyEventsRangeCommandMatcher(),
-        new CopyEventsOnDayCommandMatcher(),
-        new CopyEventCommandMatcher(),
-        new PrintAllEventsCommandMatcher(),
-        new PrintEventsOnCommandMatcher(),
-        new PrintEventsRangeCommandMatcher(),
-        new ShowStatusCommandMatcher(),
-        new EditEventCommandMatcher(),
-        new EditEventsCommandMatcher(),
-        new EditSeriesCommandMatcher(),
-        new ExportCommandMatcher(),
-        new CreateEventSeriesFromToForCommandMatcher(),
-        new CreateEventSeriesFromToUntilCommandMatcher(),
-        new CreateAllDayEventSeriesForCommandMatcher(),
-        new CreateAllDayEventSeriesUntilCommandMatcher(),
-        new CreateAllDayEventCommandMatcher(),
-        new CreateEventCommandMatcher()
-    );
+    this.routes = new ArrayList<>(INITIALS);
+    for (int i = 0; i < INITIALS; i++) {
+      this.routes.add(new ArrayList<>());
+    }
+    route("exit", new ExitCommandMatcher());
+    route("create calendar", new CreateCalendarCommandMatcher());
+    route("edit calendar", new EditCalendarCommandMatcher());
+    route("use calendar", new UseCalendarCommandMatcher());
+    route("copy events", new CopyEventsRangeCommandMatcher(), w -> w.wordIs(2, "between"));
+    route("copy events", new CopyEventsOnDayCommandMatcher(), w -> w.wordIs(2, "on"));
+    route("copy event", new CopyEventCommandMatcher());
+    route("print all", new PrintAllEventsCommandMatcher());
+    route("print events", new PrintEventsOnCommandMatcher(), w -> w.wordIs(2, "on"));
+    route("print events", new PrintEventsRangeCommandMatcher(), w -> w.wordIs(2, "from"));
+    route("print next", new PrintNextEventsCommandMatcher());
+    route("print month", new PrintMonthCommandMatcher());
+    route("print week", new PrintWeekCommandMatcher());
+    route("show status", new ShowStatusCommandMatcher(), w -> w.wordIs(2, "on"));
+    route("show status", new ShowStatusRangeCommandMatcher(), w -> w.wordIs(2, "from"));
+    route("show status", new ShowStatusFileCommandMatcher(), w -> w.wordIs(2, "--file"));
+    route("show cache", new ShowCacheStatsCommandMatcher());
+    route("search", new SearchCommandMatcher());
+    route("complete subject", new CompleteSubjectCommandMatcher());
+    route("stats", new StatsCommandMatcher());
+    route("utilization", new UtilizationCommandMatcher());
+    route("edit all", new EditAllCommandMatcher());
+    route("edit event", new EditEventCommandMatcher());
+    route("edit events", new EditEventsCommandMatcher());
+    route("edit series", new EditSeriesCommandMatcher());
+    route("delete events", new DeleteEventsBetweenCommandMatcher());
+    route("delete event", new DeleteEventCommandMatcher());
+    route("delete series", new DeleteSeriesCommandMatcher());
+    route("export cal", new ExportCommandMatcher());
+    route("export freebusy", new ExportFreeBusyCommandMatcher());
+    route("create event", new CreateEventSeriesFromToForCommandMatcher(),
+        w -> w.lastWordIs(1, "times") && w.lastWordIs(5, "repeats")
+            && w.lastWordIs(7, "to") && w.lastWordIs(9, "from"));
+    route("create event", new CreateEventSeriesFromToUntilCommandMatcher(),
+        w -> w.lastWordIs(2, "until") && w.lastWordIs(4, "repeats")
+            && w.lastWordIs(6, "to") && w.lastWordIs(8, "from"));
+    route("create event", new CreateAllDayEventSeriesForCommandMatcher(),
+        w -> w.lastWordIs(1, "times") && w.lastWordIs(5, "repeats")
+            && w.lastWordIs(7, "on"));
+    route("create event", new CreateAllDayEventSeriesUntilCommandMatcher(),
+        w -> w.lastWordIs(2, "until") && w.lastWordIs(4, "repeats")
+            && w.lastWordIs(6, "on"));
+    route("create event", new CreateAllDayEventCommandMatcher(),
+        w -> w.lastWordIs(2, "on"));
+    route("create event", new CreateEventCommandMatcher(),
+        w -> w.lastWordIs(2, "to") && w.lastWordIs(4, "from"));
   }
 
   /**
@@ -77,14 +132,54 @@ public class CommandParser {
     }
 
     String trimmed = input.trim();
+    CommandScanner line = new CommandScanner(trimmed);
 
-    for (CommandMatcher matcher : matchers) {
-      CommandInterface command = matcher.tryMatch(trimmed);
-      if (command != null) {
-        return command;
+    int initial = (trimmed.charAt(0) | 0x20) - 'a';
+    if (initial >= 0 && initial < INITIALS) {
+      for (Route route : routes.get(initial)) {
+        if (route.accepts(line)) {
+          CommandInterface command = route.matcher.tryMatch(line);
+          if (command != null) {
+            return command;
+          }
+        }
       }
     }
 
     return new NoOpCommand(input);
   }
-}
\ No newline at end of file
+
+  private void route(String keywords, CommandMatcher matcher) {
+    route(keywords, matcher, w -> true);
+  }
+
+  private void route(String keywords, CommandMatcher matcher,
+                     Predicate<CommandScanner> guard) {
+    routes.get(keywords.charAt(0) - 'a').add(new Route(keywords.split(" "), matcher, guard));
+  }
+
+  /**
+   * A matcher registered under its leading keywords, with a cheap
+   * precondition on the line's other words.
+   */
+  private static final class Route {
+    private final String[] keywords;
+    private final CommandMatcher matcher;
+    private final Predicate<CommandScanner> guard;
+
+    private Route(String[] keywords, CommandMatcher matcher, Predicate<CommandScanner> guard) {
+      this.keywords = keywords;
+      this.matcher = matcher;
+      this.guard = guard;
+    }
+
+    private boolean accepts(CommandScanner line) {
+      for (int i = 0; i < keywords.length; i++) {
+        if (!line.wordIs(i, keywords[i])) {
+          return false;
+        }
+      }
+      return guard.test(line);
+    }
+  }
+}
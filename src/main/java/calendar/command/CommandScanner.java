@@ -0,0 +1,210 @@
+package calendar.command;
+
+import java.util.Arrays;
+
+/**
+ * Cursor-based view of one command line as whitespace-separated words.
+ *
+ * <p>The input is walked once, recording where each word starts and ends;
+ * no substrings are made until a matcher asks for a field it will keep.
+ * Keyword checks, integer fields and quote stripping work directly on the
+ * input characters, so a line that is rejected allocates nothing beyond the
+ * scanner itself.
+ *
+ * <p>Whitespace and keyword case follow the rules the regex matchers use:
+ * the six ASCII whitespace characters of {@code \s}, and ASCII-only case
+ * folding, so a scanned match accepts exactly the lines the equivalent
+ * pattern would.
+ */
+public final class CommandScanner {
+  private final CharSequence input;
+  private int[] bounds;
+  private int words;
+
+  /**
+   * Scans a line into words.
+   *
+   * @param input the command line
+   */
+  public CommandScanner(CharSequence input) {
+    this.input = input;
+    this.bounds = new int[32];
+    int length = input.length();
+    int pos = 0;
+    while (true) {
+      while (pos < length && isSpace(input.charAt(pos))) {
+        pos++;
+      }
+      if (pos >= length) {
+        break;
+      }
+      int start = pos;
+      while (pos < length && !isSpace(input.charAt(pos))) {
+        pos++;
+      }
+      if (words * 2 == bounds.length) {
+        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+      }
+      bounds[words * 2] = start;
+      bounds[words * 2 + 1] = pos;
+      words++;
+    }
+  }
+
+  /**
+   * Checks whether a character is whitespace in the sense of the regex
+   * {@code \s} class.
+   *
+   * @param c the character
+   * @return true for space, tab, newline, vertical tab, form feed or carriage return
+   */
+  public static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /**
+   * Gets the whole input line.
+   *
+   * @return the line as a string
+   */
+  public String text() {
+    return input.toString();
+  }
+
+  /**
+   * Gets the number of words on the line.
+   *
+   * @return the word count
+   */
+  public int wordCount() {
+    return words;
+  }
+
+  /**
+   * Checks a word against a keyword, ignoring ASCII case.
+   *
+   * @param index   the zero-based word index; out-of-range indexes never match
+   * @param keyword the lowercase keyword
+   * @return true if the word equals the keyword
+   */
+  public boolean wordIs(int index, String keyword) {
+    if (index < 0 || index >= words) {
+      return false;
+    }
+    int start = bounds[index * 2];
+    if (bounds[index * 2 + 1] - start != keyword.length()) {
+      return false;
+    }
+    for (int i = 0; i < keyword.length(); i++) {
+      char c = input.charAt(start + i);
+      if (c >= 'A' && c <= 'Z') {
+        c = (char) (c + ('a' - 'A'));
+      }
+      if (c != keyword.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks a word counted from the end of the line against a keyword.
+   *
+   * @param position one for the last word, two for the one before, ...
+   * @param keyword  the lowercase keyword
+   * @return true if the word equals the keyword
+   */
+  public boolean lastWordIs(int position, String keyword) {
+    return wordIs(words - position, keyword);
+  }
+
+  /**
+   * Finds the first word at or after an index that equals a keyword.
+   *
+   * @param fromIndex the index to start from
+   * @param keyword   the lowercase keyword
+   * @return the word's index, or -1 if none
+   */
+  public int indexOf(int fromIndex, String keyword) {
+    for (int i = Math.max(fromIndex, 0); i < words; i++) {
+      if (wordIs(i, keyword)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets a word.
+   *
+   * @param index the zero-based word index
+   * @return the word as written
+   */
+  public String word(int index) {
+    return input.subSequence(bounds[index * 2], bounds[index * 2 + 1]).toString();
+  }
+
+  /**
+   * Reads a word made only of ASCII digits as an integer, in place.
+   *
+   * @param index the zero-based word index
+   * @return the value, or -1 if the word is missing, not all digits or too large
+   */
+  public int intWord(int index) {
+    if (index < 0 || index >= words) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = bounds[index * 2]; i < bounds[index * 2 + 1]; i++) {
+      char c = input.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+      if (value > Integer.MAX_VALUE) {
+        return -1;
+      }
+    }
+    return (int) value;
+  }
+
+  /**
+   * Gets the text spanning a run of words, with its original spacing.
+   *
+   * @param fromIndex the first word (inclusive)
+   * @param toIndex   the last word (exclusive), greater than {@code fromIndex}
+   * @return the text from the first word's start to the last word's end
+   */
+  public String span(int fromIndex, int toIndex) {
+    return input.subSequence(bounds[fromIndex * 2], bounds[toIndex * 2 - 1]).toString();
+  }
+
+  /**
+   * Gets the text spanning a run of words, trimmed and without one pair of
+   * surrounding single or double quotes, as {@code StringUtils.stripQuotes}
+   * would.
+   *
+   * @param fromIndex the first word (inclusive)
+   * @param toIndex   the last word (exclusive), greater than {@code fromIndex}
+   * @return the unquoted text
+   */
+  public String unquoted(int fromIndex, int toIndex) {
+    int start = bounds[fromIndex * 2];
+    int end = bounds[toIndex * 2 - 1];
+    while (start < end && input.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && input.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (end - start >= 2) {
+      char first = input.charAt(start);
+      char last = input.charAt(end - 1);
+      if ((first == '"' || first == '\'') && last == first) {
+        start++;
+        end--;
+      }
+    }
+    return input.subSequence(start, end).toString();
+  }
+}
@@ -0,0 +1,53 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Command to list event subjects in the current calendar that start with a prefix.
+ * Format: complete subject &lt;prefix&gt;
+ *
+ * <p>Intended for interactive use: it prints one matching subject per line,
+ * in sorted order, so the user can pick the exact subject for an edit or
+ * copy command. Matching is case-sensitive, like those commands.
+ */
+public class CompleteSubjectCommand implements CommandInterface {
+
+  /**
+   * Maximum number of subjects printed for one prefix.
+   */
+  public static final int MAX_SUGGESTIONS = 20;
+
+  private final String prefix;
+
+  /**
+   * Creates a CompleteSubjectCommand.
+   *
+   * @param prefix the subject prefix
+   */
+  public CompleteSubjectCommand(String prefix) {
+    this.prefix = prefix;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    List<String> subjects = currentCal.getModel().completeSubject(prefix, MAX_SUGGESTIONS);
+    if (subjects.isEmpty()) {
+      view.displayMessage("No subjects found starting with '" + prefix + "'.");
+      return true;
+    }
+    for (String subject : subjects) {
+      view.displayMessage(subject);
+    }
+    return true;
+  }
+}
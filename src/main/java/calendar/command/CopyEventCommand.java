@@ -4,14 +4,15 @@ import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
 import calendar.utils.TimezoneUtils;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -32,15 +33,12 @@ import java.util.List;
  * - Validates that both source and target calendars exist
  * - Provides clear error messages for various failure cases
  */
-public class CopyEventCommand implements CommandInterface {
+public class CopyEventCommand implements CrossCalendarCommand {
   private final String eventName;
   private final String sourceDateTime;
   private final String targetCalendarName;
   private final String targetDateTime;
 
-  private static final DateTimeFormatter DATE_TIME_FORMATTER =
-      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-
   /**
    * Creates a command to copy an event.
    *
@@ -57,6 +55,11 @@ public class CopyEventCommand implements CommandInterface {
     this.targetDateTime = targetDateTime;
   }
 
+  @Override
+  public List<String> getOtherCalendarNames() {
+    return Collections.singletonList(targetCalendarName);
+  }
+
   @Override
   public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
     Calendar sourceCalendar = manager.getCurrentCalendar();
@@ -74,7 +77,7 @@ public class CopyEventCommand implements CommandInterface {
 
     LocalDateTime sourceStart;
     try {
-      sourceStart = LocalDateTime.parse(sourceDateTime, DATE_TIME_FORMATTER);
+      sourceStart = DateTimeParser.parseDateTime(sourceDateTime);
     } catch (DateTimeParseException e) {
       view.displayMessage("Error: Invalid source date/time format. Use yyyy-MM-ddTHH:mm.");
       return false;
@@ -82,21 +85,14 @@ public class CopyEventCommand implements CommandInterface {
 
     LocalDateTime targetStart;
     try {
-      targetStart = LocalDateTime.parse(targetDateTime, DATE_TIME_FORMATTER);
+      targetStart = DateTimeParser.parseDateTime(targetDateTime);
     } catch (DateTimeParseException e) {
       view.displayMessage("Error: Invalid target date/time format. Use yyyy-MM-ddTHH:mm.");
       return false;
     }
 
-    List<EventInterface> events = sourceCalendar.getModel().getAllEvents();
-    EventInterface sourceEvent = null;
-    for (EventInterface event : events) {
-      if (event.getSubject().equals(eventName)
-          && event.getStartDateTime().equals(sourceStart)) {
-        sourceEvent = event;
-        break;
-      }
-    }
+    EventInterface sourceEvent =
+        sourceCalendar.getModel().findEventBySubjectAndStart(eventName, sourceStart);
 
     if (sourceEvent == null) {
       view.displayMessage("Error: Event '" + eventName + "' not found on "
@@ -121,7 +117,7 @@ public class CopyEventCommand implements CommandInterface {
         sourceEvent.getDescription().orElse(null),
         sourceEvent.getLocation().orElse(null),
         sourceEvent.isPrivate(),
-        java.util.UUID.randomUUID(),  
+        manager.newEventId(),  
         null  
     );
 
@@ -4,14 +4,15 @@ import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
 import calendar.utils.TimezoneUtils;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -29,14 +30,11 @@ import java.util.List;
  * - Creates new events (new IDs) in target calendar
  * - Handles conflicts by skipping events that can't be created
  */
-public class CopyEventsOnDayCommand implements CommandInterface {
+public class CopyEventsOnDayCommand implements CrossCalendarCommand {
   private final String sourceDate;
   private final String targetCalendarName;
   private final String targetDate;
 
-  private static final DateTimeFormatter DATE_FORMATTER =
-      DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
   /**
    * Creates a command to copy all events on a specific day.
    *
@@ -50,6 +48,11 @@ public class CopyEventsOnDayCommand implements CommandInterface {
     this.targetDate = targetDate;
   }
 
+  @Override
+  public List<String> getOtherCalendarNames() {
+    return Collections.singletonList(targetCalendarName);
+  }
+
   @Override
   public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
     
@@ -71,17 +74,17 @@ public class CopyEventsOnDayCommand implements CommandInterface {
     LocalDate sourceLocalDate;
     LocalDate targetLocalDate;
     try {
-      sourceLocalDate = LocalDate.parse(sourceDate, DATE_FORMATTER);
-      targetLocalDate = LocalDate.parse(targetDate, DATE_FORMATTER);
+      sourceLocalDate = DateTimeParser.parseDate(sourceDate);
+      targetLocalDate = DateTimeParser.parseDate(targetDate);
     } catch (DateTimeParseException e) {
       view.displayMessage("Error: Invalid date format. Use yyyy-MM-dd.");
       return false;
     }
 
     
-    List<EventInterface> allEvents = sourceCalendar.getModel().getAllEvents();
+    List<EventInterface> candidates = sourceCalendar.getModel().getEventsOnDate(sourceLocalDate);
     List<EventInterface> eventsOnDay = new ArrayList<>();
-    for (EventInterface event : allEvents) {
+    for (EventInterface event : candidates) {
       if (event.getStartDateTime().toLocalDate().equals(sourceLocalDate)) {
         eventsOnDay.add(event);
       }
@@ -132,7 +135,7 @@ public class CopyEventsOnDayCommand implements CommandInterface {
           sourceEvent.getDescription().orElse(null),
           sourceEvent.getLocation().orElse(null),
           sourceEvent.isPrivate(),
-          java.util.UUID.randomUUID(),  
+          manager.newEventId(),  
           null  
       );
 
@@ -4,14 +4,15 @@ import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
 import calendar.utils.TimezoneUtils;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,15 +35,12 @@ import java.util.UUID;
  * - Creates new series IDs for copied series events
  * - Maintains event durations and relationships
  */
-public class CopyEventsRangeCommand implements CommandInterface {
+public class CopyEventsRangeCommand implements CrossCalendarCommand {
   private final String startDate;
   private final String endDate;
   private final String targetCalendarName;
   private final String targetStartDate;
 
-  private static final DateTimeFormatter DATE_FORMATTER =
-      DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
   /**
    * Creates a command to copy events in a date range.
    *
@@ -59,6 +57,11 @@ public class CopyEventsRangeCommand implements CommandInterface {
     this.targetStartDate = targetStartDate;
   }
 
+  @Override
+  public List<String> getOtherCalendarNames() {
+    return Collections.singletonList(targetCalendarName);
+  }
+
   @Override
   public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
     
@@ -81,9 +84,9 @@ public class CopyEventsRangeCommand implements CommandInterface {
     LocalDate sourceEnd;
     LocalDate targetStart;
     try {
-      sourceStart = LocalDate.parse(startDate, DATE_FORMATTER);
-      sourceEnd = LocalDate.parse(endDate, DATE_FORMATTER);
-      targetStart = LocalDate.parse(targetStartDate, DATE_FORMATTER);
+      sourceStart = DateTimeParser.parseDate(startDate);
+      sourceEnd = DateTimeParser.parseDate(endDate);
+      targetStart = DateTimeParser.parseDate(targetStartDate);
     } catch (DateTimeParseException e) {
       view.displayMessage("Error: Invalid date format. Use yyyy-MM-dd.");
       return false;
@@ -95,10 +98,11 @@ public class CopyEventsRangeCommand implements CommandInterface {
     }
 
     
-    List<EventInterface> allEvents = sourceCalendar.getModel().getAllEvents();
+    List<EventInterface> candidates = sourceCalendar.getModel().getEventsInRange(
+        sourceStart.atStartOfDay(), sourceEnd.plusDays(1).atStartOfDay());
     List<EventInterface> eventsInRange = new ArrayList<>();
 
-    for (EventInterface event : allEvents) {
+    for (EventInterface event : candidates) {
       LocalDate eventDate = event.getStartDateTime().toLocalDate();
       
       if (!eventDate.isBefore(sourceStart) && !eventDate.isAfter(sourceEnd)) {
@@ -163,7 +167,7 @@ public class CopyEventsRangeCommand implements CommandInterface {
           sourceEvent.getDescription().orElse(null),
           sourceEvent.getLocation().orElse(null),
           sourceEvent.isPrivate(),
-          UUID.randomUUID(),  
+          manager.newEventId(),  
           newSeriesId         
       );
 
@@ -5,6 +5,7 @@ import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.Event;
 import calendar.model.EventInterface;
+import calendar.model.OverlapPolicy;
 import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
 import java.io.IOException;
@@ -55,7 +56,9 @@ public class CreateAllDayEventCommand implements CommandInterface {
       if (ok) {
         view.displayMessage("Created all-day event: " + subject);
       } else {
-        view.displayError("Duplicate event: " + subject);
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Event overlaps an existing event: " + subject
+            : "Duplicate event: " + subject);
       }
       return ok;
     } catch (Exception e) {
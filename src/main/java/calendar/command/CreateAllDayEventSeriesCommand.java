@@ -6,6 +6,7 @@ import calendar.model.CalendarModelInterface;
 import calendar.model.Event;
 import calendar.model.EventInterface;
 import calendar.model.EventSeries;
+import calendar.model.OverlapPolicy;
 import calendar.model.Weekday;
 import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
@@ -89,7 +90,9 @@ public class CreateAllDayEventSeriesCommand implements CommandInterface {
       if (ok) {
         view.displayMessage("Created all-day event series: " + subject);
       } else {
-        view.displayError("Failed to create series: duplicate events detected");
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Failed to create series: duplicate or overlapping events detected"
+            : "Failed to create series: duplicate events detected");
       }
       return ok;
     } catch (Exception e) {
@@ -5,8 +5,10 @@ import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.Event;
 import calendar.model.EventInterface;
+import calendar.model.OverlapPolicy;
 import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -32,7 +34,7 @@ public class CreateEventCommand implements CommandInterface {
   }
 
   @Override
-  public boolean execute(CalendarManager manager, ViewInterface view) {
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
     try {
       
       Calendar currentCal = manager.getCurrentCalendar();
@@ -50,15 +52,13 @@ public class CreateEventCommand implements CommandInterface {
       if (ok) {
         view.displayMessage("Created event: " + subject);
       } else {
-        view.displayError("Duplicate event: " + subject);
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Event overlaps an existing event: " + subject
+            : "Duplicate event: " + subject);
       }
       return ok;
     } catch (Exception e) {
-      try {
-        view.displayError("Failed to create event: " + e.getMessage());
-      } catch (Exception ignore) {
-        System.out.println("Failed to create event: " + e.getMessage());
-      }
+      view.displayError("Failed to create event: " + e.getMessage());
       return false;
     }
   }
@@ -0,0 +1,22 @@
+package calendar.command;
+
+import java.util.List;
+
+/**
+ * A command that, besides the current calendar, reads or writes calendars
+ * named in the command itself, such as the {@code --target} of the copy
+ * commands or the {@code --calendars} of search.
+ *
+ * <p>Knowing those calendars up front lets a runner order the command after
+ * earlier work on all of them, and later work on them after the command,
+ * without executing it.
+ */
+public interface CrossCalendarCommand extends CommandInterface {
+
+  /**
+   * Gets the names of the other calendars this command reads or writes.
+   *
+   * @return the calendar names, possibly including the current calendar
+   */
+  List<String> getOtherCalendarNames();
+}
@@ -0,0 +1,61 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Command to delete a single event.
+ * Format: delete event subject from start to end
+ */
+public class DeleteEventCommand implements CommandInterface {
+  private final String subject;
+  private final String startString;
+  private final String endString;
+
+  /**
+   * Creates a DeleteEventCommand.
+   *
+   * @param subject     the event subject to find
+   * @param startString the start datetime string
+   * @param endString   the end datetime string
+   */
+  public DeleteEventCommand(String subject, String startString, String endString) {
+    this.subject = subject;
+    this.startString = startString;
+    this.endString = endString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    try {
+      Calendar currentCal = manager.getCurrentCalendar();
+      if (currentCal == null) {
+        view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+        return false;
+      }
+      CalendarModelInterface model = currentCal.getModel();
+
+      LocalDateTime start = DateTimeParser.parseDateTime(startString);
+      LocalDateTime end = DateTimeParser.parseDateTime(endString);
+      EventInterface event = model.findEventByProperties(subject, start, end);
+
+      if (event == null) {
+        view.displayError("Event not found: " + subject);
+        return false;
+      }
+
+      model.deleteEvent(event.getId());
+      view.displayMessage("Event deleted successfully");
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to delete event: " + e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Command to delete every event starting in a date range.
+ * Format: delete events between &lt;dateString&gt; and &lt;dateString&gt;
+ *
+ * <p>Both dates are inclusive. Events that start before the range but run
+ * into it are kept, matching how "copy events between" selects events.
+ */
+public class DeleteEventsBetweenCommand implements CommandInterface {
+  private final String startDateString;
+  private final String endDateString;
+
+  /**
+   * Creates a DeleteEventsBetweenCommand.
+   *
+   * @param startDateString the first date of the range
+   * @param endDateString   the last date of the range
+   */
+  public DeleteEventsBetweenCommand(String startDateString, String endDateString) {
+    this.startDateString = startDateString;
+    this.endDateString = endDateString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    try {
+      Calendar currentCal = manager.getCurrentCalendar();
+      if (currentCal == null) {
+        view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+        return false;
+      }
+
+      LocalDate startDate = DateTimeParser.parseDate(startDateString);
+      LocalDate endDate = DateTimeParser.parseDate(endDateString);
+      if (endDate.isBefore(startDate)) {
+        view.displayError("End date must not be before start date");
+        return false;
+      }
+
+      int deleted = currentCal.getModel().deleteEventsBetween(startDate, endDate);
+      view.displayMessage("Deleted " + deleted + " event(s)");
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to delete events: " + e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Command to delete an event and the rest of its series.
+ * Format: delete series subject from start
+ *
+ * <p>The event starting at the given time and every later event of its
+ * series are deleted. An event that is not part of a series is deleted on
+ * its own.
+ */
+public class DeleteSeriesCommand implements CommandInterface {
+  private final String subject;
+  private final String startString;
+
+  /**
+   * Creates a DeleteSeriesCommand.
+   *
+   * @param subject     the event subject to find
+   * @param startString the start datetime string
+   */
+  public DeleteSeriesCommand(String subject, String startString) {
+    this.subject = subject;
+    this.startString = startString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    try {
+      Calendar currentCal = manager.getCurrentCalendar();
+      if (currentCal == null) {
+        view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+        return false;
+      }
+      CalendarModelInterface model = currentCal.getModel();
+
+      LocalDateTime start = DateTimeParser.parseDateTime(startString);
+      EventInterface event = model.findEventBySubjectAndStart(subject, start);
+
+      if (event == null) {
+        view.displayError("Event not found: " + subject + " at " + startString);
+        return false;
+      }
+
+      int deleted;
+      if (event.getSeriesId().isPresent()) {
+        deleted = model.deleteSeriesFrom(event.getSeriesId().get(), start.toLocalDate());
+      } else {
+        deleted = model.deleteEvent(event.getId()) ? 1 : 0;
+      }
+      view.displayMessage("Deleted " + deleted + " event(s)");
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to delete series: " + e.getMessage());
+      return false;
+    }
+  }
+}
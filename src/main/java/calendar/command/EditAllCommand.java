@@ -0,0 +1,108 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.EditSpec;
+import calendar.model.EventAttribute;
+import calendar.model.EventFilter;
+import calendar.model.OverlapPolicy;
+import calendar.util.DateTimeParser;
+import calendar.util.EditSpecFactory;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Command to edit every event matching a set of conditions at once.
+ * Format: edit all --where &lt;attribute&gt;="&lt;value&gt;" [...]
+ *         [--from &lt;dateStringTtimeString&gt; --to &lt;dateStringTtimeString&gt;]
+ *         --set &lt;property&gt; &lt;value&gt;
+ *
+ * <p>Conditions compare the subject, location or status of an event exactly;
+ * several conditions must all hold. With a window, only events overlapping
+ * it are edited. The edit is applied as one batch: if it would create a
+ * duplicate event, nothing is changed and an error is reported.
+ */
+public class EditAllCommand implements CommandInterface {
+  private static final Pattern CONDITION =
+      Pattern.compile("\\s*(\\w+)\\s*=\\s*(?:\"([^\"]*)\"|(\\S+))\\s*");
+
+  private final String conditions;
+  private final String fromString;
+  private final String toString;
+  private final String property;
+  private final String newValue;
+
+  /**
+   * Creates an EditAllCommand.
+   *
+   * @param conditions the attribute conditions, e.g. subject="Standup"
+   * @param fromString the window start datetime string, or null
+   * @param toString   the window end datetime string, or null
+   * @param property   the property to edit
+   * @param newValue   the new value for the property
+   */
+  public EditAllCommand(String conditions, String fromString, String toString,
+                        String property, String newValue) {
+    this.conditions = conditions;
+    this.fromString = fromString;
+    this.toString = toString;
+    this.property = property.toLowerCase();
+    this.newValue = newValue;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      LocalDateTime from = fromString == null ? null : DateTimeParser.parseDateTime(fromString);
+      LocalDateTime to = toString == null ? null : DateTimeParser.parseDateTime(toString);
+      EventFilter filter = new EventFilter(parseConditions(conditions), from, to);
+      EditSpec spec = EditSpecFactory.createEditSpec(property, newValue);
+
+      int edited = currentCal.getModel().editAll(filter, spec);
+      if (edited < 0) {
+        view.displayError(currentCal.getModel().getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Failed to edit: would create duplicate or overlapping event"
+            : "Failed to edit: would create duplicate event");
+        return false;
+      }
+      if (edited == 0) {
+        view.displayMessage("No events matched");
+      } else {
+        view.displayMessage("Edited " + edited + " event(s)");
+      }
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to edit events: " + e.getMessage());
+      return false;
+    }
+  }
+
+  private static Map<EventAttribute, String> parseConditions(String text) {
+    Map<EventAttribute, String> parsed = new EnumMap<>(EventAttribute.class);
+    Matcher matcher = CONDITION.matcher(text);
+    int end = 0;
+    while (matcher.find() && matcher.start() == end) {
+      EventAttribute attribute = EventAttribute.fromString(matcher.group(1));
+      String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+      if (parsed.put(attribute, value) != null) {
+        throw new IllegalArgumentException("Duplicate condition on " + matcher.group(1));
+      }
+      end = matcher.end();
+    }
+    if (end != text.length() || parsed.isEmpty()) {
+      throw new IllegalArgumentException("Invalid condition: " + text);
+    }
+    return parsed;
+  }
+}
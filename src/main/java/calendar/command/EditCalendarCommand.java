@@ -1,7 +1,9 @@
 package calendar.command;
 
+import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
+import calendar.model.OverlapPolicy;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.ZoneId;
@@ -15,6 +17,7 @@ import java.time.zone.ZoneRulesException;
  * <p>Supported properties:
  * - name: Changes the calendar's name (must be unique)
  * - timezone: Changes the calendar's timezone (must be valid IANA format)
+ * - policy: no-overlap to reject overlapping events, allow-overlap to accept them
  *
  * <p>DESIGN RATIONALE:
  * - Validates property names before attempting modifications
@@ -74,9 +77,28 @@ public class EditCalendarCommand implements CommandInterface {
         }
         break;
 
+      case "policy":
+        Calendar calendar = manager.getCalendar(calendarName);
+        if (calendar == null) {
+          view.displayMessage("Error: Calendar '" + calendarName + "' not found.");
+          break;
+        }
+        try {
+          success = calendar.getModel().setOverlapPolicy(OverlapPolicy.fromString(newValue));
+          if (success) {
+            view.displayMessage("Calendar '" + calendarName + "' policy changed to '"
+                + newValue.toLowerCase() + "'.");
+          } else {
+            view.displayMessage("Error: Calendar '" + calendarName
+                + "' already has overlapping events.");
+          }
+        } catch (IllegalArgumentException e) {
+          view.displayMessage("Error: " + e.getMessage());
+        }
+        break;
       default:
         view.displayMessage("Error: Unknown property '" + property + "'. "
-            + "Valid properties are 'name' and 'timezone'.");
+            + "Valid properties are 'name', 'timezone' and 'policy'.");
         break;
     }
 
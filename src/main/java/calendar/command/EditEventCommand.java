@@ -5,6 +5,7 @@ import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EditSpec;
 import calendar.model.EventInterface;
+import calendar.model.OverlapPolicy;
 import calendar.util.DateTimeParser;
 import calendar.util.EditSpecFactory;
 import calendar.view.ViewInterface;
@@ -68,7 +69,9 @@ public class EditEventCommand implements CommandInterface {
       if (success) {
         view.displayMessage("Event edited successfully");
       } else {
-        view.displayError("Failed to edit: would create duplicate event");
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Failed to edit: would create duplicate or overlapping event"
+            : "Failed to edit: would create duplicate event");
       }
       return success;
     } catch (IllegalArgumentException e) {
@@ -5,6 +5,7 @@ import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EditSpec;
 import calendar.model.EventInterface;
+import calendar.model.OverlapPolicy;
 import calendar.util.DateTimeParser;
 import calendar.util.EditSpecFactory;
 import calendar.view.ViewInterface;
@@ -51,14 +52,9 @@ public class EditEventsCommand implements CommandInterface {
 
       
       LocalDateTime start = DateTimeParser.parseDateTime(startString);
-      LocalDate date = start.toLocalDate();
 
       
-      EventInterface event = model.getEventsOnDate(date).stream()
-          .filter(e -> e.getSubject().equals(subject)
-              && e.getStartDateTime().equals(start))
-          .findFirst()
-          .orElse(null);
+      EventInterface event = model.findEventBySubjectAndStart(subject, start);
 
       if (event == null) {
         view.displayError("Event not found: " + subject + " at " + startString);
@@ -84,7 +80,9 @@ public class EditEventsCommand implements CommandInterface {
       if (success) {
         view.displayMessage("Events edited successfully");
       } else {
-        view.displayError("Failed to edit: would create duplicate event");
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Failed to edit: would create duplicate or overlapping event"
+            : "Failed to edit: would create duplicate event");
       }
       return success;
     } catch (IllegalArgumentException e) {
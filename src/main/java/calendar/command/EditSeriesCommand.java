@@ -5,11 +5,11 @@ import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
 import calendar.model.EditSpec;
 import calendar.model.EventInterface;
+import calendar.model.OverlapPolicy;
 import calendar.util.DateTimeParser;
 import calendar.util.EditSpecFactory;
 import calendar.view.ViewInterface;
 import java.io.IOException;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -51,14 +51,9 @@ public class EditSeriesCommand implements CommandInterface {
 
       
       LocalDateTime start = DateTimeParser.parseDateTime(startString);
-      LocalDate date = start.toLocalDate();
 
       
-      EventInterface event = model.getEventsOnDate(date).stream()
-          .filter(e -> e.getSubject().equals(subject)
-              && e.getStartDateTime().equals(start))
-          .findFirst()
-          .orElse(null);
+      EventInterface event = model.findEventBySubjectAndStart(subject, start);
 
       if (event == null) {
         view.displayError("Event not found: " + subject + " at " + startString);
@@ -83,7 +78,9 @@ public class EditSeriesCommand implements CommandInterface {
       if (success) {
         view.displayMessage("Series edited successfully");
       } else {
-        view.displayError("Failed to edit: would create duplicate event");
+        view.displayError(model.getOverlapPolicy() == OverlapPolicy.NO_OVERLAP
+            ? "Failed to edit: would create duplicate or overlapping event"
+            : "Failed to edit: would create duplicate event");
       }
       return success;
     } catch (IllegalArgumentException e) {
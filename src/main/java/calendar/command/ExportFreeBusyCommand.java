@@ -0,0 +1,76 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.util.DateTimeParser;
+import calendar.utils.FreeBusyExporter;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+
+/**
+ * Command to export the busy time of the current calendar as an iCal
+ * VFREEBUSY file.
+ * Format: export freebusy fileName.ics --from dateTime --to dateTime
+ *
+ * <p>Unlike {@link ExportCommand}, no event details are written, only the
+ * merged busy periods inside the window.
+ */
+public class ExportFreeBusyCommand implements CommandInterface {
+  private final String fileName;
+  private final String startString;
+  private final String endString;
+
+  /**
+   * Creates an ExportFreeBusyCommand.
+   *
+   * @param fileName    the name of the file to create (.ics or .ical)
+   * @param startString the window start datetime string
+   * @param endString   the window end datetime string
+   */
+  public ExportFreeBusyCommand(String fileName, String startString, String endString) {
+    this.fileName = fileName;
+    this.startString = startString;
+    this.endString = endString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    String lowerFileName = fileName.toLowerCase();
+    if (!lowerFileName.endsWith(".ics") && !lowerFileName.endsWith(".ical")) {
+      view.displayError("Unsupported file format. Use .ics or .ical extension.");
+      return false;
+    }
+
+    try {
+      LocalDateTime start = DateTimeParser.parseDateTime(startString);
+      LocalDateTime end = DateTimeParser.parseDateTime(endString);
+      if (!end.isAfter(start)) {
+        view.displayError("Failed to export free/busy time: End time must be after start time");
+        return false;
+      }
+      Path filePath = Paths.get(fileName).toAbsolutePath().normalize();
+      int periods;
+      try (Writer out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+        periods = FreeBusyExporter.writeFreeBusy(out, currentCal.getModel(),
+            currentCal.getName(), currentCal.getTimezone(), start, end);
+      }
+      view.displayMessage("Exported " + periods + " busy period(s) to: " + filePath);
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to export free/busy time: " + e.getMessage());
+      return false;
+    }
+  }
+}
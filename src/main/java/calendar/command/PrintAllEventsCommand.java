@@ -3,10 +3,8 @@ package calendar.command;
 import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
-import calendar.model.EventInterface;
 import calendar.view.ViewInterface;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Command to print all events in the calendar.
@@ -30,8 +28,7 @@ public class PrintAllEventsCommand implements CommandInterface {
       }
       CalendarModelInterface model = currentCal.getModel();
 
-      List<EventInterface> events = model.getAllEvents();
-      view.displayEvents(events);
+      view.displayEvents(model.iterateAllEvents());
       return true;
     } catch (Exception e) {
       view.displayError("Failed to print events: " + e.getMessage());
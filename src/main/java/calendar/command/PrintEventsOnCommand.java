@@ -3,12 +3,10 @@ package calendar.command;
 import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
-import calendar.model.EventInterface;
 import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Command to print events on a specific date.
@@ -37,8 +35,7 @@ public class PrintEventsOnCommand implements CommandInterface {
       CalendarModelInterface model = currentCal.getModel();
 
       LocalDate date = DateTimeParser.parseDate(dateString);
-      List<EventInterface> events = model.getEventsOnDate(date);
-      view.displayEvents(events);
+      view.displayEvents(model.iterateEventsOnDate(date));
       return true;
     } catch (Exception e) {
       view.displayError("Failed to print events: " + e.getMessage());
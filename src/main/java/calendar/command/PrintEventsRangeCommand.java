@@ -3,12 +3,10 @@ package calendar.command;
 import calendar.model.Calendar;
 import calendar.model.CalendarManager;
 import calendar.model.CalendarModelInterface;
-import calendar.model.EventInterface;
 import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Command to print events in a date/time range.
@@ -41,8 +39,7 @@ public class PrintEventsRangeCommand implements CommandInterface {
 
       LocalDateTime start = DateTimeParser.parseDateTime(startString);
       LocalDateTime end = DateTimeParser.parseDateTime(endString);
-      List<EventInterface> events = model.getEventsInRange(start, end);
-      view.displayEvents(events);
+      view.displayEvents(model.iterateEventsInRange(start, end));
       return true;
     } catch (Exception e) {
       view.displayError("Failed to print events: " + e.getMessage());
@@ -0,0 +1,91 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.DaySummary;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command to print a month as a grid of day summaries.
+ * Format: print month yyyy-MM
+ *
+ * <p>Each day is one row with its event count, busy minutes and first few
+ * subjects; a blank row separates the weeks.
+ */
+public class PrintMonthCommand implements CommandInterface {
+  private final String monthString;
+
+  /**
+   * Creates a PrintMonthCommand.
+   *
+   * @param monthString the month, as yyyy-MM
+   */
+  public PrintMonthCommand(String monthString) {
+    this.monthString = monthString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      YearMonth month;
+      try {
+        month = YearMonth.parse(monthString);
+      } catch (DateTimeParseException e) {
+        throw new IllegalArgumentException("Invalid month format: " + monthString
+            + ". Expected yyyy-MM");
+      }
+      view.displayMessage(month.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH)
+          + " " + month.getYear() + ":");
+      displaySummaries(currentCal.getModel().getDaySummaries(month.atDay(1),
+          month.atEndOfMonth()), view);
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to print month: " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Displays one row per day summary, with a blank row before each Monday
+   * that is not the first row.
+   *
+   * @param summaries the summaries, in date order
+   * @param view      the view to display on
+   * @throws IOException if the view fails
+   */
+  static void displaySummaries(List<DaySummary> summaries, ViewInterface view)
+      throws IOException {
+    for (int i = 0; i < summaries.size(); i++) {
+      DaySummary day = summaries.get(i);
+      if (i > 0 && day.getDate().getDayOfWeek() == DayOfWeek.MONDAY) {
+        view.displayMessage("");
+      }
+      StringBuilder row = new StringBuilder();
+      row.append(day.getDate().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+          .append(' ').append(day.getDate())
+          .append("  ").append(day.getEventCount()).append(" event(s)")
+          .append("  ").append(day.getBusyMinutes()).append(" min");
+      if (!day.getSubjects().isEmpty()) {
+        row.append("  ").append(String.join(", ", day.getSubjects()));
+        int more = day.getEventCount() - day.getSubjects().size();
+        if (more > 0) {
+          row.append(" +").append(more).append(" more");
+        }
+      }
+      view.displayMessage(row.toString());
+    }
+  }
+}
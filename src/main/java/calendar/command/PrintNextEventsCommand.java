@@ -0,0 +1,52 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Command to print the next N events starting at or after a date/time.
+ */
+public class PrintNextEventsCommand implements CommandInterface {
+  private final String countString;
+  private final String dateTimeString;
+
+  /**
+   * Creates a PrintNextEventsCommand.
+   *
+   * @param countString    the number of events to print
+   * @param dateTimeString the datetime string to start from
+   */
+  public PrintNextEventsCommand(String countString, String dateTimeString) {
+    this.countString = countString;
+    this.dateTimeString = dateTimeString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      int count = Integer.parseInt(countString);
+      if (count <= 0) {
+        throw new IllegalArgumentException("Count must be positive");
+      }
+      LocalDateTime dateTime = DateTimeParser.parseDateTime(dateTimeString);
+      List<EventInterface> events = currentCal.getModel().getNextEvents(dateTime, count);
+      view.displayEvents(events);
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to print events: " + e.getMessage());
+      return false;
+    }
+  }
+}
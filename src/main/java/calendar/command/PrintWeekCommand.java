@@ -0,0 +1,49 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Command to print the Monday-to-Sunday week containing a date as a grid of
+ * day summaries.
+ * Format: print week yyyy-MM-dd
+ */
+public class PrintWeekCommand implements CommandInterface {
+  private final String dateString;
+
+  /**
+   * Creates a PrintWeekCommand.
+   *
+   * @param dateString any date in the week
+   */
+  public PrintWeekCommand(String dateString) {
+    this.dateString = dateString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      LocalDate monday = DateTimeParser.parseDate(dateString)
+          .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      view.displayMessage("Week of " + monday + ":");
+      PrintMonthCommand.displaySummaries(
+          currentCal.getModel().getDaySummaries(monday, monday.plusDays(6)), view);
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to print week: " + e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.EventInterface;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command to search events by text.
+ * Format: search "&lt;terms&gt;" [--from &lt;dateStringTtimeString&gt;
+ *         --to &lt;dateStringTtimeString&gt;] [--calendars &lt;name&gt;,&lt;name&gt;...]
+ *
+ * <p>Terms are matched case-insensitively against the words of each event's
+ * subject, description and location. A term ending in '*' matches any word
+ * starting with it. Without --calendars only the current calendar is searched;
+ * with it, results are listed per calendar in the given order.
+ */
+public class SearchCommand implements CrossCalendarCommand {
+  private final String query;
+  private final String fromString;
+  private final String toString;
+  private final String calendarNames;
+
+  /**
+   * Creates a SearchCommand.
+   *
+   * @param query         the search terms
+   * @param fromString    the window start datetime string, or null
+   * @param toString      the window end datetime string, or null
+   * @param calendarNames comma-separated calendar names, or null for the current calendar
+   */
+  public SearchCommand(String query, String fromString, String toString, String calendarNames) {
+    this.query = query;
+    this.fromString = fromString;
+    this.toString = toString;
+    this.calendarNames = calendarNames;
+  }
+
+  @Override
+  public List<String> getOtherCalendarNames() {
+    if (calendarNames == null) {
+      return Collections.emptyList();
+    }
+    List<String> names = new ArrayList<>();
+    for (String name : calendarNames.split(",")) {
+      names.add(name.trim());
+    }
+    return names;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    try {
+      List<Calendar> calendars = new ArrayList<>();
+      if (calendarNames == null) {
+        Calendar currentCal = manager.getCurrentCalendar();
+        if (currentCal == null) {
+          view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+          return false;
+        }
+        calendars.add(currentCal);
+      } else {
+        for (String name : calendarNames.split(",")) {
+          Calendar calendar = manager.getCalendar(name.trim());
+          if (calendar == null) {
+            view.displayError("Calendar '" + name.trim() + "' not found.");
+            return false;
+          }
+          calendars.add(calendar);
+        }
+      }
+
+      LocalDateTime from = fromString == null ? null : DateTimeParser.parseDateTime(fromString);
+      LocalDateTime to = toString == null ? null : DateTimeParser.parseDateTime(toString);
+
+      for (Calendar calendar : calendars) {
+        List<EventInterface> events = calendar.getModel().searchEvents(query, from, to);
+        if (calendarNames != null) {
+          view.displayMessage("Calendar '" + calendar.getName() + "':");
+        }
+        view.displayEvents(events);
+      }
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to search events: " + e.getMessage());
+      return false;
+    }
+  }
+}
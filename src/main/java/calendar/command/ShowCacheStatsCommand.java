@@ -0,0 +1,34 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+
+/**
+ * Command to show how well the current calendar's query cache is working.
+ * Format: show cache stats
+ *
+ * <p>Prints the hits, misses, hit rate, evictions and invalidations of the
+ * caches that serve repeated busy checks and date or range lookups, and how
+ * many results they currently hold.
+ */
+public class ShowCacheStatsCommand implements CommandInterface {
+
+  /**
+   * Creates a ShowCacheStatsCommand.
+   */
+  public ShowCacheStatsCommand() {
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+    view.displayMessage("Query cache: " + currentCal.getModel().getQueryCacheStats());
+    return true;
+  }
+}
@@ -7,9 +7,12 @@ import calendar.util.DateTimeParser;
 import calendar.view.ViewInterface;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Command to show busy status at a specific date/time.
+ * Command to show busy status at a specific date/time, or at several
+ * comma-separated date/times at once.
  */
 public class ShowStatusCommand implements CommandInterface {
   private final String dateTimeString;
@@ -17,7 +20,7 @@ public class ShowStatusCommand implements CommandInterface {
   /**
    * Creates a ShowStatusCommand.
    *
-   * @param dateTimeString the datetime string
+   * @param dateTimeString the datetime string, or a comma-separated list of them
    */
   public ShowStatusCommand(String dateTimeString) {
     this.dateTimeString = dateTimeString;
@@ -34,6 +37,11 @@ public class ShowStatusCommand implements CommandInterface {
       }
       CalendarModelInterface model = currentCal.getModel();
 
+      if (dateTimeString.indexOf(',') >= 0) {
+        displayStatuses(model, List.of(dateTimeString.split(",")), view);
+        return true;
+      }
+
       LocalDateTime dateTime = DateTimeParser.parseDateTime(dateTimeString);
       boolean isBusy = model.isBusy(dateTime);
       String status = isBusy ? "busy" : "available";
@@ -44,5 +52,27 @@ public class ShowStatusCommand implements CommandInterface {
       return false;
     }
   }
-}
 
+  /**
+   * Parses several date/times, checks them with one batched model query and
+   * displays one "datetime: status" line per entry, in input order.
+   *
+   * @param model           the model to query
+   * @param dateTimeStrings the datetime strings; blank entries are skipped
+   * @param view            the view to display the statuses on
+   * @throws IOException if the view fails
+   */
+  static void displayStatuses(CalendarModelInterface model, List<String> dateTimeStrings,
+                              ViewInterface view) throws IOException {
+    List<LocalDateTime> dateTimes = new ArrayList<>(dateTimeStrings.size());
+    for (String raw : dateTimeStrings) {
+      if (!raw.isBlank()) {
+        dateTimes.add(DateTimeParser.parseDateTime(raw.trim()));
+      }
+    }
+    boolean[] busy = model.isBusyAt(dateTimes);
+    for (int i = 0; i < busy.length; i++) {
+      view.displayMessage(dateTimes.get(i) + ": " + (busy[i] ? "busy" : "available"));
+    }
+  }
+}
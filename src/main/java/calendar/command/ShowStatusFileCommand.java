@@ -0,0 +1,43 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Command to show busy status at every date/time listed in a file, one per
+ * line.
+ */
+public class ShowStatusFileCommand implements CommandInterface {
+  private final String fileName;
+
+  /**
+   * Creates a ShowStatusFileCommand.
+   *
+   * @param fileName the file holding one datetime string per line
+   */
+  public ShowStatusFileCommand(String fileName) {
+    this.fileName = fileName;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      ShowStatusCommand.displayStatuses(currentCal.getModel(),
+          Files.readAllLines(Paths.get(fileName)), view);
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to show status: " + e.getMessage());
+      return false;
+    }
+  }
+}
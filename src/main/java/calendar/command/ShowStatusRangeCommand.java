@@ -0,0 +1,54 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.TimeBlock;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Command to show busy and available blocks across a date/time range.
+ */
+public class ShowStatusRangeCommand implements CommandInterface {
+  private final String startString;
+  private final String endString;
+
+  /**
+   * Creates a ShowStatusRangeCommand.
+   *
+   * @param startString the range start datetime string
+   * @param endString   the range end datetime string
+   */
+  public ShowStatusRangeCommand(String startString, String endString) {
+    this.startString = startString;
+    this.endString = endString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      LocalDateTime start = DateTimeParser.parseDateTime(startString);
+      LocalDateTime end = DateTimeParser.parseDateTime(endString);
+      if (!end.isAfter(start)) {
+        throw new IllegalArgumentException("End time must be after start time");
+      }
+      List<TimeBlock> blocks = currentCal.getModel().getAvailability(start, end);
+      for (TimeBlock block : blocks) {
+        view.displayMessage(block.toString());
+      }
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to show status: " + e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.EventAttribute;
+import calendar.model.GroupStats;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Command to summarize the current calendar grouped by an event attribute.
+ * Format: stats by &lt;subject|location|status&gt;
+ *         [--from &lt;dateStringTtimeString&gt; --to &lt;dateStringTtimeString&gt;]
+ *
+ * <p>Prints one line per distinct attribute value with the number of events
+ * and the minutes they book. With a window, only events overlapping it are
+ * counted and their minutes are clipped to it.
+ */
+public class StatsCommand implements CommandInterface {
+  private final String attributeName;
+  private final String fromString;
+  private final String toString;
+
+  /**
+   * Creates a StatsCommand.
+   *
+   * @param attributeName the attribute to group by
+   * @param fromString    the window start datetime string, or null
+   * @param toString      the window end datetime string, or null
+   */
+  public StatsCommand(String attributeName, String fromString, String toString) {
+    this.attributeName = attributeName;
+    this.fromString = fromString;
+    this.toString = toString;
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      EventAttribute attribute = EventAttribute.fromString(attributeName);
+      LocalDateTime from = fromString == null ? null : DateTimeParser.parseDateTime(fromString);
+      LocalDateTime to = toString == null ? null : DateTimeParser.parseDateTime(toString);
+      if (from != null && to != null && !from.isBefore(to)) {
+        throw new IllegalArgumentException("Start must be before end");
+      }
+
+      List<GroupStats> stats = currentCal.getModel().getStatistics(attribute, from, to);
+      if (stats.isEmpty()) {
+        view.displayMessage("No events found.");
+        return true;
+      }
+      for (GroupStats group : stats) {
+        String key = group.getKey().isEmpty() ? "(none)" : group.getKey();
+        view.displayMessage(key + ": " + group.getEventCount() + " event(s), "
+            + group.getBookedMinutes() + " minute(s)");
+      }
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to compute statistics: " + e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package calendar.command;
+
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModelInterface;
+import calendar.util.DateTimeParser;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Command to report how much of the current calendar is booked, bucket by bucket.
+ * Format: utilization --from &lt;dateString&gt; --to &lt;dateString&gt;
+ *         [--granularity day|week|month]
+ *
+ * <p>The range is inclusive of both dates. Weeks run Monday to Sunday and
+ * months are calendar months; the first and last buckets are cut to the
+ * range. Each bucket reports the minutes booked by all events, the minutes
+ * covered by at least one event, and that coverage as a share of the
+ * bucket's length. The granularity defaults to week.
+ */
+public class UtilizationCommand implements CommandInterface {
+  private static final double MINUTES_PER_DAY = 24 * 60;
+
+  private final String fromString;
+  private final String toString;
+  private final String granularity;
+
+  /**
+   * Creates a UtilizationCommand.
+   *
+   * @param fromString  the first date of the report
+   * @param toString    the last date of the report
+   * @param granularity day, week or month; null for week
+   */
+  public UtilizationCommand(String fromString, String toString, String granularity) {
+    this.fromString = fromString;
+    this.toString = toString;
+    this.granularity = granularity == null ? "week" : granularity.toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public boolean execute(CalendarManager manager, ViewInterface view) throws IOException {
+    Calendar currentCal = manager.getCurrentCalendar();
+    if (currentCal == null) {
+      view.displayError("No calendar selected. Use 'use calendar --name <name>' first.");
+      return false;
+    }
+
+    try {
+      LocalDate from = DateTimeParser.parseDate(fromString);
+      LocalDate to = DateTimeParser.parseDate(toString);
+      if (to.isBefore(from)) {
+        throw new IllegalArgumentException("End date must not be before start date");
+      }
+      if (!granularity.equals("day") && !granularity.equals("week")
+          && !granularity.equals("month")) {
+        throw new IllegalArgumentException("Invalid granularity " + granularity
+            + ". Valid granularities are day, week and month.");
+      }
+
+      CalendarModelInterface model = currentCal.getModel();
+      LocalDate bucketStart = from;
+      while (!bucketStart.isAfter(to)) {
+        LocalDate bucketEnd = bucketEnd(bucketStart);
+        if (bucketEnd.isAfter(to)) {
+          bucketEnd = to;
+        }
+        long booked = model.getBookedMinutes(bucketStart, bucketEnd, false);
+        long busy = model.getBookedMinutes(bucketStart, bucketEnd, true);
+        long days = ChronoUnit.DAYS.between(bucketStart, bucketEnd) + 1;
+        view.displayMessage(String.format(Locale.ROOT,
+            "%s to %s: %d minute(s) booked, %d minute(s) busy, %.1f%% utilized",
+            bucketStart, bucketEnd, booked, busy, 100 * busy / (days * MINUTES_PER_DAY)));
+        bucketStart = bucketEnd.plusDays(1);
+      }
+      return true;
+    } catch (Exception e) {
+      view.displayError("Failed to compute utilization: " + e.getMessage());
+      return false;
+    }
+  }
+
+  private LocalDate bucketEnd(LocalDate start) {
+    switch (granularity) {
+      case "day":
+        return start;
+      case "month":
+        return start.with(TemporalAdjusters.lastDayOfMonth());
+      default:
+        return start.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.CompleteSubjectCommand;
+import calendar.util.StringUtils;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches subject completion commands.
+ * Format: complete subject &lt;prefix&gt;
+ *
+ * <p>Examples:
+ * - complete subject Stand
+ * - complete subject "Team M"
+ */
+public class CompleteSubjectCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN =
+      Pattern.compile("^\\s*complete\\s+subject\\s+(.+?)\\s*$", Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new CompleteSubjectCommand(StringUtils.stripQuotes(matcher.group(1)));
+    }
+    return null;
+  }
+}
@@ -2,27 +2,26 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.CreateAllDayEventCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "create event...on date" commands.
  */
 public class CreateAllDayEventCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN =
-      Pattern.compile("^\\s*create\\s+event\\s+(.+?)\\s+on\\s+(\\S+)\\s*$",
-          Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String subject = StringUtils.stripQuotes(matcher.group(1));
-      String dateString = matcher.group(2);
-      return new CreateAllDayEventCommand(subject, dateString);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 5 || !line.wordIs(0, "create") || !line.wordIs(1, "event")
+        || !line.lastWordIs(2, "on")) {
+      return null;
     }
-    return null;
+    return new CreateAllDayEventCommand(line.unquoted(2, n - 2), line.word(n - 1));
   }
 }
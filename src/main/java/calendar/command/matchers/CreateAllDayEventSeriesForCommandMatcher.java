@@ -2,30 +2,32 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.CreateAllDayEventSeriesCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "create event...on...repeats...for N times" commands.
  */
 public class CreateAllDayEventSeriesForCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN = Pattern.compile(
-      "^\\s*create\\s+event\\s+(.+?)\\s+on\\s+(\\S+)\\s+repeats\\s+(\\S+)\\s+for\\s+(\\d+)\\s+"
-      + "times\\s*$", Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String subject = StringUtils.stripQuotes(matcher.group(1));
-      String dateString = matcher.group(2);
-      String weekdays = matcher.group(3);
-      int occurrences = Integer.parseInt(matcher.group(4));
-      return new CreateAllDayEventSeriesCommand(subject, dateString, weekdays, occurrences, null,
-          false);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 9 || !line.wordIs(0, "create") || !line.wordIs(1, "event")
+        || !line.lastWordIs(7, "on") || !line.lastWordIs(5, "repeats")
+        || !line.lastWordIs(3, "for") || !line.lastWordIs(1, "times")) {
+      return null;
+    }
+    int occurrences = line.intWord(n - 2);
+    if (occurrences < 0) {
+      return null;
     }
-    return null;
+    return new CreateAllDayEventSeriesCommand(line.unquoted(2, n - 7), line.word(n - 6),
+        line.word(n - 4), occurrences, null, false);
   }
 }
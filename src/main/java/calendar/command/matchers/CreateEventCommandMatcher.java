@@ -2,28 +2,29 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.CreateEventCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "create event...from...to" commands.
+ *
+ * <p>The fields after the subject have a fixed shape, so they are read from
+ * the end of the line and the subject is every word in between.
  */
 public class CreateEventCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN =
-      Pattern.compile("^\\s*create\\s+event\\s+(.+?)\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s*$",
-          Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String subject = StringUtils.stripQuotes(matcher.group(1));
-      String from = matcher.group(2);
-      String to = matcher.group(3);
-      return new CreateEventCommand(subject, from, to);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 7 || !line.wordIs(0, "create") || !line.wordIs(1, "event")
+        || !line.lastWordIs(4, "from") || !line.lastWordIs(2, "to")) {
+      return null;
     }
-    return null;
+    return new CreateEventCommand(line.unquoted(2, n - 4), line.word(n - 3), line.word(n - 1));
   }
 }
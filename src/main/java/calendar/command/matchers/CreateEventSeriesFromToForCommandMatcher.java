@@ -2,31 +2,33 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.CreateEventSeriesFromToCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "create event...from...to...repeats...for N times" commands.
  */
 public class CreateEventSeriesFromToForCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN = Pattern.compile(
-      "^\\s*create\\s+event\\s+(.+?)\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s+repeats\\s+(\\S+)\\s+"
-      + "for\\s+(\\d+)\\s+times\\s*$", Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String subject = StringUtils.stripQuotes(matcher.group(1));
-      String from = matcher.group(2);
-      String to = matcher.group(3);
-      String weekdays = matcher.group(4);
-      int occurrences = Integer.parseInt(matcher.group(5));
-      return new CreateEventSeriesFromToCommand(subject, from, to, weekdays, occurrences, null,
-          false);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 11 || !line.wordIs(0, "create") || !line.wordIs(1, "event")
+        || !line.lastWordIs(9, "from") || !line.lastWordIs(7, "to")
+        || !line.lastWordIs(5, "repeats") || !line.lastWordIs(3, "for")
+        || !line.lastWordIs(1, "times")) {
+      return null;
+    }
+    int occurrences = line.intWord(n - 2);
+    if (occurrences < 0) {
+      return null;
     }
-    return null;
+    return new CreateEventSeriesFromToCommand(line.unquoted(2, n - 9), line.word(n - 8),
+        line.word(n - 6), line.word(n - 4), occurrences, null, false);
   }
 }
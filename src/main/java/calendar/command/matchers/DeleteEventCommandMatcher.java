@@ -0,0 +1,27 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.DeleteEventCommand;
+import calendar.util.StringUtils;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "delete event" commands.
+ */
+public class DeleteEventCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*delete\\s+event\\s+(.+?)\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      String subject = StringUtils.stripQuotes(matcher.group(1));
+      return new DeleteEventCommand(subject, matcher.group(2), matcher.group(3));
+    }
+    return null;
+  }
+}
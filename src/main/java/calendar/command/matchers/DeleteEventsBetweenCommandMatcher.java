@@ -0,0 +1,29 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.DeleteEventsBetweenCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches commands to delete events in a date range.
+ * Format: delete events between &lt;dateString&gt; and &lt;dateString&gt;
+ *
+ * <p>Example:
+ * - delete events between 2025-06-01 and 2025-06-30
+ */
+public class DeleteEventsBetweenCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*delete\\s+events\\s+between\\s+(\\S+)\\s+and\\s+(\\S+)\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new DeleteEventsBetweenCommand(matcher.group(1), matcher.group(2));
+    }
+    return null;
+  }
+}
@@ -0,0 +1,36 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.EditAllCommand;
+import calendar.util.StringUtils;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "edit all" commands.
+ * Format: edit all --where &lt;conditions&gt; [--from &lt;dateStringTtimeString&gt;
+ *         --to &lt;dateStringTtimeString&gt;] --set &lt;property&gt; &lt;value&gt;
+ *
+ * <p>Examples:
+ * - edit all --where subject="Standup" --set location "Room 4"
+ * - edit all --where subject="Standup" location="Room 1" --from 2025-07-01T00:00
+ *   --to 2025-10-01T00:00 --set location "Room 4"
+ */
+public class EditAllCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*edit\\s+all\\s+--where\\s+(.+?)(?:\\s+--from\\s+(\\S+)\\s+--to\\s+(\\S+))?"
+          + "\\s+--set\\s+(\\S+)\\s+(.+?)\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      String value = StringUtils.stripQuotes(matcher.group(5));
+      return new EditAllCommand(matcher.group(1), matcher.group(2), matcher.group(3),
+          matcher.group(4), value);
+    }
+    return null;
+  }
+}
@@ -2,29 +2,34 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.EditEventCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "edit event" commands.
+ *
+ * <p>The subject may contain spaces, so it ends at the first {@code from}
+ * that is followed by the rest of the command's keywords.
  */
 public class EditEventCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN = Pattern.compile(
-      "^\\s*edit\\s+event\\s+(\\S+)\\s+(.+?)\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s+with\\s+"
-      + "(.+?)\\s*$", Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String property = matcher.group(1);
-      String subject = StringUtils.stripQuotes(matcher.group(2));
-      String from = matcher.group(3);
-      String to = matcher.group(4);
-      String value = StringUtils.stripQuotes(matcher.group(5));
-      return new EditEventCommand(property, subject, from, to, value);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 10 || !line.wordIs(0, "edit") || !line.wordIs(1, "event")) {
+      return null;
+    }
+    for (int from = 4; from + 5 < n; from++) {
+      if (line.wordIs(from, "from") && line.wordIs(from + 2, "to")
+          && line.wordIs(from + 4, "with")) {
+        return new EditEventCommand(line.word(2), line.unquoted(3, from), line.word(from + 1),
+            line.word(from + 3), line.unquoted(from + 5, n));
+      }
     }
     return null;
   }
@@ -2,28 +2,33 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.EditSeriesCommand;
-import calendar.util.StringUtils;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "edit series" commands.
+ *
+ * <p>The subject may contain spaces, so it ends at the first {@code from}
+ * that is followed by the rest of the command's keywords.
  */
 public class EditSeriesCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN = Pattern.compile(
-      "^\\s*edit\\s+series\\s+(\\S+)\\s+(.+?)\\s+from\\s+(\\S+)\\s+with\\s+(.+?)\\s*$",
-      Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      String property = matcher.group(1);
-      String subject = StringUtils.stripQuotes(matcher.group(2));
-      String from = matcher.group(3);
-      String value = StringUtils.stripQuotes(matcher.group(4));
-      return new EditSeriesCommand(property, subject, from, value);
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    int n = line.wordCount();
+    if (n < 8 || !line.wordIs(0, "edit") || !line.wordIs(1, "series")) {
+      return null;
+    }
+    for (int from = 4; from + 3 < n; from++) {
+      if (line.wordIs(from, "from") && line.wordIs(from + 2, "with")) {
+        return new EditSeriesCommand(line.word(2), line.unquoted(3, from), line.word(from + 1),
+            line.unquoted(from + 3, n));
+      }
     }
     return null;
   }
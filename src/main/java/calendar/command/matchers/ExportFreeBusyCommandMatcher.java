@@ -0,0 +1,26 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.ExportFreeBusyCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "export freebusy" commands.
+ */
+public class ExportFreeBusyCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*export\\s+freebusy\\s+(.+?)\\s+--from\\s+(\\S+)\\s+--to\\s+(\\S+)\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new ExportFreeBusyCommand(matcher.group(1).trim(), matcher.group(2),
+          matcher.group(3));
+    }
+    return null;
+  }
+}
@@ -2,24 +2,25 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.PrintEventsRangeCommand;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "print events from...to" commands.
  */
 public class PrintEventsRangeCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN =
-      Pattern.compile("^\\s*print\\s+events\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s*$",
-          Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      return new PrintEventsRangeCommand(matcher.group(1), matcher.group(2));
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    if (line.wordCount() != 6 || !line.wordIs(0, "print") || !line.wordIs(1, "events")
+        || !line.wordIs(2, "from") || !line.wordIs(4, "to")) {
+      return null;
     }
-    return null;
+    return new PrintEventsRangeCommand(line.word(3), line.word(5));
   }
 }
@@ -0,0 +1,24 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.PrintMonthCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "print month" commands.
+ */
+public class PrintMonthCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN =
+      Pattern.compile("^\\s*print\\s+month\\s+(\\S+)\\s*$", Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new PrintMonthCommand(matcher.group(1));
+    }
+    return null;
+  }
+}
@@ -0,0 +1,25 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.PrintNextEventsCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "print next N events after" commands.
+ */
+public class PrintNextEventsCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN =
+      Pattern.compile("^\\s*print\\s+next\\s+(\\d+)\\s+events?\\s+after\\s+(\\S+)\\s*$",
+          Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new PrintNextEventsCommand(matcher.group(1), matcher.group(2));
+    }
+    return null;
+  }
+}
@@ -0,0 +1,38 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.SearchCommand;
+import calendar.util.StringUtils;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches full-text search commands.
+ * Format: search "&lt;terms&gt;" [--from &lt;dateStringTtimeString&gt;
+ *         --to &lt;dateStringTtimeString&gt;] [--calendars &lt;name&gt;,&lt;name&gt;...]
+ *
+ * <p>Examples:
+ * - search "standup"
+ * - search "room 4*" --from 2025-07-01T00:00 --to 2025-10-01T00:00
+ * - search review --calendars Work,Personal
+ */
+public class SearchCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*search\\s+(\"[^\"]*\"|\\S+)"
+          + "(?:\\s+--from\\s+(\\S+)\\s+--to\\s+(\\S+))?"
+          + "(?:\\s+--calendars\\s+(\\S+))?\\s*$",
+      Pattern.CASE_INSENSITIVE
+  );
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (!matcher.matches()) {
+      return null;
+    }
+
+    String query = StringUtils.stripQuotes(matcher.group(1));
+    return new SearchCommand(query, matcher.group(2), matcher.group(3), matcher.group(4));
+  }
+}
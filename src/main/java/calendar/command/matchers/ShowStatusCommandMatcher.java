@@ -2,23 +2,25 @@ package calendar.command.matchers;
 
 import calendar.command.CommandInterface;
 import calendar.command.CommandMatcher;
+import calendar.command.CommandScanner;
 import calendar.command.ShowStatusCommand;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Matches "show status on" commands.
  */
 public class ShowStatusCommandMatcher implements CommandMatcher {
-  private static final Pattern PATTERN =
-      Pattern.compile("^\\s*show\\s+status\\s+on\\s+(\\S+)\\s*$", Pattern.CASE_INSENSITIVE);
 
   @Override
   public CommandInterface tryMatch(String input) {
-    Matcher matcher = PATTERN.matcher(input);
-    if (matcher.matches()) {
-      return new ShowStatusCommand(matcher.group(1));
+    return tryMatch(new CommandScanner(input));
+  }
+
+  @Override
+  public CommandInterface tryMatch(CommandScanner line) {
+    if (line.wordCount() != 4 || !line.wordIs(0, "show") || !line.wordIs(1, "status")
+        || !line.wordIs(2, "on")) {
+      return null;
     }
-    return null;
+    return new ShowStatusCommand(line.word(3));
   }
 }
@@ -0,0 +1,25 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.ShowStatusRangeCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches "show status from ... to ..." commands.
+ */
+public class ShowStatusRangeCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN =
+      Pattern.compile("^\\s*show\\s+status\\s+from\\s+(\\S+)\\s+to\\s+(\\S+)\\s*$",
+          Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new ShowStatusRangeCommand(matcher.group(1), matcher.group(2));
+    }
+    return null;
+  }
+}
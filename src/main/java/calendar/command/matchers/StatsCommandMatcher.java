@@ -0,0 +1,31 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.StatsCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches grouped statistics commands.
+ * Format: stats by &lt;attribute&gt; [--from &lt;dateStringTtimeString&gt;
+ *         --to &lt;dateStringTtimeString&gt;]
+ *
+ * <p>Examples:
+ * - stats by location
+ * - stats by subject --from 2025-01-01T00:00 --to 2025-02-01T00:00
+ */
+public class StatsCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*stats\\s+by\\s+(\\S+)(?:\\s+--from\\s+(\\S+)\\s+--to\\s+(\\S+))?\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new StatsCommand(matcher.group(1), matcher.group(2), matcher.group(3));
+    }
+    return null;
+  }
+}
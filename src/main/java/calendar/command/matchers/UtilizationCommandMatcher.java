@@ -0,0 +1,32 @@
+package calendar.command.matchers;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.UtilizationCommand;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches utilization report commands.
+ * Format: utilization --from &lt;dateString&gt; --to &lt;dateString&gt;
+ *         [--granularity &lt;day|week|month&gt;]
+ *
+ * <p>Examples:
+ * - utilization --from 2025-01-01 --to 2025-03-31
+ * - utilization --from 2025-01-01 --to 2025-12-31 --granularity month
+ */
+public class UtilizationCommandMatcher implements CommandMatcher {
+  private static final Pattern PATTERN = Pattern.compile(
+      "^\\s*utilization\\s+--from\\s+(\\S+)\\s+--to\\s+(\\S+)"
+          + "(?:\\s+--granularity\\s+(\\S+))?\\s*$",
+      Pattern.CASE_INSENSITIVE);
+
+  @Override
+  public CommandInterface tryMatch(String input) {
+    Matcher matcher = PATTERN.matcher(input);
+    if (matcher.matches()) {
+      return new UtilizationCommand(matcher.group(1), matcher.group(2), matcher.group(3));
+    }
+    return null;
+  }
+}
@@ -0,0 +1,272 @@
+package calendar.controller;
+
+import calendar.command.CommandParser;
+import calendar.model.CalendarManager;
+import calendar.model.EventInterface;
+import calendar.view.ConsoleView;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every commands file in a directory as its own headless session, several
+ * at a time, in one process.
+ *
+ * <p>Each {@code .txt} file in the directory is run by a {@link Controller}
+ * with a fresh {@link CalendarManager}, exactly as
+ * {@code --mode headless <file>} would run it. Its output goes to a file of
+ * the same name with {@code .out} appended. When all scripts are done, a CSV
+ * summary with each script's outcome, error count and running time is written
+ * to {@value #REPORT_NAME} in the same directory.
+ */
+public class BatchRunner {
+  /**
+   * Name of the summary report written to the scripts directory.
+   */
+  public static final String REPORT_NAME = "batch-summary.csv";
+
+  /**
+   * Suffix appended to a script's name to name its output file.
+   */
+  public static final String OUTPUT_SUFFIX = ".out";
+
+  private static final String SCRIPT_SUFFIX = ".txt";
+
+  private final Path directory;
+  private final CommandParser parser;
+  private final int workers;
+
+  /**
+   * Creates a BatchRunner.
+   *
+   * @param directory the directory holding the commands files
+   * @param parser    the command parser, shared by all scripts
+   * @param workers   the number of scripts run at a time, at least one
+   */
+  public BatchRunner(Path directory, CommandParser parser, int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required");
+    }
+    this.directory = directory;
+    this.parser = parser;
+    this.workers = workers;
+  }
+
+  /**
+   * Gets the path of the summary report.
+   *
+   * @return the report path
+   */
+  public Path getReportPath() {
+    return directory.resolve(REPORT_NAME);
+  }
+
+  /**
+   * Runs every script in the directory and writes the summary report.
+   *
+   * @return one result per script, in file name order
+   * @throws IOException if the directory cannot be listed or the report
+   *                     cannot be written
+   */
+  public List<Result> run() throws IOException {
+    List<Path> scripts = listScripts();
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(workers,
+        Math.max(1, scripts.size())));
+    List<Result> results = new ArrayList<>();
+    try {
+      List<Future<Result>> pending = new ArrayList<>();
+      for (Path script : scripts) {
+        pending.add(pool.submit(() -> runScript(script)));
+      }
+      for (Future<Result> future : pending) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Batch run interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Batch run failed", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    writeReport(results);
+    return results;
+  }
+
+  private List<Path> listScripts() throws IOException {
+    List<Path> scripts = new ArrayList<>();
+    try (DirectoryStream<Path> entries =
+             Files.newDirectoryStream(directory, "*" + SCRIPT_SUFFIX)) {
+      for (Path entry : entries) {
+        if (Files.isRegularFile(entry)) {
+          scripts.add(entry);
+        }
+      }
+    }
+    Collections.sort(scripts);
+    return scripts;
+  }
+
+  /**
+   * Runs one script into its output file. Failures are reported in the
+   * result rather than thrown, so one bad script does not stop the batch.
+   */
+  private Result runScript(Path script) {
+    String name = script.getFileName().toString();
+    Path output = script.resolveSibling(name + OUTPUT_SUFFIX);
+    long start = System.nanoTime();
+    CountingView view = null;
+    String outcome;
+    try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+      view = new CountingView(new ConsoleView(writer, ConsoleView.DEFAULT_CHUNK_SIZE));
+      new Controller(new CalendarManager(), view, parser, LineSource.open(script), false).run();
+      outcome = view.missingExit ? Result.MISSING_EXIT : Result.OK;
+    } catch (IOException | RuntimeException e) {
+      outcome = Result.FAILED + ": " + e.getMessage();
+    }
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    return new Result(name, outcome, view == null ? 0 : view.errors, millis);
+  }
+
+  private void writeReport(List<Result> results) throws IOException {
+    try (Writer out = Files.newBufferedWriter(getReportPath(), StandardCharsets.UTF_8)) {
+      out.write("script,outcome,errors,millis");
+      out.write(System.lineSeparator());
+      for (Result result : results) {
+        out.write(csv(result.getScript()) + "," + csv(result.getOutcome()) + ","
+            + result.getErrors() + "," + result.getMillis());
+        out.write(System.lineSeparator());
+      }
+    }
+  }
+
+  private static String csv(String field) {
+    if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+        && field.indexOf('\r') < 0) {
+      return field;
+    }
+    return "\"" + field.replace("\"", "\"\"") + "\"";
+  }
+
+  /**
+   * The outcome of one script in a batch.
+   */
+  public static final class Result {
+    /**
+     * Outcome of a script that ran to its {@code exit} command.
+     */
+    public static final String OK = "ok";
+
+    /**
+     * Outcome of a script that ended without an {@code exit} command.
+     */
+    public static final String MISSING_EXIT = "missing exit";
+
+    /**
+     * Prefix of the outcome of a script that could not be run or written.
+     */
+    public static final String FAILED = "failed";
+
+    private final String script;
+    private final String outcome;
+    private final int errors;
+    private final long millis;
+
+    private Result(String script, String outcome, int errors, long millis) {
+      this.script = script;
+      this.outcome = outcome;
+      this.errors = errors;
+      this.millis = millis;
+    }
+
+    /**
+     * Gets the script's file name.
+     *
+     * @return the file name
+     */
+    public String getScript() {
+      return script;
+    }
+
+    /**
+     * Gets how the script ended: {@link #OK}, {@link #MISSING_EXIT}, or
+     * {@link #FAILED} followed by the reason.
+     *
+     * @return the outcome
+     */
+    public String getOutcome() {
+      return outcome;
+    }
+
+    /**
+     * Gets the number of errors the script reported through the view.
+     *
+     * @return the error count
+     */
+    public int getErrors() {
+      return errors;
+    }
+
+    /**
+     * Gets the script's running time, including writing its output.
+     *
+     * @return the time in milliseconds
+     */
+    public long getMillis() {
+      return millis;
+    }
+  }
+
+  /**
+   * Forwards to a script's output view, counting errors and noting whether
+   * the script ended without {@code exit}.
+   */
+  private static final class CountingView implements ViewInterface {
+    private final ViewInterface target;
+    private int errors;
+    private boolean missingExit;
+
+    private CountingView(ViewInterface target) {
+      this.target = target;
+    }
+
+    @Override
+    public void displayMessage(String message) throws IOException {
+      target.displayMessage(message);
+    }
+
+    @Override
+    public void displayError(String error) throws IOException {
+      errors++;
+      missingExit = Controller.MISSING_EXIT.equals(error);
+      target.displayError(error);
+    }
+
+    @Override
+    public void displayEvents(List<EventInterface> events) throws IOException {
+      target.displayEvents(events);
+    }
+
+    @Override
+    public void displayEvents(Iterator<EventInterface> events) throws IOException {
+      target.displayEvents(events);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      target.flush();
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package calendar.controller;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A commands file parsed once into the commands it runs, cached on disk.
+ *
+ * <p>The plan holds one parsed command per non-blank line, in file order,
+ * including unrecognized lines so they still report as invalid when the plan
+ * runs. It is written next to the source as {@code <file>.plan}: a header
+ * with a format version, the fingerprint of the parser build and the SHA-256
+ * of the source bytes, followed by one {@link PlanCodec} record per command.
+ * A cached plan is only used while both hashes still match; an edited source,
+ * a rebuilt parser or command package, a newer format or commands that no
+ * longer read back all cause the file to be parsed again and the cache to be
+ * rewritten.
+ */
+public final class CommandPlan {
+  private static final int MAGIC = 0x43414C50;
+  private static final int VERSION = 2;
+  private static final String SUFFIX = ".plan";
+
+  private final List<CommandInterface> commands;
+  private final boolean fromCache;
+
+  private CommandPlan(List<CommandInterface> commands, boolean fromCache) {
+    this.commands = Collections.unmodifiableList(commands);
+    this.fromCache = fromCache;
+  }
+
+  /**
+   * Gets the plan for a commands file, reading the cached plan if it is
+   * current and otherwise parsing the file and caching the result.
+   *
+   * @param source the commands file
+   * @param parser the parser used when the file has to be compiled
+   * @return the plan
+   * @throws IOException if the commands file cannot be read
+   */
+  public static CommandPlan load(Path source, CommandParser parser) throws IOException {
+    byte[] build = PlanCodec.fingerprint();
+    if (build == null) {
+      return compile(source, parser);
+    }
+    byte[] hash = hash(source);
+    Path cache = cachePathFor(source);
+    if (Files.isRegularFile(cache)) {
+      List<CommandInterface> cached = read(cache, build, hash);
+      if (cached != null) {
+        return new CommandPlan(cached, true);
+      }
+    }
+    CommandPlan plan = compile(source, parser);
+    try {
+      write(cache, build, hash, plan.commands);
+    } catch (IOException e) {
+      // The plan is only a cache; a read-only directory just means parsing next time too.
+    }
+    return plan;
+  }
+
+  /**
+   * Parses a commands file without touching the cache.
+   *
+   * @param source the commands file
+   * @param parser the parser
+   * @return the plan
+   * @throws IOException if the commands file cannot be read
+   */
+  public static CommandPlan compile(Path source, CommandParser parser) throws IOException {
+    List<CommandInterface> commands = new ArrayList<>();
+    try (LineSource lines = new ReadableLineSource(
+        new InputStreamReader(Files.newInputStream(source), Charset.defaultCharset()))) {
+      String line;
+      while ((line = lines.nextLine()) != null) {
+        String trimmed = line.trim();
+        if (!trimmed.isEmpty()) {
+          commands.add(parser.parse(trimmed));
+        }
+      }
+    }
+    return new CommandPlan(commands, false);
+  }
+
+  /**
+   * Gets where the plan for a commands file is cached.
+   *
+   * @param source the commands file
+   * @return the sibling {@code .plan} file
+   */
+  public static Path cachePathFor(Path source) {
+    return source.resolveSibling(source.getFileName() + SUFFIX);
+  }
+
+  /**
+   * Gets the commands in file order.
+   *
+   * @return an unmodifiable list of commands
+   */
+  public List<CommandInterface> getCommands() {
+    return commands;
+  }
+
+  /**
+   * Checks whether the plan was read from the cache rather than parsed.
+   *
+   * @return true if no parsing was needed
+   */
+  public boolean isFromCache() {
+    return fromCache;
+  }
+
+  private static List<CommandInterface> read(Path cache, byte[] build, byte[] hash) {
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(cache)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return null;
+      }
+      byte[] stored = new byte[build.length + hash.length];
+      in.readFully(stored);
+      if (!Arrays.equals(stored, 0, build.length, build, 0, build.length)
+          || !Arrays.equals(stored, build.length, stored.length, hash, 0, hash.length)) {
+        return null;
+      }
+      int count = in.readInt();
+      if (count < 0) {
+        return null;
+      }
+      List<CommandInterface> commands = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        commands.add(PlanCodec.read(in));
+      }
+      return in.read() == -1 ? commands : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static void write(Path cache, byte[] build, byte[] hash,
+                            List<CommandInterface> commands) throws IOException {
+    Path temp = Files.createTempFile(cache.toAbsolutePath().getParent(),
+        cache.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.write(build);
+        out.write(hash);
+        out.writeInt(commands.size());
+        for (CommandInterface command : commands) {
+          PlanCodec.write(out, command);
+        }
+      }
+      Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static byte[] hash(Path source) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+    byte[] buffer = new byte[1 << 16];
+    try (InputStream in = Files.newInputStream(source)) {
+      int n;
+      while ((n = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, n);
+      }
+    }
+    return digest.digest();
+  }
+}
@@ -6,7 +6,6 @@ import calendar.exceptions.InvalidCommandException;
 import calendar.model.CalendarManager;
 import calendar.view.ViewInterface;
 import java.io.IOException;
-import java.util.Scanner;
 
 /**
  * Unified controller that reads commands from any Readable source.
@@ -22,16 +21,26 @@ import java.util.Scanner;
  * without modification. The abstraction allows for easier testing with StringReader
  * and flexibility in the source of commands.
  *
+ * <p>Lines are read through a {@link LineSource}. A Readable is wrapped in a
+ * {@link ReadableLineSource}; headless file runs can pass a
+ * {@link MappedFileLineSource} instead, which splits lines on raw bytes.
+ *
+ * <p>The view is flushed when the run ends, even if it ends with an exception,
+ * and in interactive mode after the prompt and every command, so a buffered
+ * view shows each result right away.
+ *
  * <p>DESIGN CHANGE (HW5):
  * Updated to work with CalendarManager instead of CalendarModelInterface.
  * The controller now manages multiple calendars through CalendarManager and
  * delegates to the appropriate calendar based on user context.
  */
 public class Controller implements ControllerInterface {
+  static final String MISSING_EXIT = "Error: Commands file must end with 'exit' command";
+
   private final CalendarManager manager;
   private final ViewInterface view;
   private final CommandParser parser;
-  private final Readable input;
+  private final LineSource lines;
   private final boolean interactive;
 
   /**
@@ -45,44 +54,79 @@ public class Controller implements ControllerInterface {
    */
   public Controller(CalendarManager manager, ViewInterface view,
                     CommandParser parser, Readable input, boolean interactive) {
+    this(manager, view, parser, new ReadableLineSource(input), interactive);
+  }
+
+  /**
+   * Creates a Controller that reads from a line source.
+   *
+   * @param manager     the calendar manager
+   * @param view        the view for output
+   * @param parser      the command parser
+   * @param lines       the source of command lines; closed when the run ends
+   * @param interactive true for interactive mode (shows prompt), false for headless
+   */
+  public Controller(CalendarManager manager, ViewInterface view,
+                    CommandParser parser, LineSource lines, boolean interactive) {
     this.manager = manager;
     this.view = view;
     this.parser = parser;
-    this.input = input;
+    this.lines = lines;
     this.interactive = interactive;
   }
 
   @Override
   public void run() throws IOException {
     boolean exitFound = false;
-    try (Scanner scanner = new Scanner(input)) {
+    try (LineSource source = lines) {
       if (interactive) {
         view.displayMessage("Enter commands (type 'exit' to quit):");
+        view.flush();
       }
 
-      while (scanner.hasNextLine()) {
-        String line = scanner.nextLine().trim();
+      String raw;
+      while ((raw = source.nextLine()) != null) {
+        String line = raw.trim();
         if (line.isEmpty()) {
           continue;
         }
 
-        CommandInterface cmd = parser.parse(line);
-        try {
-          boolean shouldContinue = cmd.execute(manager, view);
-          if (!shouldContinue) {
-            exitFound = true;
-            break;
-          }
-        } catch (InvalidCommandException e) {
-          view.displayError(e.getMessage());
-        } catch (Exception e) {
-          view.displayError("Command failed: " + e.getMessage());
+        if (!execute(parser.parse(line), manager, view)) {
+          exitFound = true;
+          break;
+        }
+        if (interactive) {
+          view.flush();
         }
       }
 
       if (!interactive && !exitFound) {
-        view.displayError("Error: Commands file must end with 'exit' command");
+        view.displayError(MISSING_EXIT);
       }
+    } finally {
+      view.flush();
+    }
+  }
+
+  /**
+   * Executes one command, reporting failures through the view the same way
+   * for every headless and interactive runner.
+   *
+   * @param cmd     the command
+   * @param manager the calendar manager
+   * @param view    the view for output
+   * @return false if the command ends the session
+   * @throws IOException if the view fails to report an error
+   */
+  static boolean execute(CommandInterface cmd, CalendarManager manager, ViewInterface view)
+      throws IOException {
+    try {
+      return cmd.execute(manager, view);
+    } catch (InvalidCommandException e) {
+      view.displayError(e.getMessage());
+    } catch (Exception e) {
+      view.displayError("Command failed: " + e.getMessage());
     }
+    return true;
   }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package calendar.controller;
+
+import java.io.Closeable;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * A source of command lines for a controller.
+ *
+ * <p>Lines are returned without their terminators. Implementations split on
+ * the same terminators as {@link java.util.Scanner#nextLine()}, so a script
+ * reads as the same lines whatever source it comes from.
+ */
+public interface LineSource extends Closeable {
+
+  /**
+   * Reads the next line.
+   *
+   * @return the line without its terminator, or null at end of input
+   * @throws IOException if the source cannot be read
+   */
+  String nextLine() throws IOException;
+
+  /**
+   * Opens a commands file. With a UTF-8 platform charset the file is
+   * memory-mapped and split on raw bytes; otherwise it goes through a
+   * FileReader so it is decoded exactly as a Reader-based run would.
+   *
+   * @param file the commands file
+   * @return a line source over the file
+   * @throws IOException if the file cannot be opened
+   */
+  static LineSource open(Path file) throws IOException {
+    if (Charset.defaultCharset().equals(StandardCharsets.UTF_8)) {
+      return new MappedFileLineSource(file);
+    }
+    return new ReadableLineSource(new FileReader(file.toFile()));
+  }
+}
@@ -0,0 +1,126 @@
+package calendar.controller;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a UTF-8 commands file through memory-mapped windows.
+ *
+ * <p>Line boundaries are found by scanning bytes, so nothing is decoded until
+ * a line is returned, and then only that line's bytes are. The file is mapped
+ * a window at a time, so files larger than 2 GB work; a line that crosses a
+ * window boundary just continues in the next window.
+ *
+ * <p>Terminators are those of {@link java.util.Scanner#nextLine()}, matched
+ * on their UTF-8 encodings: {@code \r\n}, {@code \n}, {@code \r},
+ * {@code \u2028}, {@code \u2029} and {@code \u0085}. Malformed UTF-8 decodes
+ * to replacement characters, as it does through a {@code FileReader}.
+ */
+public final class MappedFileLineSource implements LineSource {
+  private static final long WINDOW = 1L << 28;
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+
+  private final FileChannel channel;
+  private final long size;
+  private final long windowSize;
+  private MappedByteBuffer window;
+  private long windowStart;
+  private long pos;
+  private byte[] scratch;
+
+  /**
+   * Opens a commands file.
+   *
+   * @param path the file
+   * @throws IOException if the file cannot be opened
+   */
+  public MappedFileLineSource(Path path) throws IOException {
+    this(path, WINDOW);
+  }
+
+  /**
+   * Opens a commands file, mapping a given number of bytes at a time.
+   *
+   * @param path       the file
+   * @param windowSize the number of bytes mapped at a time, positive
+   * @throws IOException if the file cannot be opened
+   */
+  public MappedFileLineSource(Path path, long windowSize) throws IOException {
+    if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Window size must be between 1 and 2^31 - 1 bytes");
+    }
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.windowSize = windowSize;
+    this.scratch = new byte[256];
+  }
+
+  @Override
+  public String nextLine() throws IOException {
+    if (pos >= size) {
+      return null;
+    }
+    int length = 0;
+    while (pos < size) {
+      byte b = byteAt(pos);
+      int terminator = terminatorLength(b);
+      if (terminator > 0) {
+        pos += terminator;
+        return decode(length);
+      }
+      if (length == scratch.length) {
+        scratch = Arrays.copyOf(scratch, length * 2);
+      }
+      scratch[length++] = b;
+      pos++;
+    }
+    return decode(length);
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+
+  /**
+   * Checks whether a terminator starts at {@code pos}.
+   *
+   * @param b the byte at {@code pos}
+   * @return the terminator's length in bytes, or 0 if none starts here
+   */
+  private int terminatorLength(byte b) throws IOException {
+    if (b == LF) {
+      return 1;
+    }
+    if (b == CR) {
+      return pos + 1 < size && byteAt(pos + 1) == LF ? 2 : 1;
+    }
+    if (b == (byte) 0xC2) {
+      return pos + 1 < size && byteAt(pos + 1) == (byte) 0x85 ? 2 : 0;
+    }
+    if (b == (byte) 0xE2 && pos + 2 < size && byteAt(pos + 1) == (byte) 0x80) {
+      byte last = byteAt(pos + 2);
+      return last == (byte) 0xA8 || last == (byte) 0xA9 ? 3 : 0;
+    }
+    return 0;
+  }
+
+  private byte byteAt(long at) throws IOException {
+    if (window == null || at < windowStart || at >= windowStart + window.limit()) {
+      windowStart = at;
+      window = channel.map(FileChannel.MapMode.READ_ONLY, at, Math.min(windowSize, size - at));
+    }
+    return window.get((int) (at - windowStart));
+  }
+
+  private String decode(int length) {
+    return new String(scratch, 0, length, StandardCharsets.UTF_8);
+  }
+}
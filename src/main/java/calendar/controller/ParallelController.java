@@ -0,0 +1,307 @@
+package calendar.controller;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.CreateCalendarCommand;
+import calendar.command.CrossCalendarCommand;
+import calendar.command.EditCalendarCommand;
+import calendar.command.ExitCommand;
+import calendar.command.ExportCommand;
+import calendar.command.ExportFreeBusyCommand;
+import calendar.command.UseCalendarCommand;
+import calendar.model.Calendar;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Headless controller that runs the commands of different calendars side by
+ * side.
+ *
+ * <p>The script is read in order and cut into segments: runs of consecutive
+ * commands for the same current calendar. Each segment runs on a worker
+ * against a manager scoped to its calendar, after the previous segment of
+ * that calendar. A segment holding a command that names other calendars, the
+ * target of a copy or the calendars of a search, also waits for, and is then
+ * followed by, those calendars' segments, so each calendar sees its commands
+ * in script order. Calendars that never meet run concurrently.
+ *
+ * <p>{@code use calendar} runs on the reading thread as soon as it is read;
+ * it only changes which calendar the following commands belong to. Commands
+ * that change the set of calendars or leave the process ({@code create} and
+ * {@code edit calendar}, the exports and {@code exit}) are barriers: they
+ * wait for all earlier segments and run alone.
+ *
+ * <p>Segments record their output, and the records are printed in script
+ * order as segments finish, so the output is the same as a sequential run.
+ * A sequential headless run stops at the first command that reports failure.
+ * If that happens in a segment, later segments may already have changed other
+ * calendars. The run is then repeated sequentially on a fresh manager, and
+ * the output already printed is not printed again.
+ */
+public class ParallelController implements ControllerInterface {
+  private static final int SEGMENT_LIMIT = 512;
+  private static final int MAX_PENDING_SEGMENTS = 256;
+
+  private final Supplier<CalendarManager> managers;
+  private final ViewInterface view;
+  private final CommandParser parser;
+  private final Path script;
+  private final int workers;
+  private CalendarManager manager;
+
+  /**
+   * Creates a ParallelController.
+   *
+   * @param managers supplies the empty manager to run against, and a fresh one
+   *                 if the run has to be repeated sequentially
+   * @param view     the view for output
+   * @param parser   the command parser
+   * @param script   the commands file
+   * @param workers  the number of worker threads, at least one
+   */
+  public ParallelController(Supplier<CalendarManager> managers, ViewInterface view,
+                            CommandParser parser, Path script, int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required");
+    }
+    this.managers = managers;
+    this.view = view;
+    this.parser = parser;
+    this.script = script;
+    this.workers = workers;
+  }
+
+  /**
+   * Gets the manager holding the state left by the last run.
+   *
+   * @return the manager, or null before the first run
+   */
+  public CalendarManager getManager() {
+    return manager;
+  }
+
+  @Override
+  public void run() throws IOException {
+    SkippingView out = new SkippingView(view, 0);
+    manager = managers.get();
+    try {
+      if (new Run(manager, out).execute()) {
+        return;
+      }
+    } finally {
+      out.flush();
+    }
+    manager = managers.get();
+    try (LineSource lines = LineSource.open(script)) {
+      new Controller(manager, new SkippingView(view, out.calls()), parser, lines, false).run();
+    }
+  }
+
+  private static boolean isBarrier(CommandInterface cmd) {
+    return cmd instanceof CreateCalendarCommand || cmd instanceof EditCalendarCommand
+        || cmd instanceof ExportCommand || cmd instanceof ExportFreeBusyCommand
+        || cmd instanceof ExitCommand;
+  }
+
+  /**
+   * One pass over the script.
+   */
+  private final class Run {
+    private final CalendarManager manager;
+    private final SkippingView out;
+    private final Deque<Segment> pending;
+    private final Map<Calendar, CompletableFuture<Void>> tails;
+    private final AtomicBoolean failed;
+    private ExecutorService pool;
+    private Segment open;
+
+    private Run(CalendarManager manager, SkippingView out) {
+      this.manager = manager;
+      this.out = out;
+      this.pending = new ArrayDeque<>();
+      this.tails = new IdentityHashMap<>();
+      this.failed = new AtomicBoolean();
+    }
+
+    /**
+     * Runs the script.
+     *
+     * @return true if the run matched a sequential one, false if a segment
+     *         stopped on a failed command and the run must be repeated
+     */
+    private boolean execute() throws IOException {
+      pool = Executors.newFixedThreadPool(workers, r -> {
+        Thread t = new Thread(r, "calendar-segment");
+        t.setDaemon(true);
+        return t;
+      });
+      try (LineSource lines = LineSource.open(script)) {
+        String raw;
+        while ((raw = lines.nextLine()) != null) {
+          String line = raw.trim();
+          if (line.isEmpty()) {
+            continue;
+          }
+          CommandInterface cmd = parser.parse(line);
+          if (isBarrier(cmd)) {
+            if (!flush() || !drain(true)) {
+              return false;
+            }
+            if (!Controller.execute(cmd, manager, out)) {
+              return true;
+            }
+            continue;
+          }
+
+          Calendar current = manager.getCurrentCalendar();
+          if (cmd instanceof UseCalendarCommand || current == null) {
+            if (!flush()) {
+              return false;
+            }
+            Segment inline = new Segment(null);
+            boolean go = Controller.execute(cmd, manager, inline.output);
+            inline.done = CompletableFuture.completedFuture(null);
+            pending.add(inline);
+            if (!go) {
+              return drain(true);
+            }
+            continue;
+          }
+
+          if (open == null || open.calendar != current || open.commands.size() >= SEGMENT_LIMIT) {
+            if (!flush()) {
+              return false;
+            }
+            open = new Segment(current);
+          }
+          open.commands.add(cmd);
+          if (cmd instanceof CrossCalendarCommand) {
+            for (String name : ((CrossCalendarCommand) cmd).getOtherCalendarNames()) {
+              Calendar other = manager.getCalendar(name);
+              if (other != null && other != current) {
+                open.others.add(other);
+              }
+            }
+          }
+        }
+        if (!flush() || !drain(true)) {
+          return false;
+        }
+        out.displayError(Controller.MISSING_EXIT);
+        return true;
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+
+    /**
+     * Schedules the open segment after the segments it depends on.
+     *
+     * @return false if a finished segment stopped on a failed command
+     */
+    private boolean flush() throws IOException {
+      if (open == null) {
+        return true;
+      }
+      Segment segment = open;
+      open = null;
+      List<CompletableFuture<Void>> after = new ArrayList<>();
+      addTail(after, segment.calendar);
+      for (Calendar other : segment.others) {
+        addTail(after, other);
+      }
+      CalendarManager scoped = manager.withCurrentCalendar(segment.calendar);
+      segment.done = CompletableFuture.allOf(after.toArray(new CompletableFuture<?>[0]))
+          .thenRunAsync(() -> segment.run(scoped, failed), pool);
+      tails.put(segment.calendar, segment.done);
+      for (Calendar other : segment.others) {
+        tails.put(other, segment.done);
+      }
+      pending.add(segment);
+      return drain(false);
+    }
+
+    private void addTail(List<CompletableFuture<Void>> after, Calendar calendar) {
+      CompletableFuture<Void> tail = tails.get(calendar);
+      if (tail != null) {
+        after.add(tail);
+      }
+    }
+
+    /**
+     * Prints the output of finished segments in script order. Without
+     * {@code all}, stops at the first unfinished segment unless too many are
+     * waiting; with it, waits for every segment.
+     *
+     * @return false if a segment stopped on a failed command
+     */
+    private boolean drain(boolean all) throws IOException {
+      while (!pending.isEmpty()) {
+        Segment head = pending.peek();
+        if (!all && !head.done.isDone() && pending.size() <= MAX_PENDING_SEGMENTS) {
+          return true;
+        }
+        head.done.join();
+        if (head.incomplete) {
+          return false;
+        }
+        head.output.replay(out);
+        pending.poll();
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Consecutive commands for one calendar, or a single command run inline.
+   */
+  private static final class Segment {
+    private final Calendar calendar;
+    private final List<CommandInterface> commands;
+    private final Set<Calendar> others;
+    private final RecordingView output;
+    private CompletableFuture<Void> done;
+    private volatile boolean incomplete;
+
+    private Segment(Calendar calendar) {
+      this.calendar = calendar;
+      this.commands = new ArrayList<>();
+      this.others = Collections.newSetFromMap(new IdentityHashMap<>());
+      this.output = new RecordingView();
+    }
+
+    /**
+     * Executes the commands in order, stopping at one that reports failure,
+     * or before starting if another segment already has.
+     */
+    private void run(CalendarManager scoped, AtomicBoolean failed) {
+      try {
+        for (CommandInterface cmd : commands) {
+          if (failed.get() || !Controller.execute(cmd, scoped, output)) {
+            incomplete = true;
+            failed.set(true);
+            return;
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package calendar.controller;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless controller that reads, parses and executes commands on separate
+ * threads.
+ *
+ * <p>A reader thread splits the input into lines and hands them out in
+ * batches to a pool of parse workers; parsing is pure, so batches can be
+ * parsed in any order and on any thread. Each batch's pending result is put
+ * on a bounded queue in input order, and the calling thread takes them off
+ * in that order and executes every command itself. The queue bound is the
+ * backpressure: when execution falls behind, the reader blocks instead of
+ * parsing ahead without limit.
+ *
+ * <p>Commands run one at a time on one thread in file order, and errors are
+ * reported exactly as {@link Controller} reports them, so the output is the
+ * same as a sequential headless run. Once {@code exit} runs, the rest of the
+ * input is abandoned.
+ */
+public class PipelinedController implements ControllerInterface {
+  private static final int BATCH_SIZE = 256;
+
+  private final CalendarManager manager;
+  private final ViewInterface view;
+  private final CommandParser parser;
+  private final LineSource lines;
+  private final int parseWorkers;
+
+  /**
+   * Creates a PipelinedController.
+   *
+   * @param manager      the calendar manager
+   * @param view         the view for output
+   * @param parser       the command parser, shared by the parse workers
+   * @param input        the Readable input source
+   * @param parseWorkers the number of parse threads, at least one
+   */
+  public PipelinedController(CalendarManager manager, ViewInterface view,
+                             CommandParser parser, Readable input, int parseWorkers) {
+    this(manager, view, parser, new ReadableLineSource(input), parseWorkers);
+  }
+
+  /**
+   * Creates a PipelinedController that reads from a line source.
+   *
+   * @param manager      the calendar manager
+   * @param view         the view for output
+   * @param parser       the command parser, shared by the parse workers
+   * @param lines        the source of command lines; closed when the run ends
+   * @param parseWorkers the number of parse threads, at least one
+   */
+  public PipelinedController(CalendarManager manager, ViewInterface view,
+                             CommandParser parser, LineSource lines, int parseWorkers) {
+    if (parseWorkers < 1) {
+      throw new IllegalArgumentException("At least one parse worker is required");
+    }
+    this.manager = manager;
+    this.view = view;
+    this.parser = parser;
+    this.lines = lines;
+    this.parseWorkers = parseWorkers;
+  }
+
+  @Override
+  public void run() throws IOException {
+    ExecutorService parsers = Executors.newFixedThreadPool(parseWorkers, r -> {
+      Thread t = new Thread(r, "command-parser");
+      t.setDaemon(true);
+      return t;
+    });
+    BlockingQueue<Future<CommandInterface[]>> pending =
+        new ArrayBlockingQueue<>(parseWorkers * 4);
+    Thread reader = new Thread(() -> read(parsers, pending), "command-reader");
+    reader.setDaemon(true);
+    reader.start();
+    try {
+      executeInOrder(pending);
+    } finally {
+      reader.interrupt();
+      parsers.shutdownNow();
+      try {
+        lines.close();
+      } finally {
+        view.flush();
+      }
+    }
+  }
+
+  /**
+   * Executes the parsed batches in script order until a command ends the
+   * session or the input runs out.
+   */
+  private void executeInOrder(BlockingQueue<Future<CommandInterface[]>> pending)
+      throws IOException {
+    while (true) {
+      CommandInterface[] batch = take(pending);
+      if (batch == null) {
+        view.displayError(Controller.MISSING_EXIT);
+        return;
+      }
+      for (CommandInterface cmd : batch) {
+        if (!Controller.execute(cmd, manager, view)) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reader stage: splits lines, submits full batches for parsing and queues
+   * their results in order, ending with a null batch.
+   */
+  private void read(ExecutorService parsers, BlockingQueue<Future<CommandInterface[]>> pending) {
+    try {
+      List<String> batch = new ArrayList<>(BATCH_SIZE);
+      String line;
+      while ((line = lines.nextLine()) != null) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+          continue;
+        }
+        batch.add(trimmed);
+        if (batch.size() == BATCH_SIZE) {
+          pending.put(submit(parsers, batch));
+          batch = new ArrayList<>(BATCH_SIZE);
+        }
+      }
+      if (!batch.isEmpty()) {
+        pending.put(submit(parsers, batch));
+      }
+      pending.put(CompletableFuture.completedFuture(null));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | RuntimeException e) {
+      CompletableFuture<CommandInterface[]> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      try {
+        pending.put(failed);
+      } catch (InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private Future<CommandInterface[]> submit(ExecutorService parsers, List<String> lines) {
+    return parsers.submit(() -> {
+      CommandInterface[] commands = new CommandInterface[lines.size()];
+      for (int i = 0; i < commands.length; i++) {
+        commands[i] = parser.parse(lines.get(i));
+      }
+      return commands;
+    });
+  }
+
+  /**
+   * Execution stage: waits for the next batch in input order, rethrowing
+   * whatever the reader or parser failed with.
+   */
+  private static CommandInterface[] take(BlockingQueue<Future<CommandInterface[]>> pending)
+      throws IOException {
+    try {
+      return pending.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for commands", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+}
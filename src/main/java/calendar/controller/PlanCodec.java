@@ -0,0 +1,316 @@
+package calendar.controller;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Record codec for the commands stored in a {@link CommandPlan}.
+ *
+ * <p>Commands only hold the strings, numbers and flags they were parsed from.
+ * A command is written as its kind, the simple name of its class in the
+ * command package, followed by one tagged value per instance field in
+ * declaration order. It is read back through the public constructor that
+ * takes exactly those fields in that order, which is checked by probing the
+ * constructor once per kind. Kinds outside the command package, kinds whose
+ * constructor takes the fields in another order, and fields of any other
+ * type are rejected, so plans holding them are not cached.
+ *
+ * <p>The codec also fingerprints the command package: a hash of the class
+ * files of the parser, its matchers and every command. A plan records the
+ * fingerprint of the build that parsed it, so a parser or command change
+ * makes old plans stale even when the script itself is unchanged.
+ */
+final class PlanCodec {
+  private static final String PACKAGE = "calendar.command.";
+  private static final String PACKAGE_PATH = "calendar/command/";
+
+  private static final int NULL = 0;
+  private static final int STRING = 1;
+  private static final int INT = 2;
+  private static final int BOOLEAN = 3;
+  private static final int MAX_STRING_BYTES = 1 << 20;
+
+  private static final Map<String, Kind> KINDS = new ConcurrentHashMap<>();
+  private static volatile byte[] fingerprint;
+
+  private PlanCodec() {
+  }
+
+  /**
+   * Writes one command.
+   *
+   * @param out     the stream to write to
+   * @param command the command
+   * @throws IOException if the command is not a plain record or writing fails
+   */
+  static void write(DataOutputStream out, CommandInterface command) throws IOException {
+    Class<?> type = command.getClass();
+    if (!type.getName().equals(PACKAGE + type.getSimpleName())) {
+      throw new IOException("Not a command kind: " + type.getName());
+    }
+    Kind kind = kind(type.getSimpleName());
+    out.writeUTF(type.getSimpleName());
+    for (Field field : kind.fields) {
+      Object value;
+      try {
+        value = field.get(command);
+      } catch (IllegalAccessException e) {
+        throw new IOException("Cannot read " + field, e);
+      }
+      if (value == null) {
+        out.writeByte(NULL);
+      } else if (value instanceof String) {
+        byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+        out.writeByte(STRING);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      } else if (value instanceof Integer) {
+        out.writeByte(INT);
+        out.writeInt((Integer) value);
+      } else {
+        out.writeByte(BOOLEAN);
+        out.writeBoolean((Boolean) value);
+      }
+    }
+  }
+
+  /**
+   * Reads one command written by {@link #write}.
+   *
+   * @param in the stream to read from
+   * @return the command
+   * @throws IOException if the record is malformed or its kind is unknown
+   */
+  static CommandInterface read(DataInputStream in) throws IOException {
+    Kind kind = kind(in.readUTF());
+    Object[] values = new Object[kind.fields.length];
+    for (int i = 0; i < values.length; i++) {
+      int tag = in.readByte();
+      switch (tag) {
+        case NULL:
+          values[i] = null;
+          break;
+        case STRING:
+          int length = in.readInt();
+          if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Bad string length " + length);
+          }
+          byte[] bytes = new byte[length];
+          in.readFully(bytes);
+          values[i] = new String(bytes, StandardCharsets.UTF_8);
+          break;
+        case INT:
+          values[i] = in.readInt();
+          break;
+        case BOOLEAN:
+          values[i] = in.readBoolean();
+          break;
+        default:
+          throw new IOException("Bad value tag " + tag);
+      }
+      Class<?> expected = kind.fields[i].getType();
+      if (values[i] == null ? expected.isPrimitive() : !box(expected).isInstance(values[i])) {
+        throw new IOException("Bad value for " + kind.fields[i]);
+      }
+    }
+    try {
+      return kind.constructor.newInstance(values);
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new IOException("Cannot rebuild " + kind.constructor.getName(), e);
+    }
+  }
+
+  /**
+   * Gets the fingerprint of the command package in this build.
+   *
+   * @return a SHA-256 over the package's class files, or null if the class
+   *         files cannot be located
+   */
+  static byte[] fingerprint() {
+    byte[] result = fingerprint;
+    if (result == null) {
+      result = computeFingerprint();
+      fingerprint = result;
+    }
+    return result;
+  }
+
+  private static Kind kind(String name) throws IOException {
+    Kind kind = KINDS.get(name);
+    if (kind == null) {
+      kind = Kind.of(name);
+      KINDS.put(name, kind);
+    }
+    return kind;
+  }
+
+  private static Class<?> box(Class<?> type) {
+    if (type == int.class) {
+      return Integer.class;
+    }
+    return type == boolean.class ? Boolean.class : type;
+  }
+
+  private static byte[] computeFingerprint() {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+    CodeSource code = CommandParser.class.getProtectionDomain().getCodeSource();
+    URL location = code == null ? null : code.getLocation();
+    if (location == null) {
+      return null;
+    }
+    try {
+      Path root = Paths.get(location.toURI());
+      if (Files.isDirectory(root)) {
+        List<Path> classes;
+        try (Stream<Path> files = Files.walk(root.resolve(PACKAGE_PATH))) {
+          classes = files.filter(p -> p.toString().endsWith(".class")).sorted()
+              .collect(Collectors.toList());
+        }
+        for (Path file : classes) {
+          digest.update(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+          digest.update(Files.readAllBytes(file));
+        }
+      } else {
+        try (JarFile jar = new JarFile(root.toFile())) {
+          List<JarEntry> classes = new ArrayList<>();
+          Enumeration<JarEntry> entries = jar.entries();
+          while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (entry.getName().startsWith(PACKAGE_PATH) && entry.getName().endsWith(".class")) {
+              classes.add(entry);
+            }
+          }
+          classes.sort((a, b) -> a.getName().compareTo(b.getName()));
+          for (JarEntry entry : classes) {
+            digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = jar.getInputStream(entry)) {
+              digest.update(in.readAllBytes());
+            }
+          }
+        }
+      }
+    } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+    return digest.digest();
+  }
+
+  /**
+   * The instance fields and rebuilding constructor of one command class.
+   */
+  private static final class Kind {
+    private final Field[] fields;
+    private final Constructor<? extends CommandInterface> constructor;
+
+    private Kind(Field[] fields, Constructor<? extends CommandInterface> constructor) {
+      this.fields = fields;
+      this.constructor = constructor;
+    }
+
+    static Kind of(String name) throws IOException {
+      Class<? extends CommandInterface> type;
+      try {
+        type = Class.forName(PACKAGE + name, false, PlanCodec.class.getClassLoader())
+            .asSubclass(CommandInterface.class);
+      } catch (ClassNotFoundException | ClassCastException e) {
+        throw new IOException("Unknown command kind: " + name, e);
+      }
+      if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+        throw new IOException("Unknown command kind: " + name);
+      }
+      List<Field> fields = new ArrayList<>();
+      List<Class<?>> types = new ArrayList<>();
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+          continue;
+        }
+        Class<?> fieldType = field.getType();
+        if (fieldType != String.class && box(fieldType) != Integer.class
+            && box(fieldType) != Boolean.class) {
+          throw new IOException("Unsupported field " + field);
+        }
+        field.setAccessible(true);
+        fields.add(field);
+        types.add(fieldType);
+      }
+      Kind kind;
+      try {
+        kind = new Kind(fields.toArray(new Field[0]),
+            type.getConstructor(types.toArray(new Class<?>[0])));
+      } catch (NoSuchMethodException e) {
+        throw new IOException("No record constructor for " + name, e);
+      }
+      kind.checkOrder();
+      return kind;
+    }
+
+    /**
+     * Checks that each constructor parameter lands in the field at the same
+     * position, by passing a marker value in one parameter at a time. The
+     * order of {@link Class#getDeclaredFields()} is not specified, and two
+     * swapped fields of the same type would otherwise replay silently.
+     */
+    private void checkOrder() throws IOException {
+      for (int i = 0; i < fields.length; i++) {
+        Object[] values = new Object[fields.length];
+        for (int j = 0; j < values.length; j++) {
+          values[j] = value(fields[j].getType(), i == j);
+        }
+        CommandInterface probe;
+        try {
+          probe = constructor.newInstance(values);
+          for (int j = 0; j < values.length; j++) {
+            if (!values[j].equals(fields[j].get(probe))) {
+              throw new IOException("Fields of " + constructor.getName()
+                  + " are not in constructor order");
+            }
+          }
+        } catch (InstantiationException | IllegalAccessException
+                 | InvocationTargetException e) {
+          throw new IOException("Cannot probe " + constructor.getName(), e);
+        }
+      }
+    }
+
+    private static Object value(Class<?> type, boolean marked) {
+      if (type == String.class) {
+        return marked ? "marker" : "";
+      }
+      if (box(type) == Integer.class) {
+        return marked ? 1 : 0;
+      }
+      return marked;
+    }
+  }
+}
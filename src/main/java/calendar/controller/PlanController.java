@@ -0,0 +1,50 @@
+package calendar.controller;
+
+import calendar.command.CommandInterface;
+import calendar.model.CalendarManager;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+
+/**
+ * Headless controller that runs an already compiled {@link CommandPlan}.
+ *
+ * <p>Each command is executed and reported exactly as {@link Controller}
+ * would for the line it came from, including the check that the script ends
+ * with {@code exit}; only the reading and parsing of lines is skipped.
+ */
+public class PlanController implements ControllerInterface {
+  private final CalendarManager manager;
+  private final ViewInterface view;
+  private final CommandPlan plan;
+
+  /**
+   * Creates a PlanController.
+   *
+   * @param manager the calendar manager
+   * @param view    the view for output
+   * @param plan    the compiled commands to run
+   */
+  public PlanController(CalendarManager manager, ViewInterface view, CommandPlan plan) {
+    this.manager = manager;
+    this.view = view;
+    this.plan = plan;
+  }
+
+  @Override
+  public void run() throws IOException {
+    boolean exitFound = false;
+    try {
+      for (CommandInterface cmd : plan.getCommands()) {
+        if (!Controller.execute(cmd, manager, view)) {
+          exitFound = true;
+          break;
+        }
+      }
+      if (!exitFound) {
+        view.displayError(Controller.MISSING_EXIT);
+      }
+    } finally {
+      view.flush();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package calendar.controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * Splits any {@link Readable} into lines on the same terminators as
+ * {@link java.util.Scanner#nextLine()}: {@code \r\n}, {@code \n},
+ * {@code \r}, {@code \u2028}, {@code \u2029} and {@code \u0085}.
+ *
+ * <p>Like {@code Scanner}, a failed read is treated as the end of input, and
+ * closing the source closes the Readable if it is {@link Closeable}.
+ */
+public final class ReadableLineSource implements LineSource {
+  private final Readable source;
+  private final CharBuffer buffer;
+  private final StringBuilder line;
+  private boolean eof;
+  private boolean skipNewline;
+
+  /**
+   * Creates a line source over a Readable.
+   *
+   * @param source the input
+   */
+  public ReadableLineSource(Readable source) {
+    this.source = source;
+    this.buffer = CharBuffer.allocate(1 << 16);
+    this.buffer.flip();
+    this.line = new StringBuilder(128);
+  }
+
+  @Override
+  public String nextLine() {
+    line.setLength(0);
+    boolean any = false;
+    while (true) {
+      if (!buffer.hasRemaining()) {
+        if (eof || !fill()) {
+          return any ? line.toString() : null;
+        }
+      }
+      char c = buffer.get();
+      if (skipNewline) {
+        skipNewline = false;
+        if (c == '\n') {
+          continue;
+        }
+      }
+      if (c == '\n' || c == '\u2028' || c == '\u2029' || c == '\u0085') {
+        return line.toString();
+      }
+      if (c == '\r') {
+        skipNewline = true;
+        return line.toString();
+      }
+      line.append(c);
+      any = true;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (source instanceof Closeable) {
+      ((Closeable) source).close();
+    }
+  }
+
+  private boolean fill() {
+    buffer.clear();
+    int n;
+    try {
+      do {
+        n = source.read(buffer);
+      } while (n == 0);
+    } catch (IOException e) {
+      n = -1;
+    }
+    buffer.flip();
+    if (n < 0) {
+      eof = true;
+      return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,80 @@
+package calendar.controller;
+
+import calendar.model.EventInterface;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * View that keeps every call so it can be replayed, in order, on another
+ * view later. Used to run commands off the output thread while still
+ * printing their output in script order.
+ */
+final class RecordingView implements ViewInterface {
+  private static final int MESSAGE = 0;
+  private static final int ERROR = 1;
+  private static final int EVENTS = 2;
+
+  private final List<Integer> kinds;
+  private final List<Object> payloads;
+
+  /**
+   * Creates an empty recording.
+   */
+  RecordingView() {
+    this.kinds = new ArrayList<>();
+    this.payloads = new ArrayList<>();
+  }
+
+  @Override
+  public void displayMessage(String message) {
+    kinds.add(MESSAGE);
+    payloads.add(message);
+  }
+
+  @Override
+  public void displayError(String error) {
+    kinds.add(ERROR);
+    payloads.add(error);
+  }
+
+  @Override
+  public void displayEvents(List<EventInterface> events) {
+    kinds.add(EVENTS);
+    payloads.add(new ArrayList<>(events));
+  }
+
+  @Override
+  public void displayEvents(Iterator<EventInterface> events) {
+    List<EventInterface> copy = new ArrayList<>();
+    events.forEachRemaining(copy::add);
+    kinds.add(EVENTS);
+    payloads.add(copy);
+  }
+
+  /**
+   * Replays the recorded calls on a view, in the order they were made.
+   *
+   * @param view the view to replay on
+   * @throws IOException if the view fails
+   */
+  @SuppressWarnings("unchecked")
+  void replay(ViewInterface view) throws IOException {
+    for (int i = 0; i < kinds.size(); i++) {
+      Object payload = payloads.get(i);
+      switch (kinds.get(i)) {
+        case MESSAGE:
+          view.displayMessage((String) payload);
+          break;
+        case ERROR:
+          view.displayError((String) payload);
+          break;
+        default:
+          view.displayEvents((List<EventInterface>) payload);
+          break;
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package calendar.controller;
+
+import calendar.model.EventInterface;
+import calendar.view.ViewInterface;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * View that counts the calls made to it and drops the first few before
+ * forwarding the rest. A rerun of a script whose beginning has already been
+ * printed passes through this so the beginning is not printed twice.
+ */
+final class SkippingView implements ViewInterface {
+  private final ViewInterface target;
+  private final long skip;
+  private long calls;
+
+  /**
+   * Creates a skipping view.
+   *
+   * @param target the view to forward to
+   * @param skip   the number of leading calls to drop
+   */
+  SkippingView(ViewInterface target, long skip) {
+    this.target = target;
+    this.skip = skip;
+  }
+
+  /**
+   * Gets the number of calls made so far, dropped ones included.
+   *
+   * @return the call count
+   */
+  long calls() {
+    return calls;
+  }
+
+  @Override
+  public void displayMessage(String message) throws IOException {
+    if (calls++ >= skip) {
+      target.displayMessage(message);
+    }
+  }
+
+  @Override
+  public void displayError(String error) throws IOException {
+    if (calls++ >= skip) {
+      target.displayError(error);
+    }
+  }
+
+  @Override
+  public void displayEvents(List<EventInterface> events) throws IOException {
+    if (calls++ >= skip) {
+      target.displayEvents(events);
+    }
+  }
+
+  @Override
+  public void displayEvents(Iterator<EventInterface> events) throws IOException {
+    if (calls++ >= skip) {
+      target.displayEvents(events);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    target.flush();
+  }
+}
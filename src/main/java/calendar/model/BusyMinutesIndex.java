@@ -0,0 +1,208 @@
+package calendar.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index of booked minutes per day, for utilization reports.
+ *
+ * <p>Two Fenwick trees keyed by epoch day are kept:
+ * - booked minutes, where every event contributes its full length, so
+ *   overlapping events are counted twice
+ * - busy minutes, the length of the union of all events, so a minute is
+ *   counted once however many events cover it
+ *
+ * <p>An event spanning midnight contributes to each day it touches. The busy
+ * tree is maintained from a step function of how many events cover each
+ * minute: adding an event credits the minutes whose count rises from zero,
+ * removing one debits the minutes whose count falls to zero.
+ *
+ * <p>The same step function doubles as an interval index for overlap checks.
+ * Because adjacent pieces with equal counts are merged, an interval is free
+ * exactly when the piece containing its start is uncovered and no piece
+ * boundary falls strictly inside it, which takes O(log n) to test.
+ *
+ * <p>Times are the events' local times, as elsewhere in the model.
+ */
+final class BusyMinutesIndex implements EventIndex {
+  private static final long MINUTES_PER_DAY = 24 * 60;
+
+  private final FenwickTree booked;
+  private final FenwickTree busy;
+
+  /**
+   * Cover count from each key up to the next key. Minutes before the first
+   * key are uncovered, and the last key always maps to zero.
+   */
+  private final NavigableMap<Long, Integer> coverage;
+
+  /**
+   * Creates an empty index.
+   */
+  BusyMinutesIndex() {
+    this.booked = new FenwickTree();
+    this.busy = new FenwickTree();
+    this.coverage = new TreeMap<>();
+  }
+
+  @Override
+  public void add(int slot, EventInterface event) {
+    update(event, 1);
+  }
+
+  @Override
+  public void remove(int slot, EventInterface event) {
+    update(event, -1);
+  }
+
+  /**
+   * Sums the minutes booked by events on the days in {@code [fromDay, toDay)}.
+   *
+   * @param fromDay the first epoch day (inclusive)
+   * @param toDay   the last epoch day (exclusive)
+   * @param merged  true to count minutes covered by several events once
+   * @return the booked minutes
+   */
+  long minutes(long fromDay, long toDay, boolean merged) {
+    return (merged ? busy : booked).sum(fromDay, toDay);
+  }
+
+  /**
+   * Checks whether any stored event shares a minute with one of several
+   * intervals. The intervals are checked in one merged sweep over the cover
+   * step function, so a whole series costs a single pass instead of one
+   * lookup per occurrence.
+   *
+   * @param starts interval starts in epoch minutes, in increasing order
+   * @param ends   interval ends (exclusive), aligned with {@code starts}; the
+   *               intervals must not overlap each other
+   * @return true if some interval overlaps a stored event
+   */
+  boolean overlapsAny(long[] starts, long[] ends) {
+    if (starts.length == 0) {
+      return false;
+    }
+    Long first = coverage.floorKey(starts[0]);
+    Iterator<Map.Entry<Long, Integer>> pieces =
+        (first == null ? coverage : coverage.tailMap(first, true)).entrySet().iterator();
+    Map.Entry<Long, Integer> piece = pieces.hasNext() ? pieces.next() : null;
+    Map.Entry<Long, Integer> next = pieces.hasNext() ? pieces.next() : null;
+    int i = 0;
+    while (piece != null && i < starts.length) {
+      long pieceEnd = next == null ? Long.MAX_VALUE : next.getKey();
+      if (starts[i] >= ends[i] || piece.getKey() >= ends[i]) {
+        i++;
+      } else if (pieceEnd <= starts[i]) {
+        piece = next;
+        next = pieces.hasNext() ? pieces.next() : null;
+      } else if (piece.getValue() > 0) {
+        return true;
+      } else if (pieceEnd <= ends[i]) {
+        piece = next;
+        next = pieces.hasNext() ? pieces.next() : null;
+      } else {
+        i++;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Lists the maximal busy runs inside a window, read straight off the
+   * cover step function: consecutive covered pieces form one run.
+   *
+   * @param from window start in epoch minutes (inclusive)
+   * @param to   window end in epoch minutes (exclusive)
+   * @return {start, end} pairs in increasing order, clipped to the window
+   */
+  List<long[]> busyRuns(long from, long to) {
+    List<long[]> runs = new ArrayList<>();
+    if (from >= to) {
+      return runs;
+    }
+    Map.Entry<Long, Integer> floor = coverage.floorEntry(from);
+    boolean busy = floor != null && floor.getValue() > 0;
+    long runStart = from;
+    for (Map.Entry<Long, Integer> piece : coverage.subMap(from, false, to, false).entrySet()) {
+      boolean covered = piece.getValue() > 0;
+      if (covered != busy) {
+        if (busy) {
+          runs.add(new long[] {runStart, piece.getKey()});
+        } else {
+          runStart = piece.getKey();
+        }
+        busy = covered;
+      }
+    }
+    if (busy) {
+      runs.add(new long[] {runStart, to});
+    }
+    return runs;
+  }
+
+  /**
+   * Checks whether any two stored events overlap.
+   *
+   * @return true if booked and busy minutes differ somewhere
+   */
+  boolean hasOverlaps() {
+    return booked.sum(Long.MIN_VALUE, Long.MAX_VALUE) != busy.sum(Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  private void update(EventInterface event, int delta) {
+    long start = EventTable.minuteOf(event.getStartDateTime());
+    long end = EventTable.minuteOf(event.getEndDateTime());
+    if (start >= end) {
+      return;
+    }
+    spread(booked, start, end, delta);
+
+    split(start);
+    split(end);
+    List<Long> keys = new ArrayList<>(coverage.subMap(start, true, end, false).keySet());
+    for (Long key : keys) {
+      int before = coverage.get(key);
+      int after = before + delta;
+      coverage.put(key, after);
+      if (before == 0 || after == 0) {
+        spread(busy, key, coverage.higherKey(key), delta);
+      }
+    }
+    compact(start);
+    compact(end);
+  }
+
+  private void split(long minute) {
+    Map.Entry<Long, Integer> floor = coverage.floorEntry(minute);
+    if (floor == null) {
+      coverage.put(minute, 0);
+    } else if (floor.getKey() != minute) {
+      coverage.put(minute, floor.getValue());
+    }
+  }
+
+  private void compact(long minute) {
+    Integer count = coverage.get(minute);
+    if (count == null) {
+      return;
+    }
+    Map.Entry<Long, Integer> lower = coverage.lowerEntry(minute);
+    if (lower == null ? count == 0 : lower.getValue().equals(count)) {
+      coverage.remove(minute);
+    }
+  }
+
+  private static void spread(FenwickTree tree, long from, long to, int sign) {
+    long minute = from;
+    while (minute < to) {
+      long day = Math.floorDiv(minute, MINUTES_PER_DAY);
+      long dayEnd = Math.min(to, (day + 1) * MINUTES_PER_DAY);
+      tree.add(day, sign * (dayEnd - minute));
+      minute = dayEnd;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Manages multiple calendars and tracks the currently active calendar.
@@ -15,6 +16,10 @@ import java.util.Map;
  * - Case-insensitive name matching prevents duplicate calendars with different cases
  * - Tracks current calendar to support context-dependent operations
  * - Provides methods for CRUD operations on calendars
+ * - New calendars use a month-partitioned model so short-window queries stay fast
+ * - A manager-wide ID index, fed by each model's event listeners, finds the
+ *   calendar holding an event in O(1) without asking every calendar; copies
+ *   use it to pick IDs no calendar holds yet
  *
  * <p>REPRESENTATION INVARIANTS:
  * - All calendar names in the map are unique (case-insensitive)
@@ -24,6 +29,7 @@ import java.util.Map;
 public class CalendarManager {
   private final Map<String, Calendar> calendars;
   private Calendar currentCalendar;
+  private final EventLocator locator;
 
   /**
    * Creates a new CalendarManager with no calendars.
@@ -31,6 +37,26 @@ public class CalendarManager {
   public CalendarManager() {
     this.calendars = new HashMap<>();
     this.currentCalendar = null;
+    this.locator = new EventLocator();
+  }
+
+  private CalendarManager(CalendarManager shared, Calendar current) {
+    this.calendars = shared.calendars;
+    this.currentCalendar = current;
+    this.locator = shared.locator;
+  }
+
+  /**
+   * Creates a manager that shares this manager's calendars but has its own
+   * current calendar. Commands for different calendars can then run side by
+   * side, each against its own scoped manager, as long as nothing creates,
+   * renames or re-zones calendars meanwhile.
+   *
+   * @param calendar the calendar to select in the scoped manager, or null
+   * @return the scoped manager
+   */
+  public CalendarManager withCurrentCalendar(Calendar calendar) {
+    return new CalendarManager(this, calendar);
   }
 
   /**
@@ -55,8 +81,9 @@ public class CalendarManager {
       return false;
     }
 
-    CalendarModelInterface model = new CalendarModel();
+    CalendarModelInterface model = new PartitionedCalendarModel();
     Calendar calendar = new Calendar(name, timezone, model);
+    locator.track(calendar);
     calendars.put(name, calendar);
     return true;
   }
@@ -152,6 +179,42 @@ public class CalendarManager {
     return true;
   }
 
+  /**
+   * Finds the calendar holding an event, whichever calendar that is.
+   *
+   * @param eventId the event ID
+   * @return the calendar holding the event, or null if none does
+   */
+  public Calendar findCalendarOfEvent(UUID eventId) {
+    return locator.calendarOf(eventId);
+  }
+
+  /**
+   * Finds an event by ID across all calendars.
+   *
+   * @param eventId the event ID
+   * @return the event, or null if no calendar holds it
+   */
+  public EventInterface findEventById(UUID eventId) {
+    Calendar calendar = locator.calendarOf(eventId);
+    return calendar == null ? null : calendar.getModel().findEventById(eventId);
+  }
+
+  /**
+   * Picks an ID that no event in any calendar of this manager holds, for
+   * events copied between calendars. Event IDs are meant to be unique across
+   * calendars, and the global index checks that in constant time.
+   *
+   * @return an unused event ID
+   */
+  public UUID newEventId() {
+    UUID id = UUID.randomUUID();
+    while (findCalendarOfEvent(id) != null) {
+      id = UUID.randomUUID();
+    }
+    return id;
+  }
+
   /**
    * Gets all calendars.
    *
@@ -3,18 +3,22 @@ package calendar.model;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -26,33 +30,34 @@ import java.util.stream.Collectors;
  */
 public class CalendarModel implements CalendarModelInterface {
 
-  /**
-   * Maximum number of years to generate series events into the future.
-   * Prevents infinite loops for series with no end date or far-future end dates.
-   */
-  private static final int SERIES_MAX_YEARS = 10;
-
   private final Set<EventInterface> events;
 
   private final Map<UUID, EventSeries> seriesConfigs;
 
+  private OverlapPolicy overlapPolicy;
+
+  private final List<EventListener> listeners;
+
   /**
    * Creates a new empty calendar model.
    */
   public CalendarModel() {
     this.events = new HashSet<>();
     this.seriesConfigs = new HashMap<>();
+    this.overlapPolicy = OverlapPolicy.ALLOW_OVERLAP;
+    this.listeners = new ArrayList<>();
   }
 
   @Override
   public boolean createEvent(EventInterface event) {
     Objects.requireNonNull(event, "Event cannot be null");
 
-    if (events.contains(event)) {
+    if (events.contains(event)
+        || conflicts(Collections.singletonList(event), Collections.emptyList())) {
       return false;
     }
 
-    events.add(event);
+    store(event);
     return true;
   }
 
@@ -60,16 +65,19 @@ public class CalendarModel implements CalendarModelInterface {
   public boolean createEventSeries(EventSeries series) {
     Objects.requireNonNull(series, "Series cannot be null");
 
-    List<EventInterface> occurrences = generateOccurrences(series);
+    List<EventInterface> occurrences = ModelUtils.generateOccurrences(series);
 
     for (EventInterface occurrence : occurrences) {
       if (events.contains(occurrence)) {
         return false;
       }
     }
+    if (conflicts(occurrences, Collections.emptyList())) {
+      return false;
+    }
 
     for (EventInterface occurrence : occurrences) {
-      events.add(occurrence);
+      store(occurrence);
     }
 
     seriesConfigs.put(series.getSeriesId(), series);
@@ -87,14 +95,17 @@ public class CalendarModel implements CalendarModelInterface {
       return false;
     }
 
-    EventInterface modified = applyEditSpec(event, spec);
+    EventInterface modified = ModelUtils.applyEditSpec(event, spec);
 
     if (!modified.equals(event) && events.contains(modified)) {
       return false;
     }
+    if (conflicts(Collections.singletonList(modified), Collections.singletonList(event))) {
+      return false;
+    }
 
-    events.remove(event);
-    events.add(modified);
+    unstore(event);
+    store(modified);
 
     return true;
   }
@@ -120,55 +131,27 @@ public class CalendarModel implements CalendarModelInterface {
       return false;
     }
 
-    
-    boolean mustSplit = spec.getNewStart() != null;
 
     
     List<EventInterface> modifiedEvents = new ArrayList<>();
     for (EventInterface event : toEdit) {
-      
-      EditSpec eventSpec = spec;
-      if (spec.getNewStart() != null && spec.getNewEnd() == null) {
-        
-        java.time.LocalTime newTime = spec.getNewStart().toLocalTime();
-        java.time.LocalDate eventDate = event.getStartDateTime().toLocalDate();
-        LocalDateTime adjustedStart = LocalDateTime.of(eventDate, newTime);
-        eventSpec = new EditSpec(
-            spec.getNewSubject(),
-            adjustedStart,
-            null, 
-            spec.getNewDescription(),
-            spec.getNewLocation(),
-            spec.getNewStatus());
-      }
-      EventInterface modified = applyEditSpec(event, eventSpec);
-
-      
-      if (mustSplit) {
-        modified = new Event(
-            modified.getSubject(),
-            modified.getStartDateTime(),
-            modified.getEndDateTime(),
-            modified.getDescription().orElse(null),
-            modified.getLocation().orElse(null),
-            modified.isPrivate(),
-            modified.getId(),
-            null  
-        );
-      }
+      EventInterface modified = ModelUtils.applySeriesEdit(event, spec);
 
-      
       if (!modified.equals(event) && events.contains(modified)) {
         return false;
       }
 
       modifiedEvents.add(modified);
     }
+    if (conflicts(modifiedEvents, toEdit)) {
+      return false;
+    }
+    boolean mustSplit = spec.getNewStart() != null;
 
     
     for (int i = 0; i < toEdit.size(); i++) {
-      events.remove(toEdit.get(i));
-      events.add(modifiedEvents.get(i));
+      unstore(toEdit.get(i));
+      store(modifiedEvents.get(i));
     }
 
     
@@ -200,55 +183,27 @@ public class CalendarModel implements CalendarModelInterface {
       return false;
     }
 
-    
-    boolean mustSplit = spec.getNewStart() != null;
 
     
     List<EventInterface> modifiedEvents = new ArrayList<>();
     for (EventInterface event : toEdit) {
-      
-      EditSpec eventSpec = spec;
-      if (spec.getNewStart() != null && spec.getNewEnd() == null) {
-        
-        java.time.LocalTime newTime = spec.getNewStart().toLocalTime();
-        java.time.LocalDate eventDate = event.getStartDateTime().toLocalDate();
-        LocalDateTime adjustedStart = LocalDateTime.of(eventDate, newTime);
-        eventSpec = new EditSpec(
-            spec.getNewSubject(),
-            adjustedStart,
-            null, 
-            spec.getNewDescription(),
-            spec.getNewLocation(),
-            spec.getNewStatus());
-      }
-      EventInterface modified = applyEditSpec(event, eventSpec);
+      EventInterface modified = ModelUtils.applySeriesEdit(event, spec);
 
-      
-      if (mustSplit) {
-        modified = new Event(
-            modified.getSubject(),
-            modified.getStartDateTime(),
-            modified.getEndDateTime(),
-            modified.getDescription().orElse(null),
-            modified.getLocation().orElse(null),
-            modified.isPrivate(),
-            modified.getId(),
-            null  
-        );
-      }
-
-      
       if (!modified.equals(event) && events.contains(modified)) {
         return false;
       }
 
       modifiedEvents.add(modified);
     }
+    if (conflicts(modifiedEvents, toEdit)) {
+      return false;
+    }
+    boolean mustSplit = spec.getNewStart() != null;
 
     
     for (int i = 0; i < toEdit.size(); i++) {
-      events.remove(toEdit.get(i));
-      events.add(modifiedEvents.get(i));
+      unstore(toEdit.get(i));
+      store(modifiedEvents.get(i));
     }
 
     
@@ -297,6 +252,22 @@ public class CalendarModel implements CalendarModelInterface {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Iterator<EventInterface> iterateEventsOnDate(LocalDate date) {
+    return getEventsOnDate(date).iterator();
+  }
+
+  @Override
+  public Iterator<EventInterface> iterateEventsInRange(LocalDateTime startDateTime,
+                                                       LocalDateTime endDateTime) {
+    return getEventsInRange(startDateTime, endDateTime).iterator();
+  }
+
+  @Override
+  public Iterator<EventInterface> iterateAllEvents() {
+    return getAllEvents().iterator();
+  }
+
   @Override
   public boolean isBusy(LocalDateTime dateTime) {
     Objects.requireNonNull(dateTime, "Date-time cannot be null");
@@ -349,120 +320,311 @@ public class CalendarModel implements CalendarModelInterface {
         .orElse(null);
   }
 
-  
+  @Override
+  public List<EventInterface> searchEvents(String query, LocalDateTime startDateTime,
+                                           LocalDateTime endDateTime) {
+    Objects.requireNonNull(query, "Query cannot be null");
 
-  /**
-   * Generates all occurrences for an event series.
-   *
-   * @param series the series configuration
-   * @return list of all event occurrences
-   */
-  private List<EventInterface> generateOccurrences(EventSeries series) {
-    List<EventInterface> occurrences = new ArrayList<>();
+    return events.stream()
+        .filter(e -> startDateTime == null || e.getEndDateTime().isAfter(startDateTime))
+        .filter(e -> endDateTime == null || e.getStartDateTime().isBefore(endDateTime))
+        .filter(e -> TextIndex.matches(e, query))
+        .sorted(Comparator.comparing(EventInterface::getStartDateTime)
+            .thenComparing(EventInterface::getEndDateTime))
+        .collect(Collectors.toList());
+  }
 
-    LocalDateTime startTime = series.getTemplate().getStartDateTime();
-    LocalDateTime endTime = series.getTemplate().getEndDateTime();
+  @Override
+  public EventInterface findEventBySubjectAndStart(String subject, LocalDateTime startDateTime) {
+    Objects.requireNonNull(subject, "Subject cannot be null");
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
 
-    
-    LocalDate templateDate = startTime.toLocalDate();
-    int startHour = startTime.getHour();
-    int startMinute = startTime.getMinute();
-    
-    int durationMinutes = (int) java.time.Duration.between(startTime, endTime).toMinutes();
+    return events.stream()
+        .filter(e -> e.getSubject().equals(subject.trim()))
+        .filter(e -> e.getStartDateTime().equals(startDateTime))
+        .min(Comparator.comparing(EventInterface::getEndDateTime))
+        .orElse(null);
+  }
 
-    LocalDate currentDate = templateDate;
-    Set<DayOfWeek> weekdays = series.getWeekdays();
-    int occurrenceCount = 0;
+  @Override
+  public List<String> completeSubject(String prefix, int limit) {
+    Objects.requireNonNull(prefix, "Prefix cannot be null");
 
-    
-    while (true) {
-      
-      if (weekdays.contains(currentDate.getDayOfWeek())) {
-        LocalDateTime eventStart = LocalDateTime.of(currentDate,
-            java.time.LocalTime.of(startHour, startMinute));
-        LocalDateTime eventEnd = eventStart.plusMinutes(durationMinutes);
-
-        
-        EventInterface occurrence = new Event(
-            series.getTemplate().getSubject(),
-            eventStart,
-            eventEnd,
-            series.getTemplate().getDescription().orElse(null),
-            series.getTemplate().getLocation().orElse(null),
-            series.getTemplate().isPrivate(),
-            UUID.randomUUID(), 
-            series.getSeriesId());
-
-        occurrences.add(occurrence);
-        occurrenceCount++;
-
-        
-        if (series.getOccurrences() != null && occurrenceCount >= series.getOccurrences()) {
-          break;
-        }
+    return events.stream()
+        .map(EventInterface::getSubject)
+        .filter(subject -> subject.startsWith(prefix))
+        .distinct()
+        .sorted()
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<GroupStats> getStatistics(EventAttribute attribute, LocalDateTime startDateTime,
+                                        LocalDateTime endDateTime) {
+    Objects.requireNonNull(attribute, "Attribute cannot be null");
+
+    Map<String, long[]> totals = new TreeMap<>();
+    for (EventInterface e : events) {
+      LocalDateTime from = e.getStartDateTime();
+      LocalDateTime to = e.getEndDateTime();
+      if (startDateTime != null && from.isBefore(startDateTime)) {
+        from = startDateTime;
+      }
+      if (endDateTime != null && to.isAfter(endDateTime)) {
+        to = endDateTime;
+      }
+      if (!from.isBefore(to)) {
+        continue;
       }
+      long[] total = totals.computeIfAbsent(attribute.keyOf(e), k -> new long[2]);
+      total[0]++;
+      total[1] += Duration.between(from, to).toMinutes();
+    }
 
-      
-      if (series.usesEndDate() && currentDate.isAfter(series.getEndDate())) {
-        break;
+    List<GroupStats> result = new ArrayList<>();
+    for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+      result.add(new GroupStats(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+    }
+    return result;
+  }
+
+  @Override
+  public long getBookedMinutes(LocalDate startDate, LocalDate endDate, boolean merged) {
+    LocalDateTime from = startDate.atStartOfDay();
+    LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+
+    List<LocalDateTime[]> intervals = new ArrayList<>();
+    for (EventInterface e : events) {
+      LocalDateTime start = e.getStartDateTime().isBefore(from) ? from : e.getStartDateTime();
+      LocalDateTime end = e.getEndDateTime().isAfter(to) ? to : e.getEndDateTime();
+      if (start.isBefore(end)) {
+        intervals.add(new LocalDateTime[] {start, end});
       }
+    }
 
-      
-      currentDate = currentDate.plusDays(1);
+    long total = 0;
+    if (!merged) {
+      for (LocalDateTime[] interval : intervals) {
+        total += Duration.between(interval[0], interval[1]).toMinutes();
+      }
+      return total;
+    }
 
-      if (currentDate.isAfter(templateDate.plusYears(SERIES_MAX_YEARS))) {
-        break;
+    intervals.sort(Comparator.comparing(interval -> interval[0]));
+    LocalDateTime coveredUntil = from;
+    for (LocalDateTime[] interval : intervals) {
+      LocalDateTime start = interval[0].isAfter(coveredUntil) ? interval[0] : coveredUntil;
+      if (start.isBefore(interval[1])) {
+        total += Duration.between(start, interval[1]).toMinutes();
+        coveredUntil = interval[1];
       }
     }
+    return total;
+  }
+
+  @Override
+  public boolean deleteEvent(UUID eventId) {
+    Objects.requireNonNull(eventId, "Event ID cannot be null");
+
+    return deleteWhere(e -> e.getId().equals(eventId)) > 0;
+  }
+
+  @Override
+  public int deleteEventsBetween(LocalDate startDate, LocalDate endDate) {
+    Objects.requireNonNull(startDate, "Start date cannot be null");
+    Objects.requireNonNull(endDate, "End date cannot be null");
+
+    return deleteWhere(e -> {
+      LocalDate date = e.getStartDateTime().toLocalDate();
+      return !date.isBefore(startDate) && !date.isAfter(endDate);
+    });
+  }
+
+  @Override
+  public int deleteSeriesFrom(UUID seriesId, LocalDate fromDate) {
+    Objects.requireNonNull(seriesId, "Series ID cannot be null");
+    Objects.requireNonNull(fromDate, "From date cannot be null");
+
+    return deleteWhere(e -> e.getSeriesId().map(seriesId::equals).orElse(false)
+        && !e.getStartDateTime().toLocalDate().isBefore(fromDate));
+  }
+
+  private int deleteWhere(Predicate<EventInterface> filter) {
+    List<EventInterface> deleted = events.stream().filter(filter).collect(Collectors.toList());
+    deleted.forEach(this::unstore);
+    for (EventInterface e : deleted) {
+      e.getSeriesId().ifPresent(seriesId -> {
+        if (events.stream().noneMatch(other -> other.getSeriesId().equals(e.getSeriesId()))) {
+          seriesConfigs.remove(seriesId);
+        }
+      });
+    }
+    return deleted.size();
+  }
+
+  @Override
+  public int editAll(EventFilter filter, EditSpec spec) {
+    Objects.requireNonNull(filter, "Filter cannot be null");
+    Objects.requireNonNull(spec, "Edit specification cannot be null");
+
+    List<EventInterface> toEdit = events.stream().filter(filter::test)
+        .collect(Collectors.toList());
+    List<EventInterface> modifiedEvents = ModelUtils.applyBatchEdit(toEdit, spec,
+        events::contains);
+    if (modifiedEvents == null || conflicts(modifiedEvents, toEdit)) {
+      return -1;
+    }
+
+    toEdit.forEach(this::unstore);
+    modifiedEvents.forEach(this::store);
+    return toEdit.size();
+  }
 
-    return occurrences;
+  @Override
+  public OverlapPolicy getOverlapPolicy() {
+    return overlapPolicy;
+  }
+
+  @Override
+  public boolean setOverlapPolicy(OverlapPolicy policy) {
+    Objects.requireNonNull(policy, "Policy cannot be null");
+
+    if (policy == OverlapPolicy.NO_OVERLAP) {
+      List<EventInterface> all = new ArrayList<>(events);
+      for (int i = 0; i < all.size(); i++) {
+        for (int j = i + 1; j < all.size(); j++) {
+          if (overlap(all.get(i), all.get(j))) {
+            return false;
+          }
+        }
+      }
+    }
+    overlapPolicy = policy;
+    return true;
   }
 
   /**
-   * Applies an edit specification to an event.
-   *
-   * @param event the event to modify
-   * @param spec  the edit specification
-   * @return a new event with modifications applied
+   * Checks whether storing some events in place of others would break the
+   * no-overlap policy. Always false when overlaps are allowed.
    */
-  private EventInterface applyEditSpec(EventInterface event, EditSpec spec) {
-    String newSubject = (spec.getNewSubject() != null)
-        ? spec.getNewSubject()
-        : event.getSubject();
+  private boolean conflicts(List<EventInterface> incoming, List<EventInterface> replaced) {
+    if (overlapPolicy == OverlapPolicy.ALLOW_OVERLAP) {
+      return false;
+    }
+    Set<EventInterface> skipped = new HashSet<>(replaced);
+    for (int i = 0; i < incoming.size(); i++) {
+      EventInterface candidate = incoming.get(i);
+      for (EventInterface other : events) {
+        if (!skipped.contains(other) && overlap(candidate, other)) {
+          return true;
+        }
+      }
+      for (int j = i + 1; j < incoming.size(); j++) {
+        if (overlap(candidate, incoming.get(j))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 
-    LocalDateTime newStart = (spec.getNewStart() != null)
-        ? spec.getNewStart()
-        : event.getStartDateTime();
+  private static boolean overlap(EventInterface a, EventInterface b) {
+    return a.getStartDateTime().isBefore(b.getEndDateTime())
+        && b.getStartDateTime().isBefore(a.getEndDateTime());
+  }
 
-    LocalDateTime newEnd;
-    if (spec.getNewEnd() != null) {
-      
-      newEnd = spec.getNewEnd();
-    } else if (spec.getNewStart() != null && spec.getNewEnd() == null) {
-      
-      java.time.Duration duration = java.time.Duration.between(
-          event.getStartDateTime(), event.getEndDateTime());
-      newEnd = newStart.plus(duration);
-    } else {
-      
-      newEnd = event.getEndDateTime();
+  @Override
+  public List<TimeBlock> getAvailability(LocalDateTime startDateTime,
+                                         LocalDateTime endDateTime) {
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+    Objects.requireNonNull(endDateTime, "End date-time cannot be null");
+
+    List<LocalDateTime[]> busy = new ArrayList<>();
+    for (EventInterface e : getEventsInRange(startDateTime, endDateTime)) {
+      LocalDateTime start = e.getStartDateTime().isBefore(startDateTime)
+          ? startDateTime : e.getStartDateTime();
+      LocalDateTime end = e.getEndDateTime().isAfter(endDateTime)
+          ? endDateTime : e.getEndDateTime();
+      LocalDateTime[] last = busy.isEmpty() ? null : busy.get(busy.size() - 1);
+      if (last != null && !start.isAfter(last[1])) {
+        if (end.isAfter(last[1])) {
+          last[1] = end;
+        }
+      } else if (start.isBefore(end)) {
+        busy.add(new LocalDateTime[] {start, end});
+      }
     }
+    return ModelUtils.withFreeGaps(busy, startDateTime, endDateTime);
+  }
 
-    String newDescription = (spec.getNewDescription() != null)
-        ? spec.getNewDescription()
-        : event.getDescription().orElse(null);
+  @Override
+  public List<EventInterface> getNextEvents(LocalDateTime dateTime, int limit) {
+    Objects.requireNonNull(dateTime, "Date-time cannot be null");
+    if (limit < 0) {
+      throw new IllegalArgumentException("Limit cannot be negative");
+    }
+    return events.stream()
+        .filter(e -> !e.getStartDateTime().isBefore(dateTime))
+        .sorted(Comparator.comparing(EventInterface::getStartDateTime)
+            .thenComparing(EventInterface::getEndDateTime))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
 
-    String newLocation = (spec.getNewLocation() != null)
-        ? spec.getNewLocation()
-        : event.getLocation().orElse(null);
+  @Override
+  public boolean[] isBusyAt(List<LocalDateTime> dateTimes) {
+    Objects.requireNonNull(dateTimes, "Date-times cannot be null");
+    return ModelUtils.busyAt(getAllEvents(), dateTimes);
+  }
 
-    Boolean newIsPrivate = (spec.getNewStatus() != null)
-        ? spec.getNewStatus().isPrivate()
-        : event.isPrivate() ? Boolean.TRUE : Boolean.FALSE;
+  @Override
+  public List<DaySummary> getDaySummaries(LocalDate startDate, LocalDate endDate) {
+    Objects.requireNonNull(startDate, "Start date cannot be null");
+    Objects.requireNonNull(endDate, "End date cannot be null");
+    if (endDate.isBefore(startDate)) {
+      throw new IllegalArgumentException("End date must not be before start date");
+    }
 
-    
-    return event.withModifications(
-        newSubject, newStart, newEnd, newDescription, newLocation, newIsPrivate,
-        event.getSeriesId().orElse(null));
+    List<DaySummary> summaries = new ArrayList<>();
+    for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+      List<EventInterface> onDay = getEventsOnDate(day);
+      List<String> subjects = new ArrayList<>();
+      for (EventInterface e : onDay) {
+        subjects.add(e.getSubject());
+      }
+      summaries.add(new DaySummary(day, onDay.size(),
+          getBookedMinutes(day, day, true), subjects));
+    }
+    return summaries;
+  }
+
+  @Override
+  public QueryCacheStats getQueryCacheStats() {
+    return new QueryCacheStats(0, 0, 0, 0, 0);
+  }
+
+  @Override
+  public void addEventListener(EventListener listener) {
+    Objects.requireNonNull(listener, "Listener cannot be null");
+
+    for (EventInterface event : events) {
+      listener.eventStored(event);
+    }
+    listeners.add(listener);
+  }
+
+  private void store(EventInterface event) {
+    events.add(event);
+    for (EventListener listener : listeners) {
+      listener.eventStored(event);
+    }
+  }
+
+  private void unstore(EventInterface event) {
+    events.remove(event);
+    for (EventListener listener : listeners) {
+      listener.eventRemoved(event);
+    }
   }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -135,6 +136,35 @@ public interface CalendarModelInterface {
    */
   List<EventInterface> getAllEvents();
 
+  /**
+   * Iterates over the events on a specific date without collecting them
+   * first. The model must not be changed while the iterator is in use.
+   *
+   * @param date the date to query
+   * @return the events of {@link #getEventsOnDate}, in the same order
+   */
+  Iterator<EventInterface> iterateEventsOnDate(LocalDate date);
+
+  /**
+   * Iterates over the events that overlap with a time range without
+   * collecting them first. The model must not be changed while the iterator
+   * is in use.
+   *
+   * @param startDateTime start of range (inclusive)
+   * @param endDateTime   end of range (inclusive)
+   * @return the events of {@link #getEventsInRange}, in the same order
+   */
+  Iterator<EventInterface> iterateEventsInRange(LocalDateTime startDateTime,
+                                                LocalDateTime endDateTime);
+
+  /**
+   * Iterates over all events in the calendar without collecting them first.
+   * The model must not be changed while the iterator is in use.
+   *
+   * @return the events of {@link #getAllEvents}, in the same order
+   */
+  Iterator<EventInterface> iterateAllEvents();
+
   /**
    * * Checks if user is busy at a specific time.
    * *
@@ -188,4 +218,178 @@ public interface CalendarModelInterface {
    */
   EventInterface findEventByProperties(String subject, LocalDateTime startDateTime,
       LocalDateTime endDateTime);
+
+  /**
+   * Searches the subject, description and location of events for text.
+   * Matching is case-insensitive on whole words; a term ending in '*'
+   * matches any word with that prefix. Every term must match.
+   *
+   * @param query         whitespace-separated search terms
+   * @param startDateTime start of the window (inclusive), or null for no lower bound
+   * @param endDateTime   end of the window (exclusive), or null for no upper bound
+   * @return matching events that overlap the window, in chronological order
+   */
+  List<EventInterface> searchEvents(String query, LocalDateTime startDateTime,
+      LocalDateTime endDateTime);
+
+  /**
+   * Finds an event by subject and start time. If several events share both,
+   * the one that ends first is returned.
+   *
+   * @param subject       the subject
+   * @param startDateTime the start time
+   * @return the event, or null if not found
+   */
+  EventInterface findEventBySubjectAndStart(String subject, LocalDateTime startDateTime);
+
+  /**
+   * Lists distinct event subjects that start with a prefix, for completion.
+   *
+   * @param prefix the case-sensitive subject prefix
+   * @param limit  the maximum number of subjects to return
+   * @return matching subjects in sorted order
+   */
+  List<String> completeSubject(String prefix, int limit);
+
+  /**
+   * Counts events and booked minutes per value of an attribute. With a
+   * window, only events overlapping it are counted and their minutes are
+   * clipped to it. Events without a location are grouped under "".
+   *
+   * @param attribute     the attribute to group by
+   * @param startDateTime start of the window (inclusive), or null for no lower bound
+   * @param endDateTime   end of the window (exclusive), or null for no upper bound
+   * @return one entry per non-empty group, ordered by key
+   */
+  List<GroupStats> getStatistics(EventAttribute attribute, LocalDateTime startDateTime,
+      LocalDateTime endDateTime);
+
+  /**
+   * Sums the minutes booked by events on a range of days. An event spanning
+   * midnight counts towards each day only the minutes it covers on that day.
+   *
+   * @param startDate the first day (inclusive)
+   * @param endDate   the last day (inclusive)
+   * @param merged    true to count minutes covered by overlapping events once,
+   *                  false to add up the full length of every event
+   * @return the booked minutes
+   */
+  long getBookedMinutes(LocalDate startDate, LocalDate endDate, boolean merged);
+
+  /**
+   * Deletes a single event. A series whose last event is deleted is
+   * forgotten.
+   *
+   * @param eventId the ID of the event to delete
+   * @return true if the event existed and was deleted
+   */
+  boolean deleteEvent(UUID eventId);
+
+  /**
+   * Deletes every event starting on a day in a range.
+   *
+   * @param startDate the first day (inclusive)
+   * @param endDate   the last day (inclusive)
+   * @return the number of deleted events
+   */
+  int deleteEventsBetween(LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Deletes the events of a series that start on or after a date.
+   *
+   * @param seriesId the series ID
+   * @param fromDate the first day to delete from (inclusive)
+   * @return the number of deleted events, 0 if the series does not exist
+   */
+  int deleteSeriesFrom(UUID seriesId, LocalDate fromDate);
+
+  /**
+   * Applies one edit to every event matching a filter, as a single batch.
+   * Either all matching events are edited or, if the result would contain
+   * duplicate events (or overlapping ones under
+   * {@link OverlapPolicy#NO_OVERLAP}), none are.
+   *
+   * @param filter the events to edit
+   * @param spec   the modifications to apply to each event
+   * @return the number of edited events, 0 if none matched, or -1 if the
+   *         edit was rejected
+   */
+  int editAll(EventFilter filter, EditSpec spec);
+
+  /**
+   * Gets whether this calendar accepts overlapping events.
+   *
+   * @return the overlap policy
+   */
+  OverlapPolicy getOverlapPolicy();
+
+  /**
+   * Sets whether this calendar accepts overlapping events. Under
+   * {@link OverlapPolicy#NO_OVERLAP}, creates and edits that would make two
+   * events share a minute are rejected like duplicates are.
+   *
+   * @param policy the new policy
+   * @return false if the policy is NO_OVERLAP and stored events already
+   *         overlap, in which case the policy is unchanged
+   */
+  boolean setOverlapPolicy(OverlapPolicy policy);
+
+  /**
+   * Splits a window into alternating busy and available blocks. Overlapping
+   * and back-to-back events merge into a single busy block.
+   *
+   * @param startDateTime the window start (inclusive)
+   * @param endDateTime   the window end (exclusive)
+   * @return the blocks in order, covering the whole window
+   */
+  List<TimeBlock> getAvailability(LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+  /**
+   * Gets the first events starting at or after a date-time, in chronological
+   * order.
+   *
+   * @param dateTime the earliest start time (inclusive)
+   * @param limit    the maximum number of events to return
+   * @return up to {@code limit} events
+   * @throws IllegalArgumentException if the limit is negative
+   */
+  List<EventInterface> getNextEvents(LocalDateTime dateTime, int limit);
+
+  /**
+   * Checks busy status for many date-times at once. Equivalent to calling
+   * {@link #isBusy(LocalDateTime)} for each, but answered in a single pass.
+   *
+   * @param dateTimes the date-times to check, in any order
+   * @return for each date-time, in input order, whether it is busy
+   */
+  boolean[] isBusyAt(List<LocalDateTime> dateTimes);
+
+  /**
+   * Summarizes each day of a date range: event count, busy minutes and the
+   * first few subjects. A day's events are those {@link #getEventsOnDate}
+   * would return for it.
+   *
+   * @param startDate the first day (inclusive)
+   * @param endDate   the last day (inclusive)
+   * @return one summary per day, in date order
+   * @throws IllegalArgumentException if the end date is before the start date
+   */
+  List<DaySummary> getDaySummaries(LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Gets the hit, miss and eviction counters of the model's query result
+   * caches, for reporting how well repeated queries are served.
+   *
+   * @return the combined cache statistics, all zero if the model does not
+   *         cache query results
+   */
+  QueryCacheStats getQueryCacheStats();
+
+  /**
+   * Registers a listener for every event this model stores or removes from
+   * now on. The listener is first told about every event already stored.
+   *
+   * @param listener the listener to keep in sync with this model
+   */
+  void addEventListener(EventListener listener);
 }
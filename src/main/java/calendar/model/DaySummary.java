@@ -0,0 +1,100 @@
+package calendar.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Summary of one day of a calendar: how many events fall on it, how many
+ * minutes of it are busy, and the subjects of its first few events.
+ */
+public final class DaySummary {
+  /**
+   * Maximum number of subjects kept per day.
+   */
+  public static final int MAX_SUBJECTS = 3;
+
+  private final LocalDate date;
+  private final int eventCount;
+  private final long busyMinutes;
+  private final List<String> subjects;
+
+  /**
+   * Creates a day summary.
+   *
+   * @param date        the day
+   * @param eventCount  the number of events on the day
+   * @param busyMinutes the minutes of the day covered by at least one event
+   * @param subjects    subjects of the day's events in start order; only the
+   *                    first {@link #MAX_SUBJECTS} are kept
+   */
+  public DaySummary(LocalDate date, int eventCount, long busyMinutes, List<String> subjects) {
+    this.date = Objects.requireNonNull(date, "Date cannot be null");
+    this.eventCount = eventCount;
+    this.busyMinutes = busyMinutes;
+    this.subjects = Collections.unmodifiableList(
+        new ArrayList<>(subjects.subList(0, Math.min(subjects.size(), MAX_SUBJECTS))));
+  }
+
+  /**
+   * Gets the day.
+   *
+   * @return the date
+   */
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Gets the number of events on the day.
+   *
+   * @return the event count
+   */
+  public int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Gets the minutes of the day covered by at least one event.
+   *
+   * @return the busy minutes
+   */
+  public long getBusyMinutes() {
+    return busyMinutes;
+  }
+
+  /**
+   * Gets the subjects of the day's first events, in start order.
+   *
+   * @return at most {@link #MAX_SUBJECTS} subjects
+   */
+  public List<String> getSubjects() {
+    return subjects;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DaySummary)) {
+      return false;
+    }
+    DaySummary other = (DaySummary) obj;
+    return date.equals(other.date) && eventCount == other.eventCount
+        && busyMinutes == other.busyMinutes && subjects.equals(other.subjects);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(date, eventCount, busyMinutes, subjects);
+  }
+
+  @Override
+  public String toString() {
+    return "DaySummary{date=" + date + ", events=" + eventCount + ", minutes=" + busyMinutes
+        + ", subjects=" + subjects + "}";
+  }
+}
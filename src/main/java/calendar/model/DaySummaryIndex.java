@@ -0,0 +1,93 @@
+package calendar.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-day lists of the events falling on each date, kept up to date on every
+ * store and remove so day summaries never rescan the event store.
+ *
+ * <p>An event falls on every date from its start date through its end date,
+ * the same rule {@link CalendarModelInterface#getEventsOnDate} uses. Each
+ * day's list is sorted by start, then end, then subject.
+ */
+final class DaySummaryIndex implements EventIndex {
+  private static final Comparator<EventInterface> ORDER =
+      Comparator.comparing(EventInterface::getStartDateTime)
+          .thenComparing(EventInterface::getEndDateTime)
+          .thenComparing(EventInterface::getSubject);
+
+  private final Map<Long, List<EventInterface>> byDay;
+
+  /**
+   * Creates an empty index.
+   */
+  DaySummaryIndex() {
+    this.byDay = new HashMap<>();
+  }
+
+  @Override
+  public void add(int slot, EventInterface event) {
+    for (long day = firstDay(event); day <= lastDay(event); day++) {
+      List<EventInterface> events = byDay.computeIfAbsent(day, k -> new ArrayList<>(2));
+      int pos = Collections.binarySearch(events, event, ORDER);
+      events.add(pos < 0 ? -pos - 1 : pos, event);
+    }
+  }
+
+  @Override
+  public void remove(int slot, EventInterface event) {
+    for (long day = firstDay(event); day <= lastDay(event); day++) {
+      List<EventInterface> events = byDay.get(day);
+      if (events == null) {
+        continue;
+      }
+      int pos = Collections.binarySearch(events, event, ORDER);
+      if (pos >= 0) {
+        events.remove(pos);
+        if (events.isEmpty()) {
+          byDay.remove(day);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the number of events falling on a day.
+   *
+   * @param day the epoch day
+   * @return the event count
+   */
+  int count(long day) {
+    List<EventInterface> events = byDay.get(day);
+    return events == null ? 0 : events.size();
+  }
+
+  /**
+   * Gets the subjects of the first events falling on a day.
+   *
+   * @param day   the epoch day
+   * @param limit the maximum number of subjects
+   * @return the subjects, in start order
+   */
+  List<String> subjects(long day, int limit) {
+    List<EventInterface> events = byDay.getOrDefault(day, Collections.emptyList());
+    List<String> subjects = new ArrayList<>(Math.min(limit, events.size()));
+    for (int i = 0; i < events.size() && i < limit; i++) {
+      subjects.add(events.get(i).getSubject());
+    }
+    return subjects;
+  }
+
+  private static long firstDay(EventInterface event) {
+    return event.getStartDateTime().toLocalDate().toEpochDay();
+  }
+
+  private static long lastDay(EventInterface event) {
+    return event.getEndDateTime().toLocalDate().toEpochDay();
+  }
+}
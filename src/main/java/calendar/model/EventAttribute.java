@@ -0,0 +1,69 @@
+package calendar.model;
+
+/**
+ * Event attributes that events can be grouped by in statistics queries.
+ */
+public enum EventAttribute {
+  SUBJECT("subject"), LOCATION("location"), STATUS("status");
+
+  private final String value;
+
+  /**
+   * Constructor for EventAttribute enum.
+   *
+   * @param value string representation of the attribute
+   */
+  EventAttribute(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Parses a string to an EventAttribute enum, ignoring case.
+   *
+   * @param attribute the string representation
+   * @return the corresponding EventAttribute
+   * @throws IllegalArgumentException if attribute is null or invalid
+   */
+  public static EventAttribute fromString(String attribute) {
+    if (attribute == null) {
+      throw new IllegalArgumentException("Attribute cannot be null");
+    }
+
+    String normalized = attribute.trim().toLowerCase();
+    for (EventAttribute a : values()) {
+      if (a.value.equals(normalized)) {
+        return a;
+      }
+    }
+    throw new IllegalArgumentException("Invalid attribute " + attribute
+        + ". Valid attributes are subject, location and status.");
+  }
+
+  /**
+   * Gets the group key of an event for this attribute. Events without a
+   * location are grouped under the empty string.
+   *
+   * @param event the event
+   * @return the group key, never null
+   */
+  public String keyOf(EventInterface event) {
+    switch (this) {
+      case SUBJECT:
+        return event.getSubject();
+      case LOCATION:
+        return event.getLocation().orElse("");
+      default:
+        return event.isPrivate() ? EventStatus.PRIVATE.getValue() : EventStatus.PUBLIC.getValue();
+    }
+  }
+
+  /**
+   * Returns the string representation of this attribute.
+   *
+   * @return the attribute value
+   */
+  @Override
+  public String toString() {
+    return value;
+  }
+}
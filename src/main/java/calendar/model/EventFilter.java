@@ -0,0 +1,84 @@
+package calendar.model;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Selects events by exact attribute values and an optional time window.
+ *
+ * <p>An event matches when every condition equals the event's value for that
+ * attribute, as given by {@link EventAttribute#keyOf}, and the event overlaps
+ * the window. Models may answer a filter from whichever index is cheapest, so
+ * the conditions are kept as data rather than as an opaque predicate.
+ */
+public final class EventFilter {
+  private final Map<EventAttribute, String> conditions;
+  private final LocalDateTime startDateTime;
+  private final LocalDateTime endDateTime;
+
+  /**
+   * Creates a filter.
+   *
+   * @param conditions    attribute values an event must have; may be empty
+   * @param startDateTime start of the window (inclusive), or null for no lower bound
+   * @param endDateTime   end of the window (exclusive), or null for no upper bound
+   */
+  public EventFilter(Map<EventAttribute, String> conditions, LocalDateTime startDateTime,
+                     LocalDateTime endDateTime) {
+    this.conditions = conditions.isEmpty()
+        ? Collections.emptyMap()
+        : Collections.unmodifiableMap(new EnumMap<>(conditions));
+    this.startDateTime = startDateTime;
+    this.endDateTime = endDateTime;
+  }
+
+  /**
+   * Gets the attribute values an event must have.
+   *
+   * @return the conditions, unmodifiable
+   */
+  public Map<EventAttribute, String> getConditions() {
+    return conditions;
+  }
+
+  /**
+   * Gets the start of the window.
+   *
+   * @return the window start, or null if unbounded
+   */
+  public LocalDateTime getStartDateTime() {
+    return startDateTime;
+  }
+
+  /**
+   * Gets the end of the window.
+   *
+   * @return the window end, or null if unbounded
+   */
+  public LocalDateTime getEndDateTime() {
+    return endDateTime;
+  }
+
+  /**
+   * Checks an event against the conditions and the window.
+   *
+   * @param event the event
+   * @return true if the event matches
+   */
+  public boolean test(EventInterface event) {
+    if (startDateTime != null && !event.getEndDateTime().isAfter(startDateTime)) {
+      return false;
+    }
+    if (endDateTime != null && !event.getStartDateTime().isBefore(endDateTime)) {
+      return false;
+    }
+    for (Map.Entry<EventAttribute, String> condition : conditions.entrySet()) {
+      if (!condition.getKey().keyOf(event).equals(condition.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
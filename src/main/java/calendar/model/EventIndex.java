@@ -0,0 +1,46 @@
+package calendar.model;
+
+import java.util.List;
+
+/**
+ * Secondary index maintained by {@link PartitionedCalendarModel}.
+ *
+ * <p>The model assigns every stored event an integer slot and notifies each
+ * registered index whenever an event is stored or removed. Edits are a remove
+ * of the old event followed by a store of the new one, so indexes never need
+ * to know about {@link EditSpec} or series edits.
+ *
+ * <p>Bulk deletes hand all removed events to {@link #removeAll} at once, so
+ * indexes that keep postings can splice each list once per batch.
+ */
+interface EventIndex {
+
+  /**
+   * Records a newly stored event.
+   *
+   * @param slot  the event's slot in the model's event table
+   * @param event the stored event
+   */
+  void add(int slot, EventInterface event);
+
+  /**
+   * Forgets an event that is being removed.
+   *
+   * @param slot  the event's slot in the model's event table
+   * @param event the removed event
+   */
+  void remove(int slot, EventInterface event);
+
+  /**
+   * Forgets a batch of events that are being removed. The default removes
+   * them one at a time.
+   *
+   * @param slots  the events' slots, in increasing order
+   * @param events the removed events, aligned with {@code slots}
+   */
+  default void removeAll(int[] slots, List<EventInterface> events) {
+    for (int i = 0; i < slots.length; i++) {
+      remove(slots[i], events.get(i));
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package calendar.model;
+
+/**
+ * Callback told about every event a calendar model stores or removes.
+ *
+ * <p>Edits are reported as a removal of the old event followed by a store of
+ * the new one, so listeners never need to know about {@link EditSpec} or
+ * series edits.
+ */
+public interface EventListener {
+
+  /**
+   * Called after an event is stored.
+   *
+   * @param event the stored event
+   */
+  void eventStored(EventInterface event);
+
+  /**
+   * Called when an event is removed.
+   *
+   * @param event the removed event
+   */
+  void eventRemoved(EventInterface event);
+}
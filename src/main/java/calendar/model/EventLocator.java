@@ -0,0 +1,58 @@
+package calendar.model;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps event IDs to the calendar holding them, across all calendars of a
+ * {@link CalendarManager}.
+ *
+ * <p>Each calendar's model feeds the locator through an {@link EventListener}
+ * registered by {@link #track(Calendar)}, so every store and remove, including
+ * the remove-then-store of an edit, keeps the map current. Entries point at
+ * the {@link Calendar} object itself, so renames need no bookkeeping.
+ *
+ * <p>IDs are expected to be unique across calendars (copies get fresh IDs).
+ * If two calendars did hold the same ID, the latest store wins and a remove
+ * only clears the entry owned by the removing calendar.
+ */
+final class EventLocator {
+  private final Map<UUID, Calendar> owners;
+
+  /**
+   * Creates an empty locator.
+   */
+  EventLocator() {
+    this.owners = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Starts tracking the events of a calendar, including those it already holds.
+   *
+   * @param calendar the calendar
+   */
+  void track(Calendar calendar) {
+    calendar.getModel().addEventListener(new EventListener() {
+      @Override
+      public void eventStored(EventInterface event) {
+        owners.put(event.getId(), calendar);
+      }
+
+      @Override
+      public void eventRemoved(EventInterface event) {
+        owners.remove(event.getId(), calendar);
+      }
+    });
+  }
+
+  /**
+   * Finds the calendar holding an event.
+   *
+   * @param eventId the event ID
+   * @return the calendar, or null if no tracked calendar holds the event
+   */
+  Calendar calendarOf(UUID eventId) {
+    return eventId == null ? null : owners.get(eventId);
+  }
+}
@@ -0,0 +1,184 @@
+package calendar.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Slot table for the events stored in a {@link PartitionedCalendarModel}.
+ *
+ * <p>Every stored event gets an integer slot. Removing an event frees its
+ * slot, and freed slots are handed out again, oldest first, before the table
+ * grows. An edit unstores and restores its events, so the table stays as
+ * large as the most events ever live at once rather than growing with every
+ * edit. Fresh slots are handed out in increasing order, so postings lists
+ * are mostly appended to; a reused slot is inserted in place.
+ *
+ * <p>Start and end times are also kept as primitive minute columns, so
+ * aggregations can read them by slot without touching the event objects.
+ *
+ * <p>REPRESENTATION INVARIANTS:
+ * - {@code slotsById} maps each live event ID to the slot holding that event
+ * - {@code events[slot]} is null for removed slots and for slots &gt;= {@code next}
+ * - {@code live} equals the number of non-null entries in {@code events}
+ * - {@code free} holds exactly the slots below {@code next} whose entry is null
+ */
+final class EventTable {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private EventInterface[] events;
+  private long[] startMinutes;
+  private long[] endMinutes;
+  private final Map<UUID, Integer> slotsById;
+  private final Deque<Integer> free;
+  private int next;
+  private int live;
+
+  /**
+   * Creates an empty table.
+   */
+  EventTable() {
+    this.events = new EventInterface[INITIAL_CAPACITY];
+    this.startMinutes = new long[INITIAL_CAPACITY];
+    this.endMinutes = new long[INITIAL_CAPACITY];
+    this.slotsById = new HashMap<>();
+    this.free = new ArrayDeque<>();
+  }
+
+  /**
+   * Stores an event, reusing the oldest freed slot if there is one.
+   *
+   * @param event the event to store
+   * @return the slot assigned to the event
+   */
+  int add(EventInterface event) {
+    int slot;
+    if (!free.isEmpty()) {
+      slot = free.poll();
+    } else {
+      if (next == events.length) {
+        events = Arrays.copyOf(events, events.length * 2);
+        startMinutes = Arrays.copyOf(startMinutes, events.length);
+        endMinutes = Arrays.copyOf(endMinutes, events.length);
+      }
+      slot = next++;
+    }
+    events[slot] = event;
+    startMinutes[slot] = minuteOf(event.getStartDateTime());
+    endMinutes[slot] = minuteOf(event.getEndDateTime());
+    slotsById.put(event.getId(), slot);
+    live++;
+    return slot;
+  }
+
+  /**
+   * Empties a slot.
+   *
+   * @param slot the slot to empty
+   */
+  void remove(int slot) {
+    EventInterface event = events[slot];
+    if (event == null) {
+      return;
+    }
+    events[slot] = null;
+    slotsById.remove(event.getId(), slot);
+    free.add(slot);
+    live--;
+  }
+
+  /**
+   * Gets the event in a slot.
+   *
+   * @param slot the slot
+   * @return the event, or null if the slot is empty
+   */
+  EventInterface get(int slot) {
+    return slot >= 0 && slot < next ? events[slot] : null;
+  }
+
+  /**
+   * Finds the slot of a stored event.
+   *
+   * @param eventId the event ID
+   * @return the slot, or -1 if no stored event has that ID
+   */
+  int slotOf(UUID eventId) {
+    Integer slot = slotsById.get(eventId);
+    return slot == null ? -1 : slot;
+  }
+
+  /**
+   * Finds a stored event by ID.
+   *
+   * @param eventId the event ID
+   * @return the event, or null if not stored
+   */
+  EventInterface byId(UUID eventId) {
+    return get(slotOf(eventId));
+  }
+
+  /**
+   * Gets the start time of the event in a slot.
+   *
+   * @param slot a non-empty slot
+   * @return the start, as minutes since the epoch in local time
+   */
+  long startMinute(int slot) {
+    return startMinutes[slot];
+  }
+
+  /**
+   * Gets the end time of the event in a slot.
+   *
+   * @param slot a non-empty slot
+   * @return the end, as minutes since the epoch in local time
+   */
+  long endMinute(int slot) {
+    return endMinutes[slot];
+  }
+
+  /**
+   * Converts a local date-time to the minute scale of the time columns.
+   *
+   * @param dateTime the date-time
+   * @return minutes since 1970-01-01T00:00 in the same local time
+   */
+  static long minuteOf(LocalDateTime dateTime) {
+    return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+  }
+
+  /**
+   * Converts epoch minutes back to a local date-time, the inverse of
+   * {@link #minuteOf(LocalDateTime)}.
+   *
+   * @param minute minutes since the epoch
+   * @return the date-time
+   */
+  static LocalDateTime dateTimeOf(long minute) {
+    return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+  }
+
+  /**
+   * Gets the number of stored events.
+   *
+   * @return the live event count
+   */
+  int size() {
+    return live;
+  }
+
+  /**
+   * Gets the number of slots the columns can hold before they grow.
+   *
+   * @return the allocated slot count
+   */
+  int capacity() {
+    return events.length;
+  }
+}
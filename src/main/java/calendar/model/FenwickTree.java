@@ -0,0 +1,114 @@
+package calendar.model;
+
+/**
+ * Fenwick tree (binary indexed tree) of long values keyed by epoch day.
+ *
+ * <p>Point updates and range sums both take O(log n) for n days of capacity.
+ * The covered day range starts empty and doubles whenever a day outside it is
+ * updated; growing rebuilds the tree from the raw per-day values in O(n).
+ *
+ * <p>REPRESENTATION INVARIANTS:
+ * - {@code values[i]} is the value of day {@code base + i}
+ * - {@code tree[i]} (1-based) is the sum of {@code values} over
+ *   {@code (i - lowbit(i), i]}
+ * - {@code tree.length == values.length + 1}
+ */
+final class FenwickTree {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long base;
+  private long[] values;
+  private long[] tree;
+
+  /**
+   * Creates an empty tree.
+   */
+  FenwickTree() {
+    this.values = new long[0];
+    this.tree = new long[1];
+  }
+
+  /**
+   * Adds a delta to one day.
+   *
+   * @param day   the epoch day
+   * @param delta the amount to add
+   */
+  void add(long day, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    ensureCovers(day);
+    int pos = (int) (day - base);
+    values[pos] += delta;
+    for (int i = pos + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  /**
+   * Sums the values of the days in {@code [fromDay, toDay)}.
+   *
+   * @param fromDay the first epoch day (inclusive)
+   * @param toDay   the last epoch day (exclusive)
+   * @return the sum, 0 if the range is empty
+   */
+  long sum(long fromDay, long toDay) {
+    if (fromDay >= toDay) {
+      return 0;
+    }
+    return prefix(toDay) - prefix(fromDay);
+  }
+
+  private long prefix(long day) {
+    int count;
+    if (day <= base) {
+      count = 0;
+    } else if (day >= base + values.length) {
+      count = values.length;
+    } else {
+      count = (int) (day - base);
+    }
+    long total = 0;
+    for (int i = count; i > 0; i -= i & -i) {
+      total += tree[i];
+    }
+    return total;
+  }
+
+  private void ensureCovers(long day) {
+    if (values.length == 0) {
+      base = day - INITIAL_CAPACITY / 2;
+      values = new long[INITIAL_CAPACITY];
+      tree = new long[INITIAL_CAPACITY + 1];
+      return;
+    }
+    if (day >= base && day < base + values.length) {
+      return;
+    }
+    long newBase = base;
+    int capacity = values.length;
+    while (day < newBase || day >= newBase + capacity) {
+      if (day < newBase) {
+        newBase -= capacity;
+      }
+      capacity *= 2;
+    }
+    long[] grown = new long[capacity];
+    System.arraycopy(values, 0, grown, (int) (base - newBase), values.length);
+    base = newBase;
+    values = grown;
+    rebuild();
+  }
+
+  private void rebuild() {
+    tree = new long[values.length + 1];
+    for (int i = 1; i < tree.length; i++) {
+      tree[i] += values[i - 1];
+      int parent = i + (i & -i);
+      if (parent < tree.length) {
+        tree[parent] += tree[i];
+      }
+    }
+  }
+}
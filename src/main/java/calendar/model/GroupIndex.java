@@ -0,0 +1,90 @@
+package calendar.model;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Secondary index grouping event slots by one attribute value, such as the
+ * location or the privacy status.
+ *
+ * <p>Each distinct value maps to the sorted postings of the slots that carry
+ * it. Aggregations read these postings together with the event table's time
+ * columns, so they never need the event objects themselves.
+ */
+final class GroupIndex implements EventIndex {
+  private final Function<EventInterface, String> keyOf;
+  private final NavigableMap<String, Postings> groups;
+
+  /**
+   * Creates an empty index over one attribute.
+   *
+   * @param keyOf extracts the group key of an event; never returns null
+   */
+  GroupIndex(Function<EventInterface, String> keyOf) {
+    this.keyOf = keyOf;
+    this.groups = new TreeMap<>();
+  }
+
+  @Override
+  public void add(int slot, EventInterface event) {
+    groups.computeIfAbsent(keyOf.apply(event), k -> new Postings()).add(slot);
+  }
+
+  @Override
+  public void remove(int slot, EventInterface event) {
+    String key = keyOf.apply(event);
+    Postings slots = groups.get(key);
+    if (slots != null) {
+      slots.remove(slot);
+      if (slots.isEmpty()) {
+        groups.remove(key);
+      }
+    }
+  }
+
+  @Override
+  public void removeAll(int[] slots, List<EventInterface> events) {
+    Map<String, Postings> batch = new HashMap<>();
+    for (int i = 0; i < slots.length; i++) {
+      batch.computeIfAbsent(keyOf.apply(events.get(i)), k -> new Postings()).add(slots[i]);
+    }
+    for (Map.Entry<String, Postings> entry : batch.entrySet()) {
+      Postings group = groups.get(entry.getKey());
+      if (group != null) {
+        group.removeAll(entry.getValue().toArray());
+        if (group.isEmpty()) {
+          groups.remove(entry.getKey());
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the slots of the events in one group.
+   *
+   * @param key the group key
+   * @return the sorted slots, possibly empty
+   */
+  int[] slotsOf(String key) {
+    Postings slots = groups.get(key);
+    return slots == null ? new int[0] : slots.toArray();
+  }
+
+  /**
+   * Copies out every group's postings, ordered by key.
+   *
+   * @return group key to sorted slots
+   */
+  Map<String, int[]> groups() {
+    Map<String, int[]> copy = new LinkedHashMap<>();
+    for (Map.Entry<String, Postings> entry : groups.entrySet()) {
+      copy.put(entry.getKey(), entry.getValue().toArray());
+    }
+    return copy;
+  }
+}
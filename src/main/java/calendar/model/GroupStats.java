@@ -0,0 +1,77 @@
+package calendar.model;
+
+import java.util.Objects;
+
+/**
+ * Aggregate of the events sharing one attribute value: how many there are
+ * and how many minutes they book in total.
+ */
+public final class GroupStats {
+  private final String key;
+  private final long eventCount;
+  private final long bookedMinutes;
+
+  /**
+   * Creates a group aggregate.
+   *
+   * @param key           the attribute value shared by the group (empty if unset)
+   * @param eventCount    the number of events in the group
+   * @param bookedMinutes the total minutes booked by those events
+   */
+  public GroupStats(String key, long eventCount, long bookedMinutes) {
+    this.key = Objects.requireNonNull(key, "Key cannot be null");
+    this.eventCount = eventCount;
+    this.bookedMinutes = bookedMinutes;
+  }
+
+  /**
+   * Gets the attribute value shared by the group.
+   *
+   * @return the key, empty if the attribute is unset
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the number of events in the group.
+   *
+   * @return the event count
+   */
+  public long getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Gets the total minutes booked by the group's events.
+   *
+   * @return the booked minutes
+   */
+  public long getBookedMinutes() {
+    return bookedMinutes;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof GroupStats)) {
+      return false;
+    }
+    GroupStats other = (GroupStats) obj;
+    return key.equals(other.key) && eventCount == other.eventCount
+        && bookedMinutes == other.bookedMinutes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(key, eventCount, bookedMinutes);
+  }
+
+  @Override
+  public String toString() {
+    return "GroupStats{key='" + key + "', events=" + eventCount + ", minutes=" + bookedMinutes
+        + "}";
+  }
+}
@@ -0,0 +1,269 @@
+package calendar.model;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Event construction helpers shared by the calendar model implementations.
+ *
+ * <p>Series expansion and edit application do not depend on how events are
+ * stored, so every model delegates to these methods to keep their behavior
+ * identical.
+ */
+final class ModelUtils {
+
+  /**
+   * Maximum number of years to generate series events into the future.
+   * Prevents infinite loops for series with no end date or far-future end dates.
+   */
+  static final int SERIES_MAX_YEARS = 10;
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private ModelUtils() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Generates all occurrences for an event series.
+   *
+   * @param series the series configuration
+   * @return list of all event occurrences, in chronological order
+   */
+  static List<EventInterface> generateOccurrences(EventSeries series) {
+    List<EventInterface> occurrences = new ArrayList<>();
+
+    LocalDateTime startTime = series.getTemplate().getStartDateTime();
+    LocalDateTime endTime = series.getTemplate().getEndDateTime();
+
+    LocalDate templateDate = startTime.toLocalDate();
+    int startHour = startTime.getHour();
+    int startMinute = startTime.getMinute();
+
+    int durationMinutes = (int) Duration.between(startTime, endTime).toMinutes();
+
+    LocalDate currentDate = templateDate;
+    Set<DayOfWeek> weekdays = series.getWeekdays();
+    int occurrenceCount = 0;
+
+    while (true) {
+      if (weekdays.contains(currentDate.getDayOfWeek())) {
+        LocalDateTime eventStart = LocalDateTime.of(currentDate,
+            LocalTime.of(startHour, startMinute));
+        LocalDateTime eventEnd = eventStart.plusMinutes(durationMinutes);
+
+        EventInterface occurrence = new Event(
+            series.getTemplate().getSubject(),
+            eventStart,
+            eventEnd,
+            series.getTemplate().getDescription().orElse(null),
+            series.getTemplate().getLocation().orElse(null),
+            series.getTemplate().isPrivate(),
+            UUID.randomUUID(),
+            series.getSeriesId());
+
+        occurrences.add(occurrence);
+        occurrenceCount++;
+
+        if (series.getOccurrences() != null && occurrenceCount >= series.getOccurrences()) {
+          break;
+        }
+      }
+
+      if (series.usesEndDate() && currentDate.isAfter(series.getEndDate())) {
+        break;
+      }
+
+      currentDate = currentDate.plusDays(1);
+
+      if (currentDate.isAfter(templateDate.plusYears(SERIES_MAX_YEARS))) {
+        break;
+      }
+    }
+
+    return occurrences;
+  }
+
+  /**
+   * Applies an edit specification to an event.
+   *
+   * @param event the event to modify
+   * @param spec  the edit specification
+   * @return a new event with modifications applied
+   */
+  static EventInterface applyEditSpec(EventInterface event, EditSpec spec) {
+    String newSubject = (spec.getNewSubject() != null)
+        ? spec.getNewSubject()
+        : event.getSubject();
+
+    LocalDateTime newStart = (spec.getNewStart() != null)
+        ? spec.getNewStart()
+        : event.getStartDateTime();
+
+    LocalDateTime newEnd;
+    if (spec.getNewEnd() != null) {
+      newEnd = spec.getNewEnd();
+    } else if (spec.getNewStart() != null) {
+      Duration duration = Duration.between(event.getStartDateTime(), event.getEndDateTime());
+      newEnd = newStart.plus(duration);
+    } else {
+      newEnd = event.getEndDateTime();
+    }
+
+    String newDescription = (spec.getNewDescription() != null)
+        ? spec.getNewDescription()
+        : event.getDescription().orElse(null);
+
+    String newLocation = (spec.getNewLocation() != null)
+        ? spec.getNewLocation()
+        : event.getLocation().orElse(null);
+
+    Boolean newIsPrivate = (spec.getNewStatus() != null)
+        ? spec.getNewStatus().isPrivate()
+        : event.isPrivate() ? Boolean.TRUE : Boolean.FALSE;
+
+    return event.withModifications(
+        newSubject, newStart, newEnd, newDescription, newLocation, newIsPrivate,
+        event.getSeriesId().orElse(null));
+  }
+
+  /**
+   * Turns merged busy intervals into alternating busy and available blocks
+   * covering a whole window.
+   *
+   * @param busy          disjoint, non-adjacent busy intervals in increasing
+   *                      order, each within the window
+   * @param startDateTime the window start
+   * @param endDateTime   the window end
+   * @return the blocks, in order
+   */
+  static List<TimeBlock> withFreeGaps(List<LocalDateTime[]> busy, LocalDateTime startDateTime,
+                                      LocalDateTime endDateTime) {
+    List<TimeBlock> blocks = new ArrayList<>(busy.size() * 2 + 1);
+    LocalDateTime cursor = startDateTime;
+    for (LocalDateTime[] interval : busy) {
+      if (cursor.isBefore(interval[0])) {
+        blocks.add(new TimeBlock(cursor, interval[0], false));
+      }
+      blocks.add(new TimeBlock(interval[0], interval[1], true));
+      cursor = interval[1];
+    }
+    if (cursor.isBefore(endDateTime)) {
+      blocks.add(new TimeBlock(cursor, endDateTime, false));
+    }
+    return blocks;
+  }
+
+  /**
+   * Answers many busy probes in one sweep. Probes are visited in time order
+   * while events are consumed in start order; an instant is busy exactly when
+   * the latest end among events started so far lies after it.
+   *
+   * @param startOrdered events sorted by start time
+   * @param dateTimes    the instants to check, in any order
+   * @return for each instant, in input order, whether it is busy
+   */
+  static boolean[] busyAt(List<EventInterface> startOrdered, List<LocalDateTime> dateTimes) {
+    Integer[] order = new Integer[dateTimes.size()];
+    for (int i = 0; i < order.length; i++) {
+      Objects.requireNonNull(dateTimes.get(i), "Date-time cannot be null");
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparing(dateTimes::get));
+
+    boolean[] busy = new boolean[order.length];
+    LocalDateTime reach = null;
+    int next = 0;
+    for (int probe : order) {
+      LocalDateTime dateTime = dateTimes.get(probe);
+      while (next < startOrdered.size()
+          && !startOrdered.get(next).getStartDateTime().isAfter(dateTime)) {
+        LocalDateTime end = startOrdered.get(next++).getEndDateTime();
+        if (reach == null || end.isAfter(reach)) {
+          reach = end;
+        }
+      }
+      busy[probe] = reach != null && reach.isAfter(dateTime);
+    }
+    return busy;
+  }
+
+  /**
+   * Applies an edit to a batch of events and checks the result for
+   * duplicates once: against the stored events that are not being edited,
+   * and among the modified events themselves.
+   *
+   * @param toEdit   the events to edit
+   * @param spec     the modifications
+   * @param isStored tells whether an equal event is currently stored
+   * @return the modified events, aligned with {@code toEdit}, or null if the
+   *         edit would create duplicate events
+   */
+  static List<EventInterface> applyBatchEdit(List<EventInterface> toEdit, EditSpec spec,
+                                             Predicate<EventInterface> isStored) {
+    Set<EventInterface> editing = new HashSet<>(toEdit);
+    Set<EventInterface> modifiedEvents = new LinkedHashSet<>();
+    for (EventInterface event : toEdit) {
+      EventInterface modified = applyEditSpec(event, spec);
+      if ((!editing.contains(modified) && isStored.test(modified))
+          || !modifiedEvents.add(modified)) {
+        return null;
+      }
+    }
+    return new ArrayList<>(modifiedEvents);
+  }
+
+  /**
+   * Applies a series-wide edit to one occurrence of a series.
+   *
+   * <p>A new start time keeps each occurrence on its own date, and any start
+   * change detaches the occurrence from its series.
+   *
+   * @param event the occurrence to modify
+   * @param spec  the edit specification
+   * @return the modified occurrence
+   */
+  static EventInterface applySeriesEdit(EventInterface event, EditSpec spec) {
+    EditSpec eventSpec = spec;
+    if (spec.getNewStart() != null && spec.getNewEnd() == null) {
+      LocalTime newTime = spec.getNewStart().toLocalTime();
+      LocalDate eventDate = event.getStartDateTime().toLocalDate();
+      LocalDateTime adjustedStart = LocalDateTime.of(eventDate, newTime);
+      eventSpec = new EditSpec(
+          spec.getNewSubject(),
+          adjustedStart,
+          null,
+          spec.getNewDescription(),
+          spec.getNewLocation(),
+          spec.getNewStatus());
+    }
+    EventInterface modified = applyEditSpec(event, eventSpec);
+
+    if (spec.getNewStart() != null) {
+      modified = new Event(
+          modified.getSubject(),
+          modified.getStartDateTime(),
+          modified.getEndDateTime(),
+          modified.getDescription().orElse(null),
+          modified.getLocation().orElse(null),
+          modified.isPrivate(),
+          modified.getId(),
+          null);
+    }
+    return modified;
+  }
+}
@@ -0,0 +1,321 @@
+package calendar.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * One calendar month of events inside a {@link PartitionedCalendarModel}.
+ *
+ * <p>A shard owns every event whose start falls in its month. Events are kept
+ * in a small sorted store keyed by start time, so range scans seek directly to
+ * the first candidate instead of filtering the whole month.
+ *
+ * <p>REPRESENTATION INVARIANTS:
+ * - every event in the store starts within {@code month}
+ * - each start-time bucket is sorted by end time, then subject
+ * - no two events in the shard are equal (subject + start + end)
+ * - {@code size} equals the total number of events across all buckets
+ *
+ * <p>Every method takes the shard's own read or write lock, so shards can be
+ * read, snapshotted and evicted independently of each other.
+ */
+final class MonthShard {
+  private final YearMonth month;
+  private final NavigableMap<LocalDateTime, List<EventInterface>> byStart;
+  private final ReadWriteLock lock;
+  private int size;
+  private long maxDurationMinutes;
+
+  /**
+   * Creates an empty shard for a month.
+   *
+   * @param month the month this shard covers
+   */
+  MonthShard(YearMonth month) {
+    this.month = month;
+    this.byStart = new TreeMap<>();
+    this.lock = new ReentrantReadWriteLock();
+  }
+
+  /**
+   * Gets the month this shard covers.
+   *
+   * @return the month
+   */
+  YearMonth getMonth() {
+    return month;
+  }
+
+  /**
+   * Checks whether an equal event (subject + start + end) is stored.
+   *
+   * @param event the event to look for
+   * @return true if an equal event exists
+   */
+  boolean contains(EventInterface event) {
+    lock.readLock().lock();
+    try {
+      List<EventInterface> bucket = byStart.get(event.getStartDateTime());
+      return bucket != null && bucket.contains(event);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the event with the given business key.
+   *
+   * @param subject the subject
+   * @param start   the start time
+   * @param end     the end time
+   * @return the stored event, or null if none matches
+   */
+  EventInterface find(String subject, LocalDateTime start, LocalDateTime end) {
+    lock.readLock().lock();
+    try {
+      List<EventInterface> bucket = byStart.get(start);
+      if (bucket == null) {
+        return null;
+      }
+      for (EventInterface e : bucket) {
+        if (e.getSubject().equals(subject) && e.getEndDateTime().equals(end)) {
+          return e;
+        }
+      }
+      return null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Adds an event unless an equal one is already stored.
+   *
+   * @param event the event to add
+   * @return true if added, false if a duplicate exists
+   */
+  boolean add(EventInterface event) {
+    lock.writeLock().lock();
+    try {
+      List<EventInterface> bucket =
+          byStart.computeIfAbsent(event.getStartDateTime(), k -> new ArrayList<>(1));
+      if (bucket.contains(event)) {
+        return false;
+      }
+      int pos = 0;
+      while (pos < bucket.size() && compareWithinBucket(bucket.get(pos), event) < 0) {
+        pos++;
+      }
+      bucket.add(pos, event);
+      size++;
+      long minutes = Duration.between(event.getStartDateTime(), event.getEndDateTime())
+          .toMinutes();
+      maxDurationMinutes = Math.max(maxDurationMinutes, minutes);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the stored instance of an event, matched by event ID.
+   *
+   * @param event the event to remove
+   * @return true if the event was stored in this shard
+   */
+  boolean remove(EventInterface event) {
+    lock.writeLock().lock();
+    try {
+      List<EventInterface> bucket = byStart.get(event.getStartDateTime());
+      if (bucket == null) {
+        return false;
+      }
+      for (int i = 0; i < bucket.size(); i++) {
+        if (bucket.get(i).getId().equals(event.getId())) {
+          bucket.remove(i);
+          if (bucket.isEmpty()) {
+            byStart.remove(event.getStartDateTime());
+          }
+          size--;
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Splices out every event that starts in [{@code fromStart}, {@code toStart}).
+   * The whole start range is cut from the store at once rather than removed
+   * event by event.
+   *
+   * @param fromStart earliest start time (inclusive)
+   * @param toStart   latest start time (exclusive)
+   * @return the removed events, in start order
+   */
+  List<EventInterface> removeRange(LocalDateTime fromStart, LocalDateTime toStart) {
+    lock.writeLock().lock();
+    try {
+      if (!fromStart.isBefore(toStart)) {
+        return Collections.emptyList();
+      }
+      NavigableMap<LocalDateTime, List<EventInterface>> range =
+          byStart.subMap(fromStart, true, toStart, false);
+      List<EventInterface> removed = new ArrayList<>();
+      for (List<EventInterface> bucket : range.values()) {
+        removed.addAll(bucket);
+      }
+      range.clear();
+      size -= removed.size();
+      return removed;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Appends, in start order, every event that starts in
+   * [{@code fromStart}, {@code toStart}) and satisfies the filter.
+   *
+   * @param fromStart earliest start time (inclusive)
+   * @param toStart   latest start time (exclusive)
+   * @param filter    the predicate an event must satisfy
+   * @param out       the list to append to
+   */
+  void collect(LocalDateTime fromStart, LocalDateTime toStart,
+               Predicate<EventInterface> filter, List<EventInterface> out) {
+    lock.readLock().lock();
+    try {
+      if (!fromStart.isBefore(toStart)) {
+        return;
+      }
+      for (List<EventInterface> bucket : byStart.subMap(fromStart, true, toStart, false)
+          .values()) {
+        for (EventInterface e : bucket) {
+          if (filter.test(e)) {
+            out.add(e);
+          }
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Appends, in start order, events starting at or after {@code fromStart}
+   * until {@code out} holds {@code limit} events or the shard runs out.
+   *
+   * @param fromStart earliest start time (inclusive)
+   * @param limit     the size {@code out} should reach
+   * @param out       the list to append to
+   */
+  void collectFirst(LocalDateTime fromStart, int limit, List<EventInterface> out) {
+    lock.readLock().lock();
+    try {
+      for (List<EventInterface> bucket : byStart.tailMap(fromStart, true).values()) {
+        for (EventInterface e : bucket) {
+          if (out.size() >= limit) {
+            return;
+          }
+          out.add(e);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Checks whether any event starting in [{@code fromStart}, {@code toStart})
+   * satisfies the filter.
+   *
+   * @param fromStart earliest start time (inclusive)
+   * @param toStart   latest start time (exclusive)
+   * @param filter    the predicate to test
+   * @return true if at least one event matches
+   */
+  boolean anyMatch(LocalDateTime fromStart, LocalDateTime toStart,
+                   Predicate<EventInterface> filter) {
+    lock.readLock().lock();
+    try {
+      if (!fromStart.isBefore(toStart)) {
+        return false;
+      }
+      for (List<EventInterface> bucket : byStart.subMap(fromStart, true, toStart, false)
+          .values()) {
+        for (EventInterface e : bucket) {
+          if (filter.test(e)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns an immutable, start-ordered copy of the shard's events.
+   *
+   * @return the snapshot
+   */
+  List<EventInterface> snapshot() {
+    lock.readLock().lock();
+    try {
+      List<EventInterface> copy = new ArrayList<>(size);
+      for (Map.Entry<LocalDateTime, List<EventInterface>> entry : byStart.entrySet()) {
+        copy.addAll(entry.getValue());
+      }
+      return Collections.unmodifiableList(copy);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of events stored in this shard.
+   *
+   * @return the event count
+   */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the longest event duration ever stored in this shard.
+   *
+   * @return the duration in minutes
+   */
+  long getMaxDurationMinutes() {
+    lock.readLock().lock();
+    try {
+      return maxDurationMinutes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static int compareWithinBucket(EventInterface a, EventInterface b) {
+    int byEnd = a.getEndDateTime().compareTo(b.getEndDateTime());
+    return byEnd != 0 ? byEnd : a.getSubject().compareTo(b.getSubject());
+  }
+}
@@ -0,0 +1,63 @@
+package calendar.model;
+
+/**
+ * Enum representing whether a calendar accepts events that overlap in time.
+ * ALLOW_OVERLAP only rejects exact duplicates; NO_OVERLAP also rejects any
+ * event that would share a minute with another, as needed for resources
+ * such as meeting rooms.
+ */
+public enum OverlapPolicy {
+  ALLOW_OVERLAP("allow-overlap"), NO_OVERLAP("no-overlap");
+
+  private final String value;
+
+  /**
+   * Constructor for OverlapPolicy enum.
+   *
+   * @param value string representation of the policy
+   */
+  OverlapPolicy(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Parses a string to an OverlapPolicy enum, ignoring case.
+   *
+   * @param policy the string representation
+   * @return the corresponding OverlapPolicy
+   * @throws IllegalArgumentException if policy is null or invalid
+   */
+  public static OverlapPolicy fromString(String policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("Policy cannot be null");
+    }
+
+    String normalized = policy.trim().toLowerCase();
+    for (OverlapPolicy p : values()) {
+      if (p.value.equals(normalized)) {
+        return p;
+      }
+    }
+    throw new IllegalArgumentException("Invalid policy " + policy
+        + ". Valid policies are allow-overlap and no-overlap.");
+  }
+
+  /**
+   * Gets the string value of this policy.
+   *
+   * @return the policy value
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the string representation of this policy.
+   *
+   * @return the policy value
+   */
+  @Override
+  public String toString() {
+    return value;
+  }
+}
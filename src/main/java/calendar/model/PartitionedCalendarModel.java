@@ -0,0 +1,1142 @@
+package calendar.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Calendar model that partitions its events into monthly shards.
+ *
+ * <p>Every event lives in the shard of the month it starts in. Queries only
+ * visit the shards whose months can overlap the requested window, so asking
+ * about "this week" stays cheap even when the calendar holds a decade of
+ * generated series occurrences.
+ *
+ * <p>DESIGN RATIONALE:
+ * - Shards are kept in a sorted map keyed by {@link YearMonth}, which makes
+ *   partition pruning a simple sub-map lookup
+ * - An event can start in an earlier month and still overlap the window, so
+ *   scans begin at window start minus the longest event duration seen
+ * - Event IDs and series membership are indexed at the model level, making
+ *   ID lookups and series edits independent of the calendar size
+ * - Stored events get integer slots; secondary indexes such as the full-text
+ *   index keep sorted slot postings and are updated on every store and remove,
+ *   which covers single edits and series edits alike
+ * - A sorted subject index resolves subject + start lookups and completions
+ *   without scanning
+ * - Location and status group indexes feed statistics straight from slot
+ *   postings and the table's time columns, in parallel for large groups
+ * - Per-day Fenwick trees of booked and merged busy minutes answer
+ *   utilization over any day range in O(log n)
+ * - Whole shards can be snapshotted, evicted and restored independently
+ * - Range deletes splice whole start ranges out of each shard and hand the
+ *   removed events to the indexes as one batch
+ * - A per-day index keeps the start-ordered events of each date, so day
+ *   summaries for month and week views read one bucket per day
+ * - Batched busy probes are sorted and answered in one sweep over the events
+ *   of the window they span, instead of one cached lookup each
+ * - "Next N events" seeks into the first shard at or after the given time and
+ *   walks forward until N events are collected; empty shards are never kept
+ * - Free/busy blocks for a window are read off the busy-minutes index's
+ *   cover step function in one pass, without touching events
+ * - Under the no-overlap policy, the busy-minutes index doubles as an
+ *   interval index: one event is checked in O(log n) and a series in one
+ *   merged sweep
+ * - Bulk edits select their events from the intersected attribute postings
+ *   or the time window, whichever is smaller, and write back in one batch
+ * - Date, range and busy queries go through bounded LRU result caches. Each
+ *   entry is stamped with the modification counters of the months its scan
+ *   reads, so a write to March leaves cached April results valid
+ *
+ * <p>REPRESENTATION INVARIANTS:
+ * - every event in {@code table} is stored in exactly one shard, the one
+ *   for the month of its start time
+ * - {@code seriesMembers} holds exactly the IDs of stored events with that series ID
+ * - {@code maxDurationMinutes} is at least the duration of every stored event
+ *   and never decreases
+ * - {@code monthVersions} only grow, and a month's version is bumped whenever
+ *   an event starting in that month is stored or removed
+ */
+public class PartitionedCalendarModel implements CalendarModelInterface {
+
+  /**
+   * Group size from which statistics are summed with a parallel stream.
+   */
+  private static final int PARALLEL_STATS_THRESHOLD = 50_000;
+
+  /**
+   * Maximum number of results kept by each query cache.
+   */
+  private static final int QUERY_CACHE_CAPACITY = 512;
+
+  private static final Comparator<EventInterface> CHRONOLOGICAL =
+      Comparator.comparing(EventInterface::getStartDateTime)
+          .thenComparing(EventInterface::getEndDateTime);
+
+  private final NavigableMap<YearMonth, MonthShard> shards;
+
+  private final EventTable table;
+
+  private final TextIndex textIndex;
+
+  private final SubjectIndex subjectIndex;
+
+  private final GroupIndex locationIndex;
+
+  private final GroupIndex statusIndex;
+
+  private final BusyMinutesIndex busyIndex;
+
+  private final DaySummaryIndex dayIndex;
+
+  private final List<EventIndex> indexes;
+
+  private final Map<UUID, Set<UUID>> seriesMembers;
+
+  private final Map<UUID, EventSeries> seriesConfigs;
+
+  private final NavigableMap<YearMonth, Long> monthVersions;
+
+  private final QueryCache<List<EventInterface>> eventsCache;
+
+  private final QueryCache<Boolean> busyCache;
+
+  private volatile OverlapPolicy overlapPolicy;
+
+  private long maxDurationMinutes;
+
+  /**
+   * Creates a new empty partitioned calendar model.
+   */
+  public PartitionedCalendarModel() {
+    this.shards = new ConcurrentSkipListMap<>();
+    this.table = new EventTable();
+    this.textIndex = new TextIndex();
+    this.subjectIndex = new SubjectIndex();
+    this.locationIndex = new GroupIndex(EventAttribute.LOCATION::keyOf);
+    this.statusIndex = new GroupIndex(EventAttribute.STATUS::keyOf);
+    this.busyIndex = new BusyMinutesIndex();
+    this.dayIndex = new DaySummaryIndex();
+    this.overlapPolicy = OverlapPolicy.ALLOW_OVERLAP;
+    this.monthVersions = new ConcurrentSkipListMap<>();
+    this.eventsCache = new QueryCache<>(QUERY_CACHE_CAPACITY);
+    this.busyCache = new QueryCache<>(QUERY_CACHE_CAPACITY);
+    this.indexes = new ArrayList<>();
+    this.indexes.add(textIndex);
+    this.indexes.add(subjectIndex);
+    this.indexes.add(locationIndex);
+    this.indexes.add(statusIndex);
+    this.indexes.add(busyIndex);
+    this.indexes.add(dayIndex);
+    this.seriesMembers = new HashMap<>();
+    this.seriesConfigs = new HashMap<>();
+  }
+
+  @Override
+  public boolean createEvent(EventInterface event) {
+    Objects.requireNonNull(event, "Event cannot be null");
+
+    if (conflicts(Collections.singletonList(event), Collections.emptyList())) {
+      return false;
+    }
+    return store(event);
+  }
+
+  @Override
+  public boolean createEventSeries(EventSeries series) {
+    Objects.requireNonNull(series, "Series cannot be null");
+
+    List<EventInterface> occurrences = ModelUtils.generateOccurrences(series);
+
+    for (EventInterface occurrence : occurrences) {
+      if (contains(occurrence)) {
+        return false;
+      }
+    }
+    if (conflicts(occurrences, Collections.emptyList())) {
+      return false;
+    }
+
+    for (EventInterface occurrence : occurrences) {
+      store(occurrence);
+    }
+
+    seriesConfigs.put(series.getSeriesId(), series);
+
+    return true;
+  }
+
+  @Override
+  public boolean editEvent(UUID eventId, EditSpec spec) {
+    Objects.requireNonNull(eventId, "Event ID cannot be null");
+    Objects.requireNonNull(spec, "Edit specification cannot be null");
+
+    EventInterface event = table.byId(eventId);
+    if (event == null) {
+      return false;
+    }
+
+    EventInterface modified = ModelUtils.applyEditSpec(event, spec);
+
+    if (!modified.equals(event) && contains(modified)) {
+      return false;
+    }
+
+    if (conflicts(Collections.singletonList(modified), Collections.singletonList(event))) {
+      return false;
+    }
+    unstore(event);
+    store(modified);
+
+    return true;
+  }
+
+  @Override
+  public boolean editSeriesFrom(UUID seriesId, LocalDate fromDate, EditSpec spec) {
+    Objects.requireNonNull(seriesId, "Series ID cannot be null");
+    Objects.requireNonNull(fromDate, "From date cannot be null");
+    Objects.requireNonNull(spec, "Edit specification cannot be null");
+
+    if (!seriesConfigs.containsKey(seriesId)) {
+      return false;
+    }
+
+    List<EventInterface> toEdit = seriesEvents(seriesId,
+        e -> !e.getStartDateTime().toLocalDate().isBefore(fromDate));
+
+    return replaceAll(toEdit, spec);
+  }
+
+  @Override
+  public boolean editEntireSeries(UUID seriesId, EditSpec spec) {
+    Objects.requireNonNull(seriesId, "Series ID cannot be null");
+    Objects.requireNonNull(spec, "Edit specification cannot be null");
+
+    if (!seriesConfigs.containsKey(seriesId)) {
+      return false;
+    }
+
+    List<EventInterface> toEdit = seriesEvents(seriesId, e -> true);
+
+    if (!replaceAll(toEdit, spec)) {
+      return false;
+    }
+
+    if (spec.getNewStart() != null) {
+      seriesConfigs.remove(seriesId);
+    }
+
+    return true;
+  }
+
+  @Override
+  public List<EventInterface> getEventsOnDate(LocalDate date) {
+    Objects.requireNonNull(date, "Date cannot be null");
+
+    LocalDateTime dayStart = date.atStartOfDay();
+    LocalDateTime nextDay = date.plusDays(1).atStartOfDay();
+
+    return cachedScan("on " + date, dayStart, nextDay,
+        e -> !e.getEndDateTime().isBefore(dayStart));
+  }
+
+  @Override
+  public List<EventInterface> getEventsInRange(LocalDateTime startDateTime,
+                                               LocalDateTime endDateTime) {
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+    Objects.requireNonNull(endDateTime, "End date-time cannot be null");
+
+    return cachedScan("range " + startDateTime + " " + endDateTime, startDateTime, endDateTime,
+        e -> e.getEndDateTime().isAfter(startDateTime));
+  }
+
+  @Override
+  public List<EventInterface> getAllEvents() {
+    List<EventInterface> result = new ArrayList<>(table.size());
+    for (MonthShard shard : shards.values()) {
+      result.addAll(shard.snapshot());
+    }
+    return result;
+  }
+
+  @Override
+  public Iterator<EventInterface> iterateEventsOnDate(LocalDate date) {
+    Objects.requireNonNull(date, "Date cannot be null");
+
+    LocalDateTime dayStart = date.atStartOfDay();
+    return new ShardIterator(dayStart, date.plusDays(1).atStartOfDay(),
+        e -> !e.getEndDateTime().isBefore(dayStart));
+  }
+
+  @Override
+  public Iterator<EventInterface> iterateEventsInRange(LocalDateTime startDateTime,
+                                                       LocalDateTime endDateTime) {
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+    Objects.requireNonNull(endDateTime, "End date-time cannot be null");
+
+    return new ShardIterator(startDateTime, endDateTime,
+        e -> e.getEndDateTime().isAfter(startDateTime));
+  }
+
+  @Override
+  public Iterator<EventInterface> iterateAllEvents() {
+    return new ShardIterator(null, null, null);
+  }
+
+  @Override
+  public boolean isBusy(LocalDateTime dateTime) {
+    Objects.requireNonNull(dateTime, "Date-time cannot be null");
+
+    LocalDateTime upper = dateTime.plusMinutes(1);
+    String key = dateTime.toString();
+    long stamp = stamp(dateTime, upper);
+    Boolean cached = busyCache.get(key, stamp);
+    if (cached != null) {
+      return cached;
+    }
+
+    LocalDateTime lower = dateTime.minusMinutes(maxDurationMinutes);
+    boolean busy = false;
+    for (MonthShard shard : shardsBetween(lower, upper)) {
+      if (shard.anyMatch(lower, upper,
+          e -> !e.getStartDateTime().isAfter(dateTime) && e.getEndDateTime().isAfter(dateTime))) {
+        busy = true;
+        break;
+      }
+    }
+    busyCache.put(key, stamp, busy);
+    return busy;
+  }
+
+  @Override
+  public boolean[] isBusyAt(List<LocalDateTime> dateTimes) {
+    Objects.requireNonNull(dateTimes, "Date-times cannot be null");
+    if (dateTimes.isEmpty()) {
+      return new boolean[0];
+    }
+    LocalDateTime first = Collections.min(dateTimes);
+    LocalDateTime last = Collections.max(dateTimes);
+    return ModelUtils.busyAt(scan(first, last.plusMinutes(1), e -> true), dateTimes);
+  }
+
+  @Override
+  public void exportToCsv(Path filePath) throws IOException {
+    Objects.requireNonNull(filePath, "File path cannot be null");
+
+    String csv = calendar.util.CsvExporter.toCsv(getAllEvents());
+    Files.writeString(filePath, csv);
+  }
+
+  @Override
+  public EventInterface findEventById(UUID eventId) {
+    Objects.requireNonNull(eventId, "Event ID cannot be null");
+
+    return table.byId(eventId);
+  }
+
+  @Override
+  public EventInterface findEventByProperties(String subject, LocalDateTime startDateTime,
+                                              LocalDateTime endDateTime) {
+    Objects.requireNonNull(subject, "Subject cannot be null");
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+    Objects.requireNonNull(endDateTime, "End date-time cannot be null");
+
+    MonthShard shard = shards.get(YearMonth.from(startDateTime));
+    return shard == null ? null : shard.find(subject.trim(), startDateTime, endDateTime);
+  }
+
+  @Override
+  public List<EventInterface> searchEvents(String query, LocalDateTime startDateTime,
+                                           LocalDateTime endDateTime) {
+    Objects.requireNonNull(query, "Query cannot be null");
+
+    int[] hits = textIndex.search(query);
+    List<EventInterface> result = new ArrayList<>();
+    if (hits.length == 0) {
+      return result;
+    }
+
+    if (startDateTime != null && endDateTime != null
+        && countStartingBetween(startDateTime.minusMinutes(maxDurationMinutes), endDateTime)
+            < hits.length) {
+      for (EventInterface event : getEventsInRange(startDateTime, endDateTime)) {
+        if (Arrays.binarySearch(hits, table.slotOf(event.getId())) >= 0) {
+          result.add(event);
+        }
+      }
+      return result;
+    }
+
+    for (int slot : hits) {
+      EventInterface event = table.get(slot);
+      if ((startDateTime == null || event.getEndDateTime().isAfter(startDateTime))
+          && (endDateTime == null || event.getStartDateTime().isBefore(endDateTime))) {
+        result.add(event);
+      }
+    }
+    result.sort(CHRONOLOGICAL);
+    return result;
+  }
+
+  @Override
+  public EventInterface findEventBySubjectAndStart(String subject, LocalDateTime startDateTime) {
+    Objects.requireNonNull(subject, "Subject cannot be null");
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+
+    EventInterface first = null;
+    for (int slot : subjectIndex.slotsAt(subject.trim(), startDateTime)) {
+      EventInterface event = table.get(slot);
+      if (first == null || event.getEndDateTime().isBefore(first.getEndDateTime())) {
+        first = event;
+      }
+    }
+    return first;
+  }
+
+  @Override
+  public List<String> completeSubject(String prefix, int limit) {
+    Objects.requireNonNull(prefix, "Prefix cannot be null");
+
+    return subjectIndex.complete(prefix, limit);
+  }
+
+  @Override
+  public List<GroupStats> getStatistics(EventAttribute attribute, LocalDateTime startDateTime,
+                                        LocalDateTime endDateTime) {
+    Objects.requireNonNull(attribute, "Attribute cannot be null");
+
+    if (startDateTime != null && endDateTime != null
+        && countStartingBetween(startDateTime.minusMinutes(maxDurationMinutes), endDateTime)
+            < table.size()) {
+      return windowStatistics(attribute, startDateTime, endDateTime);
+    }
+
+    Map<String, int[]> groups;
+    switch (attribute) {
+      case SUBJECT:
+        groups = subjectIndex.groups();
+        break;
+      case LOCATION:
+        groups = locationIndex.groups();
+        break;
+      default:
+        groups = statusIndex.groups();
+        break;
+    }
+
+    long lower = startDateTime == null ? Long.MIN_VALUE : EventTable.minuteOf(startDateTime);
+    long upper = endDateTime == null ? Long.MAX_VALUE : EventTable.minuteOf(endDateTime);
+
+    List<GroupStats> result = new ArrayList<>();
+    for (Map.Entry<String, int[]> group : groups.entrySet()) {
+      IntStream slots = Arrays.stream(group.getValue());
+      if (group.getValue().length >= PARALLEL_STATS_THRESHOLD) {
+        slots = slots.parallel();
+      }
+      LongSummaryStatistics minutes = slots
+          .mapToLong(slot -> Math.min(table.endMinute(slot), upper)
+              - Math.max(table.startMinute(slot), lower))
+          .filter(booked -> booked > 0)
+          .summaryStatistics();
+      if (minutes.getCount() > 0) {
+        result.add(new GroupStats(group.getKey(), minutes.getCount(), minutes.getSum()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Groups only the events in the shards a window touches, for windows much
+   * narrower than the calendar, instead of walking every group's postings.
+   */
+  private List<GroupStats> windowStatistics(EventAttribute attribute, LocalDateTime from,
+                                            LocalDateTime to) {
+    long lower = EventTable.minuteOf(from);
+    long upper = EventTable.minuteOf(to);
+    Map<String, long[]> groups = new TreeMap<>();
+    for (EventInterface event : scan(from, to, e -> true)) {
+      long booked = Math.min(EventTable.minuteOf(event.getEndDateTime()), upper)
+          - Math.max(EventTable.minuteOf(event.getStartDateTime()), lower);
+      if (booked > 0) {
+        long[] totals = groups.computeIfAbsent(attribute.keyOf(event), k -> new long[2]);
+        totals[0]++;
+        totals[1] += booked;
+      }
+    }
+    List<GroupStats> result = new ArrayList<>(groups.size());
+    for (Map.Entry<String, long[]> group : groups.entrySet()) {
+      result.add(new GroupStats(group.getKey(), group.getValue()[0], group.getValue()[1]));
+    }
+    return result;
+  }
+
+  @Override
+  public long getBookedMinutes(LocalDate startDate, LocalDate endDate, boolean merged) {
+    return busyIndex.minutes(startDate.toEpochDay(), endDate.toEpochDay() + 1, merged);
+  }
+
+  @Override
+  public boolean deleteEvent(UUID eventId) {
+    Objects.requireNonNull(eventId, "Event ID cannot be null");
+
+    EventInterface event = table.byId(eventId);
+    if (event == null) {
+      return false;
+    }
+    unstore(event);
+    forgetEmptySeries(Collections.singletonList(event));
+    return true;
+  }
+
+  @Override
+  public int deleteEventsBetween(LocalDate startDate, LocalDate endDate) {
+    Objects.requireNonNull(startDate, "Start date cannot be null");
+    Objects.requireNonNull(endDate, "End date cannot be null");
+
+    LocalDateTime from = startDate.atStartOfDay();
+    LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+    List<EventInterface> deleted = new ArrayList<>();
+    for (MonthShard shard : shardsBetween(from, to)) {
+      List<EventInterface> spliced = shard.removeRange(from, to);
+      if (!spliced.isEmpty()) {
+        if (shard.size() == 0) {
+          shards.remove(shard.getMonth(), shard);
+        }
+        touch(shard.getMonth());
+        deleted.addAll(spliced);
+      }
+    }
+    unindexAll(deleted);
+    forgetEmptySeries(deleted);
+    return deleted.size();
+  }
+
+  @Override
+  public int deleteSeriesFrom(UUID seriesId, LocalDate fromDate) {
+    Objects.requireNonNull(seriesId, "Series ID cannot be null");
+    Objects.requireNonNull(fromDate, "From date cannot be null");
+
+    List<EventInterface> deleted = seriesEvents(seriesId,
+        e -> !e.getStartDateTime().toLocalDate().isBefore(fromDate));
+    unstoreAll(deleted);
+    forgetEmptySeries(deleted);
+    return deleted.size();
+  }
+
+  @Override
+  public int editAll(EventFilter filter, EditSpec spec) {
+    Objects.requireNonNull(filter, "Filter cannot be null");
+    Objects.requireNonNull(spec, "Edit specification cannot be null");
+
+    List<EventInterface> toEdit = select(filter);
+    if (toEdit.isEmpty()) {
+      return 0;
+    }
+    List<EventInterface> modifiedEvents = ModelUtils.applyBatchEdit(toEdit, spec,
+        this::contains);
+    if (modifiedEvents == null) {
+      return -1;
+    }
+
+    if (conflicts(modifiedEvents, toEdit)) {
+      return -1;
+    }
+    unstoreAll(toEdit);
+    for (EventInterface modified : modifiedEvents) {
+      store(modified);
+    }
+    return toEdit.size();
+  }
+
+  @Override
+  public OverlapPolicy getOverlapPolicy() {
+    return overlapPolicy;
+  }
+
+  @Override
+  public boolean setOverlapPolicy(OverlapPolicy policy) {
+    Objects.requireNonNull(policy, "Policy cannot be null");
+
+    if (policy == OverlapPolicy.NO_OVERLAP && busyIndex.hasOverlaps()) {
+      return false;
+    }
+    overlapPolicy = policy;
+    return true;
+  }
+
+  @Override
+  public List<TimeBlock> getAvailability(LocalDateTime startDateTime,
+                                         LocalDateTime endDateTime) {
+    Objects.requireNonNull(startDateTime, "Start date-time cannot be null");
+    Objects.requireNonNull(endDateTime, "End date-time cannot be null");
+
+    List<LocalDateTime[]> busy = new ArrayList<>();
+    for (long[] run : busyIndex.busyRuns(EventTable.minuteOf(startDateTime),
+        EventTable.minuteOf(endDateTime))) {
+      busy.add(new LocalDateTime[] {EventTable.dateTimeOf(run[0]), EventTable.dateTimeOf(run[1])});
+    }
+    return ModelUtils.withFreeGaps(busy, startDateTime, endDateTime);
+  }
+
+  @Override
+  public List<DaySummary> getDaySummaries(LocalDate startDate, LocalDate endDate) {
+    Objects.requireNonNull(startDate, "Start date cannot be null");
+    Objects.requireNonNull(endDate, "End date cannot be null");
+    if (endDate.isBefore(startDate)) {
+      throw new IllegalArgumentException("End date must not be before start date");
+    }
+
+    List<DaySummary> summaries = new ArrayList<>();
+    for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+      long epochDay = day.toEpochDay();
+      summaries.add(new DaySummary(day, dayIndex.count(epochDay),
+          busyIndex.minutes(epochDay, epochDay + 1, true),
+          dayIndex.subjects(epochDay, DaySummary.MAX_SUBJECTS)));
+    }
+    return summaries;
+  }
+
+  @Override
+  public List<EventInterface> getNextEvents(LocalDateTime dateTime, int limit) {
+    Objects.requireNonNull(dateTime, "Date-time cannot be null");
+    if (limit < 0) {
+      throw new IllegalArgumentException("Limit cannot be negative");
+    }
+    List<EventInterface> result = new ArrayList<>(Math.min(limit, table.size()));
+    for (MonthShard shard : shards.tailMap(YearMonth.from(dateTime), true).values()) {
+      if (result.size() >= limit) {
+        break;
+      }
+      shard.collectFirst(dateTime, limit, result);
+    }
+    return result;
+  }
+
+  @Override
+  public QueryCacheStats getQueryCacheStats() {
+    return eventsCache.stats().plus(busyCache.stats());
+  }
+
+  @Override
+  public void addEventListener(EventListener listener) {
+    Objects.requireNonNull(listener, "Listener cannot be null");
+
+    EventIndex index = new EventIndex() {
+      @Override
+      public void add(int slot, EventInterface event) {
+        listener.eventStored(event);
+      }
+
+      @Override
+      public void remove(int slot, EventInterface event) {
+        listener.eventRemoved(event);
+      }
+    };
+    for (EventInterface event : getAllEvents()) {
+      index.add(table.slotOf(event.getId()), event);
+    }
+    indexes.add(index);
+  }
+
+  /**
+   * Gets the number of event slots allocated by the model's event table.
+   * Slots freed by deletes and edits are reused, so this tracks the peak
+   * number of live events rather than the number of edits.
+   *
+   * @return the allocated slot count
+   */
+  public int getSlotCapacity() {
+    return table.capacity();
+  }
+
+  /**
+   * Lists the months that currently have a shard, in chronological order.
+   *
+   * @return the shard months
+   */
+  public List<YearMonth> getShardMonths() {
+    return new ArrayList<>(shards.keySet());
+  }
+
+  /**
+   * Returns an immutable, start-ordered copy of one shard's events.
+   *
+   * @param month the shard month
+   * @return the shard's events, or an empty list if the month has no shard
+   */
+  public List<EventInterface> snapshotShard(YearMonth month) {
+    Objects.requireNonNull(month, "Month cannot be null");
+
+    MonthShard shard = shards.get(month);
+    return shard == null ? Collections.emptyList() : shard.snapshot();
+  }
+
+  /**
+   * Detaches a whole shard from the model, e.g. to persist it elsewhere.
+   * Its events stop being visible to queries until restored.
+   *
+   * @param month the shard month
+   * @return the evicted events, or an empty list if the month has no shard
+   */
+  public List<EventInterface> evictShard(YearMonth month) {
+    Objects.requireNonNull(month, "Month cannot be null");
+
+    MonthShard shard = shards.remove(month);
+    if (shard == null) {
+      return Collections.emptyList();
+    }
+    touch(month);
+    List<EventInterface> evicted = shard.snapshot();
+    for (EventInterface event : evicted) {
+      unindex(event);
+    }
+    return evicted;
+  }
+
+  /**
+   * Restores previously evicted events. Events that would duplicate an
+   * existing event are skipped.
+   *
+   * @param events the events to restore
+   * @return the number of events restored
+   */
+  public int restoreShard(List<EventInterface> events) {
+    Objects.requireNonNull(events, "Events cannot be null");
+
+    int restored = 0;
+    for (EventInterface event : events) {
+      if (store(event)) {
+        restored++;
+      }
+    }
+    return restored;
+  }
+
+  /**
+   * Collects events starting in [{@code from} - longest duration, {@code to})
+   * that end after the filter's bound, visiting only overlapping shards.
+   *
+   * @param from   start of the window
+   * @param to     end of the window (exclusive)
+   * @param filter predicate on the event's end
+   * @return matching events in start order
+   */
+  private List<EventInterface> scan(LocalDateTime from, LocalDateTime to,
+                                    Predicate<EventInterface> filter) {
+    LocalDateTime lower = from.minusMinutes(maxDurationMinutes);
+    List<EventInterface> result = new ArrayList<>();
+    for (MonthShard shard : shardsBetween(lower, to)) {
+      shard.collect(lower, to, filter, result);
+    }
+    return result;
+  }
+
+  /**
+   * Finds the events matching a filter through the cheapest index. The
+   * postings of every attribute condition are intersected; the time window
+   * is used instead when fewer events start in its shards than that
+   * intersection holds.
+   */
+  private List<EventInterface> select(EventFilter filter) {
+    LocalDateTime from = filter.getStartDateTime();
+    LocalDateTime to = filter.getEndDateTime();
+    LocalDateTime fromStart = from == null ? null : from.minusMinutes(maxDurationMinutes);
+
+    List<int[]> lists = new ArrayList<>();
+    for (Map.Entry<EventAttribute, String> condition : filter.getConditions().entrySet()) {
+      switch (condition.getKey()) {
+        case SUBJECT:
+          lists.add(subjectIndex.slotsBetween(condition.getValue(), fromStart, to));
+          break;
+        case LOCATION:
+          lists.add(locationIndex.slotsOf(condition.getValue()));
+          break;
+        default:
+          lists.add(statusIndex.slotsOf(condition.getValue()));
+          break;
+      }
+    }
+    int[] slots = null;
+    if (!lists.isEmpty()) {
+      lists.sort((a, b) -> Integer.compare(a.length, b.length));
+      slots = lists.get(0);
+      for (int i = 1; i < lists.size() && slots.length > 0; i++) {
+        slots = Postings.intersect(slots, lists.get(i));
+      }
+    }
+
+    if (from != null && to != null
+        && (slots == null || countStartingBetween(fromStart, to) < slots.length)) {
+      return scan(from, to, filter::test);
+    }
+    List<EventInterface> result = new ArrayList<>();
+    if (slots == null) {
+      for (EventInterface event : getAllEvents()) {
+        if (filter.test(event)) {
+          result.add(event);
+        }
+      }
+      return result;
+    }
+    for (int slot : slots) {
+      EventInterface event = table.get(slot);
+      if (filter.test(event)) {
+        result.add(event);
+      }
+    }
+    result.sort(CHRONOLOGICAL);
+    return result;
+  }
+
+  /**
+   * Checks whether storing some events in place of others would break the
+   * no-overlap policy, before anything is unstored. The incoming events are
+   * sorted once and checked against each other, then the minutes they cover
+   * outside the replaced events are checked against the stored events in a
+   * single sweep of the busy-minutes index. Under the policy no two stored
+   * events overlap, so a minute inside a replaced event is covered by that
+   * event alone and is free once it is replaced.
+   */
+  private boolean conflicts(List<EventInterface> incoming, List<EventInterface> replaced) {
+    if (overlapPolicy == OverlapPolicy.ALLOW_OVERLAP || incoming.isEmpty()) {
+      return false;
+    }
+    long[][] in = sortedIntervals(incoming);
+    long reach = Long.MIN_VALUE;
+    for (int i = 0; i < in[0].length; i++) {
+      if (in[0][i] < in[1][i]) {
+        if (in[0][i] < reach) {
+          return true;
+        }
+        reach = Math.max(reach, in[1][i]);
+      }
+    }
+    if (replaced.isEmpty()) {
+      return busyIndex.overlapsAny(in[0], in[1]);
+    }
+
+    long[][] out = sortedIntervals(replaced);
+    long[] starts = new long[in[0].length + out[0].length];
+    long[] ends = new long[starts.length];
+    int n = 0;
+    int j = 0;
+    for (int i = 0; i < in[0].length; i++) {
+      long from = in[0][i];
+      long to = in[1][i];
+      while (j < out[0].length && out[1][j] <= from) {
+        j++;
+      }
+      for (int k = j; k < out[0].length && out[0][k] < to && from < to; k++) {
+        if (out[0][k] > from) {
+          starts[n] = from;
+          ends[n++] = out[0][k];
+        }
+        from = Math.max(from, out[1][k]);
+      }
+      if (from < to) {
+        starts[n] = from;
+        ends[n++] = to;
+      }
+    }
+    return busyIndex.overlapsAny(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n));
+  }
+
+  /**
+   * Gets the start and end minutes of some events, in chronological order.
+   */
+  private static long[][] sortedIntervals(List<EventInterface> events) {
+    List<EventInterface> sorted = new ArrayList<>(events);
+    sorted.sort(CHRONOLOGICAL);
+    long[][] intervals = new long[2][sorted.size()];
+    for (int i = 0; i < sorted.size(); i++) {
+      intervals[0][i] = EventTable.minuteOf(sorted.get(i).getStartDateTime());
+      intervals[1][i] = EventTable.minuteOf(sorted.get(i).getEndDateTime());
+    }
+    return intervals;
+  }
+
+  private List<EventInterface> cachedScan(String key, LocalDateTime from, LocalDateTime to,
+                                          Predicate<EventInterface> filter) {
+    long stamp = stamp(from, to);
+    List<EventInterface> cached = eventsCache.get(key, stamp);
+    if (cached == null) {
+      cached = Collections.unmodifiableList(scan(from, to, filter));
+      eventsCache.put(key, stamp, cached);
+    }
+    return new ArrayList<>(cached);
+  }
+
+  /**
+   * Sums the versions of the months a scan of {@code [from, to)} reads. The
+   * month range only widens as {@code maxDurationMinutes} grows and versions
+   * only increase, so an unchanged sum means none of those months changed;
+   * months added by widening with version 0 never held events.
+   */
+  private long stamp(LocalDateTime from, LocalDateTime to) {
+    YearMonth first = YearMonth.from(from.minusMinutes(maxDurationMinutes));
+    YearMonth last = YearMonth.from(to);
+    long sum = 0;
+    if (!last.isBefore(first)) {
+      for (long version : monthVersions.subMap(first, true, last, true).values()) {
+        sum += version;
+      }
+    }
+    return sum;
+  }
+
+  private void touch(YearMonth month) {
+    monthVersions.merge(month, 1L, Long::sum);
+  }
+
+  /**
+   * Upper bound on the number of events a window scan would visit, taken from
+   * the sizes of the shards it touches.
+   */
+  private long countStartingBetween(LocalDateTime from, LocalDateTime to) {
+    long count = 0;
+    for (MonthShard shard : shardsBetween(from, to)) {
+      count += shard.size();
+    }
+    return count;
+  }
+
+  private Iterable<MonthShard> shardsBetween(LocalDateTime from, LocalDateTime to) {
+    YearMonth first = YearMonth.from(from);
+    YearMonth last = YearMonth.from(to);
+    if (last.isBefore(first)) {
+      return Collections.emptyList();
+    }
+    return shards.subMap(first, true, last, true).values();
+  }
+
+  private List<EventInterface> seriesEvents(UUID seriesId, Predicate<EventInterface> filter) {
+    List<EventInterface> result = new ArrayList<>();
+    for (UUID id : seriesMembers.getOrDefault(seriesId, Collections.emptySet())) {
+      EventInterface event = table.byId(id);
+      if (filter.test(event)) {
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Applies a series edit to every given occurrence, or to none of them if
+   * any result would duplicate an existing event.
+   */
+  private boolean replaceAll(List<EventInterface> toEdit, EditSpec spec) {
+    if (toEdit.isEmpty()) {
+      return false;
+    }
+
+    List<EventInterface> modifiedEvents = new ArrayList<>(toEdit.size());
+    for (EventInterface event : toEdit) {
+      EventInterface modified = ModelUtils.applySeriesEdit(event, spec);
+      if (!modified.equals(event) && contains(modified)) {
+        return false;
+      }
+      modifiedEvents.add(modified);
+    }
+
+    if (conflicts(modifiedEvents, toEdit)) {
+      return false;
+    }
+    for (EventInterface event : toEdit) {
+      unstore(event);
+    }
+    for (EventInterface modified : modifiedEvents) {
+      store(modified);
+    }
+    return true;
+  }
+
+  private boolean contains(EventInterface event) {
+    MonthShard shard = shards.get(YearMonth.from(event.getStartDateTime()));
+    return shard != null && shard.contains(event);
+  }
+
+  private boolean store(EventInterface event) {
+    MonthShard shard = shards.computeIfAbsent(YearMonth.from(event.getStartDateTime()),
+        MonthShard::new);
+    if (!shard.add(event)) {
+      return false;
+    }
+    maxDurationMinutes = Math.max(maxDurationMinutes, shard.getMaxDurationMinutes());
+    touch(shard.getMonth());
+    index(event);
+    return true;
+  }
+
+  private void unstore(EventInterface event) {
+    YearMonth month = YearMonth.from(event.getStartDateTime());
+    MonthShard shard = shards.get(month);
+    if (shard != null && shard.remove(event)) {
+      if (shard.size() == 0) {
+        shards.remove(month, shard);
+      }
+      touch(month);
+      unindex(event);
+    }
+  }
+
+  /**
+   * Removes a batch of stored events from their shards, then unindexes them
+   * together.
+   */
+  private void unstoreAll(List<EventInterface> events) {
+    for (EventInterface event : events) {
+      YearMonth month = YearMonth.from(event.getStartDateTime());
+      MonthShard shard = shards.get(month);
+      if (shard != null && shard.remove(event)) {
+        if (shard.size() == 0) {
+          shards.remove(month, shard);
+        }
+        touch(month);
+      }
+    }
+    unindexAll(events);
+  }
+
+  private void index(EventInterface event) {
+    int slot = table.add(event);
+    for (EventIndex index : indexes) {
+      index.add(slot, event);
+    }
+    event.getSeriesId().ifPresent(seriesId ->
+        seriesMembers.computeIfAbsent(seriesId, k -> new LinkedHashSet<>()).add(event.getId()));
+  }
+
+  private void unindex(EventInterface event) {
+    int slot = table.slotOf(event.getId());
+    if (slot >= 0) {
+      for (EventIndex index : indexes) {
+        index.remove(slot, event);
+      }
+      table.remove(slot);
+    }
+    forgetMember(event);
+  }
+
+  /**
+   * Unindexes a batch of events already removed from their shards. The
+   * indexes get the whole batch in slot order, so each postings list is
+   * spliced once rather than once per event.
+   */
+  private void unindexAll(List<EventInterface> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    List<EventInterface> bySlot = new ArrayList<>(events);
+    bySlot.sort(Comparator.comparingInt(e -> table.slotOf(e.getId())));
+    int[] slots = new int[bySlot.size()];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = table.slotOf(bySlot.get(i).getId());
+    }
+    for (EventIndex index : indexes) {
+      index.removeAll(slots, bySlot);
+    }
+    for (int i = 0; i < slots.length; i++) {
+      table.remove(slots[i]);
+      forgetMember(bySlot.get(i));
+    }
+  }
+
+  private void forgetEmptySeries(List<EventInterface> deleted) {
+    for (EventInterface event : deleted) {
+      event.getSeriesId().ifPresent(seriesId -> {
+        if (!seriesMembers.containsKey(seriesId)) {
+          seriesConfigs.remove(seriesId);
+        }
+      });
+    }
+  }
+
+  private void forgetMember(EventInterface event) {
+    event.getSeriesId().ifPresent(seriesId -> {
+      Set<UUID> members = seriesMembers.get(seriesId);
+      if (members != null) {
+        members.remove(event.getId());
+        if (members.isEmpty()) {
+          seriesMembers.remove(seriesId);
+        }
+      }
+    });
+  }
+
+  /**
+   * Walks the shards a scan would visit, one month at a time, so at most one
+   * shard's matching events are held at once. Yields the same events in the
+   * same order as {@link #scan}, or as {@link #getAllEvents} when there is no
+   * window. Bypasses the query cache, which would hold the whole result.
+   */
+  private final class ShardIterator implements Iterator<EventInterface> {
+    private final LocalDateTime lower;
+    private final LocalDateTime to;
+    private final Predicate<EventInterface> filter;
+    private final Iterator<MonthShard> shardIterator;
+    private List<EventInterface> batch;
+    private int next;
+
+    /**
+     * Creates an iterator over a window, or over every event when
+     * {@code from} is null.
+     */
+    private ShardIterator(LocalDateTime from, LocalDateTime to,
+                          Predicate<EventInterface> filter) {
+      this.lower = from == null ? null : from.minusMinutes(maxDurationMinutes);
+      this.to = to;
+      this.filter = filter;
+      this.shardIterator = from == null
+          ? shards.values().iterator() : shardsBetween(lower, to).iterator();
+      this.batch = Collections.emptyList();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == batch.size()) {
+        if (!shardIterator.hasNext()) {
+          return false;
+        }
+        MonthShard shard = shardIterator.next();
+        if (lower == null) {
+          batch = shard.snapshot();
+        } else {
+          batch = new ArrayList<>();
+          shard.collect(lower, to, filter, batch);
+        }
+        next = 0;
+      }
+      return true;
+    }
+
+    @Override
+    public EventInterface next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return batch.get(next++);
+    }
+  }
+}
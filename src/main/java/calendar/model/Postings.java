@@ -0,0 +1,201 @@
+package calendar.model;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of event slots, used as the postings list of a secondary index.
+ *
+ * <p>Fresh slots are handed out in increasing order by {@link EventTable}, so
+ * adds are mostly appends; a reused slot is inserted in place. Removal shifts
+ * the tail down.
+ *
+ * <p>REPRESENTATION INVARIANTS:
+ * - {@code slots[0..size)} is strictly increasing
+ */
+final class Postings {
+  private static final int[] EMPTY = new int[0];
+
+  private int[] slots;
+  private int size;
+
+  /**
+   * Creates an empty postings list.
+   */
+  Postings() {
+    this.slots = new int[4];
+  }
+
+  /**
+   * Adds a slot, keeping the list sorted. Adding a present slot does nothing.
+   *
+   * @param slot the slot to add
+   */
+  void add(int slot) {
+    if (size > 0 && slots[size - 1] >= slot) {
+      int pos = Arrays.binarySearch(slots, 0, size, slot);
+      if (pos >= 0) {
+        return;
+      }
+      insertAt(-pos - 1, slot);
+      return;
+    }
+    insertAt(size, slot);
+  }
+
+  /**
+   * Removes a slot if present.
+   *
+   * @param slot the slot to remove
+   */
+  void remove(int slot) {
+    int pos = Arrays.binarySearch(slots, 0, size, slot);
+    if (pos >= 0) {
+      System.arraycopy(slots, pos + 1, slots, pos, size - pos - 1);
+      size--;
+    }
+  }
+
+  /**
+   * Removes several slots in one pass over the list, instead of shifting the
+   * tail once per slot.
+   *
+   * @param sorted the slots to remove, in increasing order
+   */
+  void removeAll(int[] sorted) {
+    int kept = 0;
+    int j = 0;
+    for (int i = 0; i < size; i++) {
+      while (j < sorted.length && sorted[j] < slots[i]) {
+        j++;
+      }
+      if (j < sorted.length && sorted[j] == slots[i]) {
+        continue;
+      }
+      slots[kept++] = slots[i];
+    }
+    size = kept;
+  }
+
+  /**
+   * Checks whether a slot is present.
+   *
+   * @param slot the slot
+   * @return true if present
+   */
+  boolean contains(int slot) {
+    return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+  }
+
+  /**
+   * Gets the number of slots in the list.
+   *
+   * @return the size
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the list is empty.
+   *
+   * @return true if empty
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Copies the slots out as a sorted array.
+   *
+   * @return the slots
+   */
+  int[] toArray() {
+    return size == 0 ? EMPTY : Arrays.copyOf(slots, size);
+  }
+
+  /**
+   * Intersects two sorted slot arrays. When one side is much shorter, its
+   * slots are binary-searched in the longer side instead of merged.
+   *
+   * @param a a sorted slot array
+   * @param b a sorted slot array
+   * @return the sorted intersection
+   */
+  static int[] intersect(int[] a, int[] b) {
+    if (a.length > b.length) {
+      return intersect(b, a);
+    }
+    int[] out = new int[a.length];
+    int n = 0;
+    if (a.length * 8 < b.length) {
+      int from = 0;
+      for (int slot : a) {
+        int pos = Arrays.binarySearch(b, from, b.length, slot);
+        if (pos >= 0) {
+          out[n++] = slot;
+          from = pos + 1;
+        } else {
+          from = -pos - 1;
+        }
+      }
+    } else {
+      int i = 0;
+      int j = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+          i++;
+        } else if (a[i] > b[j]) {
+          j++;
+        } else {
+          out[n++] = a[i];
+          i++;
+          j++;
+        }
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  /**
+   * Unions several sorted slot arrays.
+   *
+   * @param lists sorted slot arrays
+   * @return the sorted union without duplicates
+   */
+  static int[] union(Iterable<int[]> lists) {
+    int total = 0;
+    int count = 0;
+    int[] only = EMPTY;
+    for (int[] list : lists) {
+      total += list.length;
+      count++;
+      only = list;
+    }
+    if (count <= 1) {
+      return only;
+    }
+    int[] all = new int[total];
+    int n = 0;
+    for (int[] list : lists) {
+      System.arraycopy(list, 0, all, n, list.length);
+      n += list.length;
+    }
+    Arrays.sort(all);
+    int distinct = 0;
+    for (int i = 0; i < all.length; i++) {
+      if (i == 0 || all[i] != all[i - 1]) {
+        all[distinct++] = all[i];
+      }
+    }
+    return Arrays.copyOf(all, distinct);
+  }
+
+  private void insertAt(int pos, int slot) {
+    if (size == slots.length) {
+      slots = Arrays.copyOf(slots, slots.length * 2);
+    }
+    System.arraycopy(slots, pos, slots, pos + 1, size - pos);
+    slots[pos] = slot;
+    size++;
+  }
+}
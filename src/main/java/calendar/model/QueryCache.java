@@ -0,0 +1,99 @@
+package calendar.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of query results.
+ *
+ * <p>Every entry carries the stamp that was current when it was computed.
+ * A lookup with a different stamp treats the entry as stale, drops it and
+ * reports a miss, so callers never have to invalidate entries explicitly.
+ * When the cache is full, the least recently used entry is evicted.
+ *
+ * @param <V> the type of cached results
+ */
+final class QueryCache<V> {
+  private final Map<String, Entry<V>> entries;
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long invalidations;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param capacity the maximum number of entries, at least 1
+   */
+  QueryCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+        if (size() > capacity) {
+          evictions++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Looks up a result.
+   *
+   * @param key   the query key
+   * @param stamp the current stamp of the data the query reads
+   * @return the cached result, or null if absent or stale
+   */
+  synchronized V get(String key, long stamp) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    if (entry.stamp != stamp) {
+      entries.remove(key);
+      invalidations++;
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.value;
+  }
+
+  /**
+   * Stores a result.
+   *
+   * @param key   the query key
+   * @param stamp the stamp read before the result was computed
+   * @param value the result
+   */
+  synchronized void put(String key, long stamp, V value) {
+    entries.put(key, new Entry<>(stamp, value));
+  }
+
+  /**
+   * Gets the counters of this cache.
+   *
+   * @return a snapshot of the statistics
+   */
+  synchronized QueryCacheStats stats() {
+    return new QueryCacheStats(hits, misses, evictions, invalidations, entries.size());
+  }
+
+  /**
+   * A cached result and the stamp it was computed under.
+   */
+  private static final class Entry<V> {
+    private final long stamp;
+    private final V value;
+
+    private Entry(long stamp, V value) {
+      this.stamp = stamp;
+      this.value = value;
+    }
+  }
+}
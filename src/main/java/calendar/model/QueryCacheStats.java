@@ -0,0 +1,106 @@
+package calendar.model;
+
+import java.util.Locale;
+
+/**
+ * Counters of a query-result cache: how often lookups hit, how often they
+ * missed, and why entries left the cache.
+ */
+public final class QueryCacheStats {
+  private final long hits;
+  private final long misses;
+  private final long evictions;
+  private final long invalidations;
+  private final int size;
+
+  /**
+   * Creates a statistics snapshot.
+   *
+   * @param hits          lookups answered from the cache
+   * @param misses        lookups that had to run the query
+   * @param evictions     entries dropped to make room
+   * @param invalidations entries dropped because the calendar changed
+   * @param size          entries currently cached
+   */
+  public QueryCacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+    this.invalidations = invalidations;
+    this.size = size;
+  }
+
+  /**
+   * Gets the number of lookups answered from the cache.
+   *
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of lookups that had to run the query.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of entries dropped to make room for newer ones.
+   *
+   * @return the eviction count
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Gets the number of entries dropped because the data they were computed
+   * from changed.
+   *
+   * @return the invalidation count
+   */
+  public long getInvalidations() {
+    return invalidations;
+  }
+
+  /**
+   * Gets the number of entries currently cached.
+   *
+   * @return the size
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the share of lookups answered from the cache.
+   *
+   * @return hits over lookups, 0 if there were no lookups
+   */
+  public double getHitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * Adds the counters of another cache to these.
+   *
+   * @param other the other statistics
+   * @return the combined statistics
+   */
+  public QueryCacheStats plus(QueryCacheStats other) {
+    return new QueryCacheStats(hits + other.hits, misses + other.misses,
+        evictions + other.evictions, invalidations + other.invalidations, size + other.size);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT,
+        "%d hit(s), %d miss(es), %.1f%% hit rate, %d eviction(s), %d invalidation(s), "
+            + "%d cached", hits, misses, 100 * getHitRate(), evictions, invalidations, size);
+  }
+}
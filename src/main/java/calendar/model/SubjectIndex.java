@@ -0,0 +1,133 @@
+package calendar.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted index from event subject to the start times of its events.
+ *
+ * <p>Each subject maps to its own start-ordered map of slot postings, so
+ * finding "the event called X starting at T" is one lookup per level instead
+ * of a scan over a day or the whole calendar. Because subjects are kept in
+ * sorted order, every subject with a given prefix is a contiguous sub-map,
+ * which is what subject completion reads.
+ */
+final class SubjectIndex implements EventIndex {
+  private final NavigableMap<String, NavigableMap<LocalDateTime, Postings>> bySubject;
+
+  /**
+   * Creates an empty subject index.
+   */
+  SubjectIndex() {
+    this.bySubject = new TreeMap<>();
+  }
+
+  @Override
+  public void add(int slot, EventInterface event) {
+    bySubject.computeIfAbsent(event.getSubject(), k -> new TreeMap<>())
+        .computeIfAbsent(event.getStartDateTime(), k -> new Postings())
+        .add(slot);
+  }
+
+  @Override
+  public void remove(int slot, EventInterface event) {
+    NavigableMap<LocalDateTime, Postings> starts = bySubject.get(event.getSubject());
+    if (starts == null) {
+      return;
+    }
+    Postings slots = starts.get(event.getStartDateTime());
+    if (slots != null) {
+      slots.remove(slot);
+      if (slots.isEmpty()) {
+        starts.remove(event.getStartDateTime());
+      }
+    }
+    if (starts.isEmpty()) {
+      bySubject.remove(event.getSubject());
+    }
+  }
+
+  /**
+   * Gets the slots of the events with a subject and start time.
+   *
+   * @param subject the exact subject
+   * @param start   the start time
+   * @return the sorted slots, possibly empty
+   */
+  int[] slotsAt(String subject, LocalDateTime start) {
+    NavigableMap<LocalDateTime, Postings> starts = bySubject.get(subject);
+    if (starts == null) {
+      return new int[0];
+    }
+    Postings slots = starts.get(start);
+    return slots == null ? new int[0] : slots.toArray();
+  }
+
+  /**
+   * Gets the slots of the events with a subject that start in a range.
+   *
+   * @param subject   the exact subject
+   * @param fromStart earliest start time (inclusive), or null for no lower bound
+   * @param toStart   latest start time (exclusive), or null for no upper bound
+   * @return the sorted slots, possibly empty
+   */
+  int[] slotsBetween(String subject, LocalDateTime fromStart, LocalDateTime toStart) {
+    NavigableMap<LocalDateTime, Postings> starts = bySubject.get(subject);
+    if (starts == null) {
+      return new int[0];
+    }
+    NavigableMap<LocalDateTime, Postings> range = starts;
+    if (fromStart != null) {
+      range = range.tailMap(fromStart, true);
+    }
+    if (toStart != null) {
+      range = range.headMap(toStart, false);
+    }
+    List<int[]> lists = new ArrayList<>(range.size());
+    for (Postings slots : range.values()) {
+      lists.add(slots.toArray());
+    }
+    return Postings.union(lists);
+  }
+
+  /**
+   * Lists distinct subjects starting with a prefix, in sorted order.
+   *
+   * @param prefix the case-sensitive prefix
+   * @param limit  the maximum number of subjects to return
+   * @return the matching subjects
+   */
+  List<String> complete(String prefix, int limit) {
+    List<String> subjects = new ArrayList<>();
+    for (String subject
+        : bySubject.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+      if (subjects.size() >= limit) {
+        break;
+      }
+      subjects.add(subject);
+    }
+    return subjects;
+  }
+
+  /**
+   * Copies out the slots of every subject, ordered by subject.
+   *
+   * @return subject to sorted slots
+   */
+  Map<String, int[]> groups() {
+    Map<String, int[]> copy = new LinkedHashMap<>();
+    for (Map.Entry<String, NavigableMap<LocalDateTime, Postings>> entry : bySubject.entrySet()) {
+      List<int[]> lists = new ArrayList<>(entry.getValue().size());
+      for (Postings slots : entry.getValue().values()) {
+        lists.add(slots.toArray());
+      }
+      copy.put(entry.getKey(), Postings.union(lists));
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,201 @@
+package calendar.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over the subject, description and location of events.
+ *
+ * <p>Text is split into lowercase runs of letters and digits. Each token maps
+ * to the sorted postings list of the slots whose text contains it. A query
+ * term ending in {@code *} matches every token starting with that prefix;
+ * other terms match whole tokens. All terms must match (AND semantics).
+ *
+ * <p>Tokens are kept in a sorted map, so a prefix term is a sub-map range
+ * whose postings are unioned before intersecting with the other terms.
+ */
+final class TextIndex implements EventIndex {
+  private static final char PREFIX_MARKER = '*';
+
+  private final NavigableMap<String, Postings> postings;
+
+  /**
+   * Creates an empty text index.
+   */
+  TextIndex() {
+    this.postings = new TreeMap<>();
+  }
+
+  @Override
+  public void add(int slot, EventInterface event) {
+    for (String token : tokensOf(event)) {
+      postings.computeIfAbsent(token, k -> new Postings()).add(slot);
+    }
+  }
+
+  @Override
+  public void remove(int slot, EventInterface event) {
+    for (String token : tokensOf(event)) {
+      Postings list = postings.get(token);
+      if (list != null) {
+        list.remove(slot);
+        if (list.isEmpty()) {
+          postings.remove(token);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void removeAll(int[] slots, List<EventInterface> events) {
+    Map<String, Postings> batch = new HashMap<>();
+    for (int i = 0; i < slots.length; i++) {
+      for (String token : tokensOf(events.get(i))) {
+        batch.computeIfAbsent(token, k -> new Postings()).add(slots[i]);
+      }
+    }
+    for (Map.Entry<String, Postings> entry : batch.entrySet()) {
+      Postings list = postings.get(entry.getKey());
+      if (list != null) {
+        list.removeAll(entry.getValue().toArray());
+        if (list.isEmpty()) {
+          postings.remove(entry.getKey());
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the slots of events matching every term of a query.
+   *
+   * @param query whitespace-separated terms, optionally ending in {@code *}
+   * @return the sorted matching slots; empty if the query has no terms
+   */
+  int[] search(String query) {
+    List<Term> terms = parse(query);
+    if (terms.isEmpty()) {
+      return new int[0];
+    }
+    List<int[]> lists = new ArrayList<>(terms.size());
+    for (Term term : terms) {
+      int[] slots = lookup(term);
+      if (slots.length == 0) {
+        return slots;
+      }
+      lists.add(slots);
+    }
+    lists.sort((a, b) -> Integer.compare(a.length, b.length));
+    int[] result = lists.get(0);
+    for (int i = 1; i < lists.size() && result.length > 0; i++) {
+      result = Postings.intersect(result, lists.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Checks a single event against a query without using the index.
+   *
+   * @param event the event
+   * @param query the query, as accepted by {@link #search(String)}
+   * @return true if every term matches the event's text
+   */
+  static boolean matches(EventInterface event, String query) {
+    List<Term> terms = parse(query);
+    if (terms.isEmpty()) {
+      return false;
+    }
+    Set<String> tokens = tokensOf(event);
+    for (Term term : terms) {
+      boolean found = false;
+      for (String token : tokens) {
+        if (term.prefix ? token.startsWith(term.text) : token.equals(term.text)) {
+          found = true;
+          break;
+        }
+      }
+      if (!found) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Splits text into lowercase letter-or-digit tokens.
+   *
+   * @param text the text, may be null
+   * @return the tokens in order of appearance
+   */
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null) {
+      return tokens;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (word && start < 0) {
+        start = i;
+      } else if (!word && start >= 0) {
+        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  private int[] lookup(Term term) {
+    if (!term.prefix) {
+      Postings list = postings.get(term.text);
+      return list == null ? new int[0] : list.toArray();
+    }
+    List<int[]> lists = new ArrayList<>();
+    for (Map.Entry<String, Postings> entry
+        : postings.subMap(term.text, true, term.text + Character.MAX_VALUE, false).entrySet()) {
+      lists.add(entry.getValue().toArray());
+    }
+    return Postings.union(lists);
+  }
+
+  private static Set<String> tokensOf(EventInterface event) {
+    Set<String> tokens = new LinkedHashSet<>(tokenize(event.getSubject()));
+    tokens.addAll(tokenize(event.getDescription().orElse(null)));
+    tokens.addAll(tokenize(event.getLocation().orElse(null)));
+    return tokens;
+  }
+
+  private static List<Term> parse(String query) {
+    List<Term> terms = new ArrayList<>();
+    if (query == null) {
+      return terms;
+    }
+    for (String raw : query.trim().split("\\s+")) {
+      boolean prefix = raw.length() > 1 && raw.charAt(raw.length() - 1) == PREFIX_MARKER;
+      List<String> tokens = tokenize(prefix ? raw.substring(0, raw.length() - 1) : raw);
+      for (int i = 0; i < tokens.size(); i++) {
+        terms.add(new Term(tokens.get(i), prefix && i == tokens.size() - 1));
+      }
+    }
+    return terms;
+  }
+
+  /**
+   * A normalized query term.
+   */
+  private static final class Term {
+    private final String text;
+    private final boolean prefix;
+
+    private Term(String text, boolean prefix) {
+      this.text = text;
+      this.prefix = prefix;
+    }
+  }
+}
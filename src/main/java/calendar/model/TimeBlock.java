@@ -0,0 +1,75 @@
+package calendar.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A stretch of time during which a calendar is either busy or available.
+ */
+public final class TimeBlock {
+  private final LocalDateTime start;
+  private final LocalDateTime end;
+  private final boolean busy;
+
+  /**
+   * Creates a time block.
+   *
+   * @param start the start of the block (inclusive)
+   * @param end   the end of the block (exclusive)
+   * @param busy  true if at least one event covers the whole block
+   */
+  public TimeBlock(LocalDateTime start, LocalDateTime end, boolean busy) {
+    this.start = Objects.requireNonNull(start, "Start cannot be null");
+    this.end = Objects.requireNonNull(end, "End cannot be null");
+    this.busy = busy;
+  }
+
+  /**
+   * Gets the start of the block.
+   *
+   * @return the start (inclusive)
+   */
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  /**
+   * Gets the end of the block.
+   *
+   * @return the end (exclusive)
+   */
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  /**
+   * Checks whether the block is busy.
+   *
+   * @return true if busy, false if available
+   */
+  public boolean isBusy() {
+    return busy;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TimeBlock)) {
+      return false;
+    }
+    TimeBlock other = (TimeBlock) obj;
+    return start.equals(other.start) && end.equals(other.end) && busy == other.busy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(start, end, busy);
+  }
+
+  @Override
+  public String toString() {
+    return (busy ? "busy " : "available ") + start + " to " + end;
+  }
+}
@@ -7,8 +7,20 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Date/time parsing helpers per README formats.
+ *
+ * <p>Well-formed input is read by hand: the fixed-layout digits are checked
+ * and converted in place and the value is built with {@code of(...)}. Only
+ * input the fast path cannot vouch for (wrong layout, out-of-range fields,
+ * {@code 24:00}, Feb 30, ...) goes through the formatter, which then either
+ * resolves it as it always has or throws the usual
+ * {@link java.time.format.DateTimeParseException}.
  */
 public final class DateTimeParser {
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+  private static final DateTimeFormatter DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
   private DateTimeParser() {
   }
 
@@ -19,7 +31,13 @@ public final class DateTimeParser {
    * @return parsed LocalDate
    */
   public static LocalDate parseDate(String dateString) {
-    return LocalDate.parse(dateString, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    if (dateString.length() == 10) {
+      LocalDate date = fastDate(dateString);
+      if (date != null) {
+        return date;
+      }
+    }
+    return LocalDate.parse(dateString, DATE);
   }
 
   /**
@@ -29,7 +47,13 @@ public final class DateTimeParser {
    * @return parsed LocalTime
    */
   public static LocalTime parseTime(String timeString) {
-    return LocalTime.parse(timeString, DateTimeFormatter.ofPattern("HH:mm"));
+    if (timeString.length() == 5) {
+      int minuteOfDay = fastTime(timeString, 0);
+      if (minuteOfDay >= 0) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+      }
+    }
+    return LocalTime.parse(timeString, TIME);
   }
 
   /**
@@ -39,6 +63,76 @@ public final class DateTimeParser {
    * @return parsed LocalDateTime
    */
   public static LocalDateTime parseDateTime(String dateTime) {
-    return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"));
+    if (dateTime.length() == 16 && dateTime.charAt(10) == 'T') {
+      LocalDate date = fastDate(dateTime);
+      int minuteOfDay = fastTime(dateTime, 11);
+      if (date != null && minuteOfDay >= 0) {
+        return date.atTime(minuteOfDay / 60, minuteOfDay % 60);
+      }
+    }
+    return LocalDateTime.parse(dateTime, DATE_TIME);
+  }
+
+  /**
+   * Reads {@code yyyy-MM-dd} from the first ten characters.
+   *
+   * @param s the text, at least ten characters long
+   * @return the date, or null if the text is not an in-range date in that layout
+   */
+  private static LocalDate fastDate(String s) {
+    int year = digits(s, 0, 4);
+    int month = digits(s, 5, 2);
+    int day = digits(s, 8, 2);
+    if (year < 1 || month < 1 || month > 12 || day < 1
+        || s.charAt(4) != '-' || s.charAt(7) != '-') {
+      return null;
+    }
+    if (day > 28 && day > lengthOfMonth(year, month)) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * Reads {@code HH:mm} starting at an offset.
+   *
+   * @param s      the text
+   * @param offset where the hour starts; five characters must follow
+   * @return the minute of the day, or -1 if the text is not an in-range time in that layout
+   */
+  private static int fastTime(String s, int offset) {
+    int hour = digits(s, offset, 2);
+    int minute = digits(s, offset + 3, 2);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || s.charAt(offset + 2) != ':') {
+      return -1;
+    }
+    return hour * 60 + minute;
+  }
+
+  private static int digits(String s, int offset, int count) {
+    int value = 0;
+    for (int i = offset; i < offset + count; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        boolean leap = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+        return leap ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
   }
 }
@@ -0,0 +1,194 @@
+package calendar.utils;
+
+import calendar.model.CalendarModelInterface;
+import calendar.model.TimeBlock;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.UUID;
+
+/**
+ * Utility class for exporting free/busy time as an iCal (RFC 5545) VFREEBUSY
+ * component.
+ *
+ * <p>Only busy periods are published: no subjects, descriptions or locations
+ * leave the calendar.
+ *
+ * <p>DESIGN RATIONALE:
+ * - Busy blocks are read from the model one month at a time and written as
+ *   they arrive, so memory stays bounded however long the window is
+ * - A block that runs into the next month is held back and joined with its
+ *   continuation, so chunking never splits a period
+ * - Periods are written in UTC (required by the spec for FREEBUSY); the zone
+ *   offset is cached between DST transitions instead of resolved per period
+ * - One period per FREEBUSY line keeps every line well under 75 characters
+ *
+ * <p>Example output:
+ * <pre>
+ * BEGIN:VCALENDAR
+ * VERSION:2.0
+ * PRODID:-//Calendar//Work//EN
+ * METHOD:PUBLISH
+ * BEGIN:VFREEBUSY
+ * UID:freebusy-id@calendar.app
+ * DTSTAMP:20250611T120000Z
+ * DTSTART:20250601T040000Z
+ * DTEND:20250701T040000Z
+ * FREEBUSY:20250602T130000Z/20250602T143000Z
+ * END:VFREEBUSY
+ * END:VCALENDAR
+ * </pre>
+ */
+public class FreeBusyExporter {
+
+  private static final DateTimeFormatter ICAL_DATETIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private FreeBusyExporter() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Writes the free/busy time of a model over a window.
+   *
+   * @param out          the writer to stream to; not closed
+   * @param model        the model to read busy time from
+   * @param calendarName the name of the calendar (used in PRODID)
+   * @param timezone     the timezone of the calendar
+   * @param start        the window start, in the calendar's timezone
+   * @param end          the window end, in the calendar's timezone
+   * @return the number of busy periods written
+   * @throws IOException if writing fails
+   */
+  public static int writeFreeBusy(Writer out, CalendarModelInterface model, String calendarName,
+                                  ZoneId timezone, LocalDateTime start, LocalDateTime end)
+      throws IOException {
+    if (!end.isAfter(start)) {
+      throw new IllegalArgumentException("End time must be after start time");
+    }
+    UtcConverter utc = new UtcConverter(timezone);
+
+    out.write("BEGIN:VCALENDAR\r\n");
+    out.write("VERSION:2.0\r\n");
+    out.write("PRODID:-//Calendar//" + IcalExporter.escapeText(calendarName) + "//EN\r\n");
+    out.write("CALSCALE:GREGORIAN\r\n");
+    out.write("METHOD:PUBLISH\r\n");
+    out.write("BEGIN:VFREEBUSY\r\n");
+    out.write("UID:" + UUID.randomUUID() + "@calendar.app\r\n");
+    out.write("DTSTAMP:" + LocalDateTime.now(ZoneOffset.UTC).format(ICAL_DATETIME_FORMATTER)
+        + "\r\n");
+    out.write("DTSTART:" + utc.format(start) + "\r\n");
+    out.write("DTEND:" + utc.format(end) + "\r\n");
+
+    int periods = 0;
+    LocalDateTime pendingStart = null;
+    LocalDateTime pendingEnd = null;
+    LocalDateTime chunkStart = start;
+    while (chunkStart.isBefore(end)) {
+      LocalDateTime chunkEnd = chunkStart.toLocalDate().withDayOfMonth(1).plusMonths(1)
+          .atStartOfDay();
+      if (chunkEnd.isAfter(end)) {
+        chunkEnd = end;
+      }
+      for (TimeBlock block : model.getAvailability(chunkStart, chunkEnd)) {
+        if (!block.isBusy()) {
+          continue;
+        }
+        if (pendingEnd != null && pendingEnd.equals(block.getStart())) {
+          pendingEnd = block.getEnd();
+          continue;
+        }
+        if (pendingStart != null) {
+          writePeriod(out, utc, pendingStart, pendingEnd);
+          periods++;
+        }
+        pendingStart = block.getStart();
+        pendingEnd = block.getEnd();
+      }
+      chunkStart = chunkEnd;
+    }
+    if (pendingStart != null) {
+      writePeriod(out, utc, pendingStart, pendingEnd);
+      periods++;
+    }
+
+    out.write("END:VFREEBUSY\r\n");
+    out.write("END:VCALENDAR\r\n");
+    return periods;
+  }
+
+  private static void writePeriod(Writer out, UtcConverter utc, LocalDateTime start,
+                                  LocalDateTime end) throws IOException {
+    out.write("FREEBUSY:");
+    out.write(utc.format(start));
+    out.write('/');
+    out.write(utc.format(end));
+    out.write("\r\n");
+  }
+
+  /**
+   * Converts local date-times of one zone to UTC, remembering the offset in
+   * force between two transitions so consecutive periods skip the rules
+   * lookup. Gaps and overlaps resolve the same way as
+   * {@link LocalDateTime#atZone(ZoneId)}.
+   */
+  static final class UtcConverter {
+    private final ZoneRules rules;
+    private LocalDateTime validFrom;
+    private LocalDateTime validTo;
+    private ZoneOffset offset;
+
+    /**
+     * Creates a converter for a zone.
+     *
+     * @param zone the zone local date-times are in
+     */
+    UtcConverter(ZoneId zone) {
+      this.rules = zone.getRules();
+    }
+
+    /**
+     * Converts a local date-time to UTC.
+     *
+     * @param dateTime the local date-time
+     * @return the same instant as a UTC date-time
+     */
+    LocalDateTime toUtc(LocalDateTime dateTime) {
+      if (offset != null && !dateTime.isBefore(validFrom) && dateTime.isBefore(validTo)) {
+        return dateTime.minusSeconds(offset.getTotalSeconds());
+      }
+      ZoneOffset resolved = rules.getOffset(dateTime);
+      Instant instant = dateTime.toInstant(resolved);
+      ZoneOffsetTransition prev = rules.previousTransition(instant.plusSeconds(1));
+      ZoneOffsetTransition next = rules.nextTransition(instant);
+      validFrom = prev == null ? LocalDateTime.MIN
+          : later(prev.getDateTimeBefore(), prev.getDateTimeAfter());
+      validTo = next == null ? LocalDateTime.MAX : next.getDateTimeBefore();
+      offset = next == null ? rules.getOffset(instant) : next.getOffsetBefore();
+      return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a local date-time to a UTC iCal date-time string.
+     *
+     * @param dateTime the local date-time
+     * @return the formatted string (yyyyMMddTHHmmssZ)
+     */
+    String format(LocalDateTime dateTime) {
+      return toUtc(dateTime).format(ICAL_DATETIME_FORMATTER);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+      return a.isAfter(b) ? a : b;
+    }
+  }
+}
@@ -153,7 +153,7 @@ public class IcalExporter {
    * @param text the text to escape
    * @return the escaped text
    */
-  private static String escapeText(String text) {
+  static String escapeText(String text) {
     if (text == null) {
       return "";
     }
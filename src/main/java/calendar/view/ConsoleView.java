@@ -1,76 +1,190 @@
 package calendar.view;
 
 import calendar.model.EventInterface;
+import java.io.Flushable;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * Console view implementation backed by an Appendable.
+ *
+ * <p>Output is rendered into a reusable buffer and handed to the Appendable
+ * in one piece. An unbuffered view does that after every call, so output
+ * appears as soon as it is displayed. A buffered view holds output back until
+ * a chunk of the given size has built up or {@link #flush()} is called, which
+ * turns many small writes to a synchronized stream into a few large ones.
  */
 public class ConsoleView implements ViewInterface {
+  /**
+   * A chunk size that suits console and file output.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+  private static final String NEWLINE = System.lineSeparator();
+  private static final char[] TENS = new char[100];
+  private static final char[] ONES = new char[100];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      TENS[i] = (char) ('0' + i / 10);
+      ONES[i] = (char) ('0' + i % 10);
+    }
+  }
+
   private final Appendable out;
+  private final int chunkSize;
+  private final StringBuilder buffer;
 
   /**
-   * Creates a ConsoleView.
+   * Creates a ConsoleView that writes every call through immediately.
    *
    * @param out the Appendable to write to
    */
   public ConsoleView(Appendable out) {
+    this(out, 0);
+  }
+
+  /**
+   * Creates a ConsoleView that holds output back until at least
+   * {@code chunkSize} characters are waiting or {@link #flush()} is called.
+   *
+   * @param out       the Appendable to write to
+   * @param chunkSize the number of characters to collect before writing; 0
+   *                  writes after every call
+   */
+  public ConsoleView(Appendable out, int chunkSize) {
+    if (chunkSize < 0) {
+      throw new IllegalArgumentException("Chunk size cannot be negative");
+    }
     this.out = out;
+    this.chunkSize = chunkSize;
+    this.buffer = new StringBuilder(Math.max(256, chunkSize + chunkSize / 4));
   }
 
   @Override
   public void displayMessage(String message) throws IOException {
-    out.append(message).append(System.lineSeparator());
+    buffer.append(message).append(NEWLINE);
+    written();
   }
 
   @Override
   public void displayError(String error) throws IOException {
-    out.append("ERROR: ").append(error).append(System.lineSeparator());
+    buffer.append("ERROR: ").append(error).append(NEWLINE);
+    written();
   }
 
   @Override
   public void displayEvents(List<EventInterface> events) throws IOException {
-    if (events.isEmpty()) {
-      out.append("No events found.").append(System.lineSeparator());
+    displayEvents(events.iterator());
+  }
+
+  /**
+   * Writes events one at a time as the iterator produces them. The buffer is
+   * written out whenever it reaches the chunk size, so memory use does not
+   * grow with the number of events.
+   *
+   * @param events the events to display
+   * @throws IOException if I/O fails
+   */
+  @Override
+  public void displayEvents(Iterator<EventInterface> events) throws IOException {
+    if (!events.hasNext()) {
+      buffer.append("No events found.").append(NEWLINE);
+      written();
       return;
     }
 
-    for (EventInterface e : events) {
-      
-      
-      out.append("- ").append(e.getSubject()).append(" starting on ")
-          .append(formatDate(e.getStartDateTime().toLocalDate())).append(" at ")
-          .append(formatTime(e.getStartDateTime().toLocalTime())).append(", ending on ")
-          .append(formatDate(e.getEndDateTime().toLocalDate())).append(" at ")
-          .append(formatTime(e.getEndDateTime().toLocalTime()));
+    while (events.hasNext()) {
+      EventInterface e = events.next();
+      LocalDateTime start = e.getStartDateTime();
+      buffer.append("- ").append(e.getSubject()).append(" starting on ");
+      appendDate(start.toLocalDate());
+      buffer.append(" at ");
+      appendTime(start.getHour(), start.getMinute());
+      buffer.append(", ending on ");
+      LocalDateTime end = e.getEndDateTime();
+      appendDate(end.toLocalDate());
+      buffer.append(" at ");
+      appendTime(end.getHour(), end.getMinute());
 
-      
       if (e.getLocation().isPresent()) {
-        out.append(", location: ").append(e.getLocation().get());
+        buffer.append(", location: ").append(e.getLocation().get());
       }
 
-      out.append(System.lineSeparator());
+      buffer.append(NEWLINE);
+      if (chunkSize > 0 && buffer.length() >= chunkSize) {
+        drain();
+      }
     }
+    written();
   }
 
   /**
-   * Formats a date as YYYY-MM-DD.
+   * Writes out any held-back output and flushes the Appendable if it is
+   * {@link Flushable}.
+   *
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void flush() throws IOException {
+    drain();
+    if (out instanceof Flushable) {
+      ((Flushable) out).flush();
+    }
+  }
+
+  /**
+   * Called at the end of every display call; writes the buffer once it has
+   * reached the chunk size.
+   */
+  private void written() throws IOException {
+    if (buffer.length() >= chunkSize) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    if (buffer.length() > 0) {
+      out.append(buffer);
+      buffer.setLength(0);
+    }
+  }
+
+  /**
+   * Appends a date as YYYY-MM-DD, the same as {@link LocalDate#toString()}.
    *
    * @param date the date to format
-   * @return formatted date string
    */
-  private String formatDate(java.time.LocalDate date) {
-    return date.toString();
+  private void appendDate(LocalDate date) {
+    int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      buffer.append(date);
+      return;
+    }
+    appendTwoDigits(year / 100);
+    appendTwoDigits(year % 100);
+    buffer.append('-');
+    appendTwoDigits(date.getMonthValue());
+    buffer.append('-');
+    appendTwoDigits(date.getDayOfMonth());
   }
 
   /**
-   * Formats a time as HH:MM.
+   * Appends a time as HH:MM.
    *
-   * @param time the time to format
-   * @return formatted time string
+   * @param hour   the hour
+   * @param minute the minute
    */
-  private String formatTime(java.time.LocalTime time) {
-    return String.format("%02d:%02d", time.getHour(), time.getMinute());
+  private void appendTime(int hour, int minute) {
+    appendTwoDigits(hour);
+    buffer.append(':');
+    appendTwoDigits(minute);
+  }
+
+  private void appendTwoDigits(int value) {
+    buffer.append(TENS[value]).append(ONES[value]);
   }
 }
@@ -2,6 +2,8 @@ package calendar.view;
 
 import calendar.model.EventInterface;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -32,5 +34,28 @@ public interface ViewInterface {
    * @throws IOException if I/O fails
    */
   void displayEvents(List<EventInterface> events) throws IOException;
+
+  /**
+   * Displays events as they are produced, without needing them all at once.
+   * Views that can write events one by one should override this; the default
+   * collects them and calls {@link #displayEvents(List)}.
+   *
+   * @param events the events to display
+   * @throws IOException if I/O fails
+   */
+  default void displayEvents(Iterator<EventInterface> events) throws IOException {
+    List<EventInterface> list = new ArrayList<>();
+    events.forEachRemaining(list::add);
+    displayEvents(list);
+  }
+
+  /**
+   * Writes out any output the view has held back. Views that write
+   * everything immediately need not override this.
+   *
+   * @throws IOException if I/O fails
+   */
+  default void flush() throws IOException {
+  }
 }
 
@@ -0,0 +1,108 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.ShowStatusRangeCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EventInterface;
+import calendar.model.PartitionedCalendarModel;
+import calendar.model.TimeBlock;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for busy/free blocks in the models and the show status range command.
+ */
+public class AvailabilityTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Standup", march(3, 9, 0), march(3, 9, 30)));
+    model.createEvent(event("Review", march(3, 9, 15), march(3, 10, 0)));
+    model.createEvent(event("Sync", march(3, 10, 0), march(3, 10, 30)));
+    model.createEvent(event("Lunch", march(3, 12, 0), march(3, 13, 0)));
+    model.createEvent(event("Offsite", march(3, 16, 0), march(4, 12, 0)));
+  }
+
+  @Test
+  public void testOverlappingAndAdjacentEventsMerge() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<TimeBlock> blocks = model.getAvailability(march(3, 8, 0), march(3, 18, 0));
+      assertEquals(Arrays.asList(
+          new TimeBlock(march(3, 8, 0), march(3, 9, 0), false),
+          new TimeBlock(march(3, 9, 0), march(3, 10, 30), true),
+          new TimeBlock(march(3, 10, 30), march(3, 12, 0), false),
+          new TimeBlock(march(3, 12, 0), march(3, 13, 0), true),
+          new TimeBlock(march(3, 13, 0), march(3, 16, 0), false),
+          new TimeBlock(march(3, 16, 0), march(3, 18, 0), true)), blocks);
+    }
+  }
+
+  @Test
+  public void testWindowStartingInsideBusyBlock() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<TimeBlock> blocks = model.getAvailability(march(3, 9, 20), march(3, 11, 0));
+      assertEquals(Arrays.asList(
+          new TimeBlock(march(3, 9, 20), march(3, 10, 30), true),
+          new TimeBlock(march(3, 10, 30), march(3, 11, 0), false)), blocks);
+
+      assertEquals(Arrays.asList(new TimeBlock(march(5, 0, 0), march(6, 0, 0), false)),
+          model.getAvailability(march(5, 0, 0), march(6, 0, 0)));
+    }
+  }
+
+  @Test
+  public void testBlocksFollowDeletes() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    EventInterface review = event("Review", march(3, 9, 15), march(3, 10, 0));
+    model.createEvent(event("Standup", march(3, 9, 0), march(3, 9, 30)));
+    model.createEvent(review);
+    model.createEvent(event("Sync", march(3, 10, 0), march(3, 10, 30)));
+    assertEquals(3, model.getAvailability(march(3, 8, 0), march(3, 11, 0)).size());
+
+    assertTrue(model.deleteEvent(review.getId()));
+    assertEquals(Arrays.asList(
+        new TimeBlock(march(3, 8, 0), march(3, 9, 0), false),
+        new TimeBlock(march(3, 9, 0), march(3, 9, 30), true),
+        new TimeBlock(march(3, 9, 30), march(3, 10, 0), false),
+        new TimeBlock(march(3, 10, 0), march(3, 10, 30), true),
+        new TimeBlock(march(3, 10, 30), march(3, 11, 0), false)),
+        model.getAvailability(march(3, 8, 0), march(3, 11, 0)));
+  }
+
+  @Test
+  public void testShowStatusRangeCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse(
+        "show status from 2025-03-03T08:00 to 2025-03-03T11:00");
+    assertTrue(cmd instanceof ShowStatusRangeCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(Arrays.asList("available 2025-03-03T08:00 to 2025-03-03T09:00",
+        "busy 2025-03-03T09:00 to 2025-03-03T10:30",
+        "available 2025-03-03T10:30 to 2025-03-03T11:00"), view.getMessages());
+  }
+
+  @Test
+  public void testShowStatusRangeErrors() throws IOException {
+    assertFalse(new ShowStatusRangeCommand("2025-03-03T08:00", "2025-03-03T08:00")
+        .execute(manager, view));
+    assertTrue(view.hasError("End time must be after start time"));
+
+    assertFalse(new ShowStatusRangeCommand("bad", "2025-03-03T08:00").execute(manager, view));
+    assertTrue(view.hasError("Failed to show status"));
+
+    assertFalse(new ShowStatusRangeCommand("2025-03-03T08:00", "2025-03-03T09:00")
+        .execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
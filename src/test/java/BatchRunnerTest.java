@@ -0,0 +1,133 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.controller.BatchRunner;
+import calendar.controller.Controller;
+import calendar.model.CalendarManager;
+import calendar.view.ConsoleView;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for running a directory of commands files in one process.
+ */
+public class BatchRunnerTest {
+  private Path dir;
+
+  /**
+   * Creates an empty directory for each test's commands files.
+   */
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("batch");
+  }
+
+  /**
+   * Deletes the commands directory and everything written into it.
+   */
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+    }
+  }
+
+  private void write(String name, String text) throws IOException {
+    Files.write(dir.resolve(name), text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String sequential(String text) throws IOException {
+    StringBuilder out = new StringBuilder();
+    new Controller(new CalendarManager(), new ConsoleView(out), new CommandParser(),
+        new StringReader(text), false).run();
+    return out.toString();
+  }
+
+  private static String script(String name, int events) {
+    StringBuilder text = new StringBuilder();
+    text.append("create calendar --name ").append(name).append(" --timezone UTC\n");
+    text.append("use calendar --name ").append(name).append('\n');
+    for (int i = 0; i < events; i++) {
+      String day = String.format("2025-03-%02d", 1 + i % 28);
+      text.append("create event ").append(name).append(i).append(" from ").append(day)
+          .append("T09:00 to ").append(day).append("T10:00\n");
+    }
+    text.append("print events from 2025-03-01T00:00 to 2025-04-01T00:00\n");
+    return text.toString();
+  }
+
+  @Test
+  public void testEachScriptGetsItsOwnSessionAndOutput() throws IOException {
+    String a = script("Work", 50) + "exit\n";
+    String b = script("Work", 5) + "bogus command\n";
+    write("a.txt", a);
+    write("b.txt", b);
+    write("notes.md", "not a script\n");
+
+    List<BatchRunner.Result> results = new BatchRunner(dir, new CommandParser(), 2).run();
+
+    assertEquals(2, results.size());
+    assertEquals("a.txt", results.get(0).getScript());
+    assertEquals(BatchRunner.Result.OK, results.get(0).getOutcome());
+    assertEquals(0, results.get(0).getErrors());
+    assertEquals("b.txt", results.get(1).getScript());
+    assertEquals(BatchRunner.Result.MISSING_EXIT, results.get(1).getOutcome());
+    assertEquals(2, results.get(1).getErrors());
+
+    assertEquals(sequential(a), new String(Files.readAllBytes(dir.resolve("a.txt.out")),
+        StandardCharsets.UTF_8));
+    assertEquals(sequential(b), new String(Files.readAllBytes(dir.resolve("b.txt.out")),
+        StandardCharsets.UTF_8));
+    assertFalse(Files.exists(dir.resolve("notes.md.out")));
+  }
+
+  @Test
+  public void testSummaryReportListsEveryScript() throws IOException {
+    for (int i = 0; i < 12; i++) {
+      write(String.format("s%02d.txt", i), script("C" + i, i * 10) + (i % 3 == 0 ? "" : "exit\n"));
+    }
+    BatchRunner batch = new BatchRunner(dir, new CommandParser(), 4);
+    batch.run();
+
+    List<String> report = Files.readAllLines(batch.getReportPath(), StandardCharsets.UTF_8);
+    assertEquals(13, report.size());
+    assertEquals("script,outcome,errors,millis", report.get(0));
+    for (int i = 0; i < 12; i++) {
+      String[] row = report.get(i + 1).split(",");
+      assertEquals(String.format("s%02d.txt", i), row[0]);
+      assertEquals(i % 3 == 0 ? "missing exit" : "ok", row[1]);
+      assertTrue(Long.parseLong(row[3]) >= 0);
+    }
+  }
+
+  @Test
+  public void testUnwritableOutputIsReportedAndBatchContinues() throws IOException {
+    write("a.txt", script("A", 3) + "exit\n");
+    write("b.txt", script("B", 3) + "exit\n");
+    Files.createDirectory(dir.resolve("a.txt.out"));
+
+    List<BatchRunner.Result> results = new BatchRunner(dir, new CommandParser(), 1).run();
+
+    assertTrue(results.get(0).getOutcome().startsWith(BatchRunner.Result.FAILED));
+    assertEquals(BatchRunner.Result.OK, results.get(1).getOutcome());
+  }
+
+  @Test
+  public void testEmptyDirectoryWritesHeaderOnly() throws IOException {
+    BatchRunner batch = new BatchRunner(dir, new CommandParser(), 3);
+    assertTrue(batch.run().isEmpty());
+    assertEquals(List.of("script,outcome,errors,millis"),
+        Files.readAllLines(batch.getReportPath(), StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,106 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.ShowStatusCommand;
+import calendar.command.ShowStatusFileCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for batched busy-status queries.
+ */
+public class BatchStatusTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Offsite", march(1, 8, 0), march(3, 12, 0)));
+    model.createEvent(event("Standup", march(3, 9, 0), march(3, 9, 30)));
+    model.createEvent(event("Lunch", march(3, 12, 30), march(3, 13, 30)));
+  }
+
+  @Test
+  public void testBatchAnswersInInputOrder() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<LocalDateTime> probes = Arrays.asList(march(3, 13, 0), march(3, 12, 0), march(2, 23, 0),
+          march(3, 13, 30), march(1, 7, 59), march(3, 12, 30), march(3, 13, 0));
+      assertTrue(Arrays.equals(new boolean[] {true, false, true, false, false, true, true},
+          model.isBusyAt(probes)));
+      assertEquals(0, model.isBusyAt(Collections.emptyList()).length);
+    }
+  }
+
+  @Test
+  public void testBatchAgreesWithSingleQueries() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    Random random = new Random(7);
+    LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+    for (int i = 0; i < 300; i++) {
+      LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 90));
+      model.createEvent(event("E" + i, start, start.plusMinutes(15 + random.nextInt(600))));
+    }
+    List<LocalDateTime> probes = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      probes.add(base.plusMinutes(random.nextInt(60 * 24 * 100)));
+    }
+    boolean[] batch = model.isBusyAt(probes);
+    for (int i = 0; i < probes.size(); i++) {
+      assertEquals(model.isBusy(probes.get(i)), batch[i]);
+    }
+  }
+
+  @Test
+  public void testCommaSeparatedStatus() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse(
+        "show status on 2025-03-03T09:15,2025-03-03T12:15");
+    assertTrue(cmd instanceof ShowStatusCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(Arrays.asList("2025-03-03T09:15: busy", "2025-03-03T12:15: available"),
+        view.getMessages());
+  }
+
+  @Test
+  public void testStatusFromFile() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+    Path file = Files.createTempFile("probes", ".txt");
+    try {
+      Files.write(file, Arrays.asList("2025-03-03T12:45", "", "2025-03-04T09:00"));
+      CommandInterface cmd = new CommandParser().parse("show status --file " + file);
+      assertTrue(cmd instanceof ShowStatusFileCommand);
+      assertTrue(cmd.execute(manager, view));
+      assertEquals(Arrays.asList("2025-03-03T12:45: busy", "2025-03-04T09:00: available"),
+          view.getMessages());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testBatchErrors() throws IOException {
+    assertFalse(new ShowStatusCommand("2025-03-03T09:15,bad").execute(manager, view));
+    assertTrue(view.hasError("Failed to show status"));
+
+    assertFalse(new ShowStatusFileCommand("missing-probes.txt").execute(manager, view));
+    assertEquals(2, view.getErrorCount());
+
+    assertFalse(new ShowStatusFileCommand("probes.txt").execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
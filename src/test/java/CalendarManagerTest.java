@@ -4,9 +4,28 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import calendar.command.CommandParser;
 import calendar.model.Calendar;
 import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.Event;
+import calendar.model.EventInterface;
+import calendar.model.EventListener;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -204,4 +223,126 @@ public class CalendarManagerTest {
     assertNotNull("Calendar with spaces should be found", cal);
     assertEquals("Name should preserve spaces", "My Work Calendar", cal.getName());
   }
+
+  private static EventInterface event(String subject, LocalDateTime start) {
+    return new Event(subject, start, start.plusHours(1), null, null, false, UUID.randomUUID(),
+        null);
+  }
+
+  @Test
+  public void testFindEventAcrossCalendars() {
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    manager.createCalendar("Home", ZoneId.of("Europe/London"));
+    EventInterface review = event("Review", LocalDateTime.of(2025, 5, 5, 9, 0));
+    EventInterface dinner = event("Dinner", LocalDateTime.of(2025, 5, 5, 19, 0));
+    manager.getCalendar("Work").getModel().createEvent(review);
+    manager.getCalendar("Home").getModel().createEvent(dinner);
+
+    assertEquals("Work", manager.findCalendarOfEvent(review.getId()).getName());
+    assertEquals("Home", manager.findCalendarOfEvent(dinner.getId()).getName());
+    assertEquals(dinner, manager.findEventById(dinner.getId()));
+    assertNull(manager.findEventById(UUID.randomUUID()));
+    assertNull(manager.findCalendarOfEvent(null));
+  }
+
+  @Test
+  public void testEventIndexFollowsEditsDeletesAndRenames() {
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    CalendarModelInterface model = manager.getCalendar("Work").getModel();
+    EventInterface review = event("Review", LocalDateTime.of(2025, 5, 5, 9, 0));
+    model.createEvent(review);
+
+    model.editEvent(review.getId(), new EditSpec("Retro", null, null, null, null, null));
+    assertEquals("Retro", manager.findEventById(review.getId()).getSubject());
+
+    assertTrue(manager.editCalendarName("Work", "Office"));
+    assertEquals("Office", manager.findCalendarOfEvent(review.getId()).getName());
+
+    assertTrue(model.deleteEvent(review.getId()));
+    assertNull(manager.findCalendarOfEvent(review.getId()));
+  }
+
+  @Test
+  public void testEventIndexFollowsSeriesAndShardEviction() {
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    PartitionedCalendarModel model =
+        (PartitionedCalendarModel) manager.getCalendar("Work").getModel();
+    UUID seriesId = UUID.randomUUID();
+    model.createEventSeries(new EventSeries(seriesId,
+        event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 3, false));
+    EventInterface first = model.getAllEvents().get(0);
+    assertEquals("Work", manager.findCalendarOfEvent(first.getId()).getName());
+
+    model.restoreShard(model.evictShard(YearMonth.of(2025, 6)));
+    assertEquals("Work", manager.findCalendarOfEvent(first.getId()).getName());
+
+    assertEquals(3, model.deleteSeriesFrom(seriesId, LocalDate.of(2025, 6, 1)));
+    assertNull(manager.findCalendarOfEvent(first.getId()));
+  }
+
+  @Test
+  public void testCopiedEventsResolveToTargetCalendar() throws IOException {
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    manager.createCalendar("Home", ZoneId.of("America/New_York"));
+    manager.setCurrentCalendar("Work");
+    EventInterface review = event("Review", LocalDateTime.of(2025, 5, 5, 9, 0));
+    manager.getCalendar("Work").getModel().createEvent(review);
+
+    assertTrue(new CommandParser().parse("copy event Review on 2025-05-05T09:00 --target Home "
+        + "to 2025-05-06T09:00").execute(manager, new TestView()));
+    EventInterface copy = manager.getCalendar("Home").getModel().getAllEvents().get(0);
+    assertEquals("Home", manager.findCalendarOfEvent(copy.getId()).getName());
+    assertEquals("Work", manager.findCalendarOfEvent(review.getId()).getName());
+  }
+
+  @Test
+  public void testEveryModelReportsStoresAndRemovals() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      EventInterface review = event("Review", LocalDateTime.of(2025, 5, 5, 9, 0));
+      model.createEvent(review);
+      Set<UUID> stored = new HashSet<>();
+      model.addEventListener(new EventListener() {
+        @Override
+        public void eventStored(EventInterface event) {
+          assertTrue(stored.add(event.getId()));
+        }
+
+        @Override
+        public void eventRemoved(EventInterface event) {
+          assertTrue(stored.remove(event.getId()));
+        }
+      });
+      assertEquals(Collections.singleton(review.getId()), stored);
+
+      EventInterface standup = event("Standup", LocalDateTime.of(2025, 5, 6, 9, 0));
+      model.createEvent(standup);
+      model.editEvent(review.getId(), new EditSpec("Retro", null, null, null, null, null));
+      assertEquals(2, stored.size());
+      assertTrue(stored.contains(model.getAllEvents().get(0).getId()));
+      assertEquals(2, model.deleteEventsBetween(LocalDate.of(2025, 5, 1),
+          LocalDate.of(2025, 5, 31)));
+      assertTrue(stored.isEmpty());
+    }
+  }
+
+  @Test
+  public void testNewEventIdIsUnusedEverywhere() throws IOException {
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    manager.createCalendar("Home", ZoneId.of("Europe/Paris"));
+    manager.setCurrentCalendar("Work");
+    manager.getCalendar("Work").getModel().createEvent(
+        event("Review", LocalDateTime.of(2025, 5, 5, 9, 0)));
+    assertNull(manager.findCalendarOfEvent(manager.newEventId()));
+
+    assertTrue(new CommandParser().parse("copy events on 2025-05-05 --target Home "
+        + "to 2025-05-07").execute(manager, new TestView()));
+    assertTrue(new CommandParser().parse("copy events between 2025-05-05 and 2025-05-05 "
+        + "--target Home to 2025-05-09").execute(manager, new TestView()));
+    for (EventInterface copy : manager.getCalendar("Home").getModel().getAllEvents()) {
+      assertEquals("Home", manager.findCalendarOfEvent(copy.getId()).getName());
+    }
+    assertEquals(2, manager.getCalendar("Home").getModel().getAllEvents().size());
+  }
 }
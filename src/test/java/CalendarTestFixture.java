@@ -0,0 +1,52 @@
+import calendar.model.CalendarManager;
+import calendar.model.Event;
+import calendar.model.EventInterface;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import org.junit.Before;
+
+/**
+ * Base class for command tests that run against a "Work" calendar in
+ * America/New_York, with factories for the events they store in it.
+ */
+public abstract class CalendarTestFixture {
+  protected CalendarManager manager;
+  protected TestView view;
+
+  /**
+   * Sets up a manager with the "Work" calendar selected.
+   */
+  @Before
+  public void setUpManager() {
+    manager = new CalendarManager();
+    view = new TestView();
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    manager.setCurrentCalendar("Work");
+  }
+
+  /**
+   * Creates a public event with no description or location.
+   */
+  protected static EventInterface event(String subject, LocalDateTime start,
+                                        LocalDateTime end) {
+    return event(subject, start, end, null, null, false);
+  }
+
+  /**
+   * Creates a standalone event with the given details.
+   */
+  protected static EventInterface event(String subject, LocalDateTime start, LocalDateTime end,
+                                        String description, String location,
+                                        boolean isPrivate) {
+    return new Event(subject, start, end, description, location, isPrivate, UUID.randomUUID(),
+        null);
+  }
+
+  /**
+   * Gets a date-time in March 2025.
+   */
+  protected static LocalDateTime march(int day, int hour, int minute) {
+    return LocalDateTime.of(2025, 3, day, hour, minute);
+  }
+}
@@ -0,0 +1,204 @@
+import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
+import calendar.command.CommandParser;
+import calendar.command.NoOpCommand;
+import calendar.command.matchers.CompleteSubjectCommandMatcher;
+import calendar.command.matchers.CopyEventCommandMatcher;
+import calendar.command.matchers.CopyEventsOnDayCommandMatcher;
+import calendar.command.matchers.CopyEventsRangeCommandMatcher;
+import calendar.command.matchers.CreateAllDayEventCommandMatcher;
+import calendar.command.matchers.CreateAllDayEventSeriesForCommandMatcher;
+import calendar.command.matchers.CreateAllDayEventSeriesUntilCommandMatcher;
+import calendar.command.matchers.CreateCalendarCommandMatcher;
+import calendar.command.matchers.CreateEventCommandMatcher;
+import calendar.command.matchers.CreateEventSeriesFromToForCommandMatcher;
+import calendar.command.matchers.CreateEventSeriesFromToUntilCommandMatcher;
+import calendar.command.matchers.DeleteEventCommandMatcher;
+import calendar.command.matchers.DeleteEventsBetweenCommandMatcher;
+import calendar.command.matchers.DeleteSeriesCommandMatcher;
+import calendar.command.matchers.EditAllCommandMatcher;
+import calendar.command.matchers.EditCalendarCommandMatcher;
+import calendar.command.matchers.EditEventCommandMatcher;
+import calendar.command.matchers.EditEventsCommandMatcher;
+import calendar.command.matchers.EditSeriesCommandMatcher;
+import calendar.command.matchers.ExitCommandMatcher;
+import calendar.command.matchers.ExportCommandMatcher;
+import calendar.command.matchers.ExportFreeBusyCommandMatcher;
+import calendar.command.matchers.PrintAllEventsCommandMatcher;
+import calendar.command.matchers.PrintEventsOnCommandMatcher;
+import calendar.command.matchers.PrintEventsRangeCommandMatcher;
+import calendar.command.matchers.PrintMonthCommandMatcher;
+import calendar.command.matchers.PrintNextEventsCommandMatcher;
+import calendar.command.matchers.PrintWeekCommandMatcher;
+import calendar.command.matchers.SearchCommandMatcher;
+import calendar.command.matchers.ShowStatusCommandMatcher;
+import calendar.command.matchers.ShowStatusFileCommandMatcher;
+import calendar.command.matchers.ShowStatusRangeCommandMatcher;
+import calendar.command.matchers.StatsCommandMatcher;
+import calendar.command.matchers.UseCalendarCommandMatcher;
+import calendar.command.matchers.UtilizationCommandMatcher;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parser microbenchmark: per-line latency of each command type, parsed by
+ * trying every matcher in sequence (the former parser) and by
+ * {@link CommandParser}'s keyword dispatch.
+ *
+ * <p>Not a test; run it with {@code java CommandParserBenchmark [iterations]}
+ * on the test classpath. Each sample is parsed {@code iterations} times after
+ * an equal warm-up, and the mean nanoseconds per parse are printed.
+ */
+public class CommandParserBenchmark {
+
+  /**
+   * One representative line per command type.
+   */
+  static final String[][] SAMPLES = {
+      {"create event (timed)",
+          "create event \"Team Meeting\" from 2025-01-15T09:00 to 2025-01-15T10:00"},
+      {"create event (all-day)", "create event \"Company Holiday\" on 2025-12-25"},
+      {"create event series for", "create event \"Daily Standup\" from 2025-01-16T09:00 to "
+          + "2025-01-16T09:15 repeats MWF for 10 times"},
+      {"create event series until", "create event \"Weekly Sync\" from 2025-01-17T15:00 to "
+          + "2025-01-17T16:00 repeats T until 2025-03-31"},
+      {"create all-day series for", "create event \"Training Day\" on 2025-01-20 repeats R for "
+          + "4 times"},
+      {"create all-day series until", "create event \"Gym Day\" on 2025-01-20 repeats MWF until "
+          + "2025-02-28"},
+      {"create calendar", "create calendar --name Work --timezone America/New_York"},
+      {"edit calendar", "edit calendar --name Work --property timezone Europe/London"},
+      {"use calendar", "use calendar --name Work"},
+      {"edit event", "edit event subject \"Team Meeting\" from 2025-01-15T09:00 to "
+          + "2025-01-15T10:00 with \"Executive Meeting\""},
+      {"edit events", "edit events location \"Daily Standup\" from 2025-01-20T09:00 with "
+          + "\"Room B\""},
+      {"edit series", "edit series subject \"Daily Standup\" from 2025-01-20T09:00 with "
+          + "\"Sync\""},
+      {"edit all", "edit all --where location=\"Room 4\" --set location \"Room 5\""},
+      {"copy event", "copy event Review on 2025-01-15T09:00 --target Home to 2025-01-25T10:00"},
+      {"copy events on", "copy events on 2025-01-16 --target Home to 2025-01-26"},
+      {"copy events between", "copy events between 2025-01-15 and 2025-01-17 --target Home to "
+          + "2025-02-01"},
+      {"print events on", "print events on 2025-01-15"},
+      {"print events from", "print events from 2025-01-15T00:00 to 2025-01-20T23:59"},
+      {"print next", "print next 10 events after 2025-01-15T09:00"},
+      {"print month", "print month 2025-01"},
+      {"print week", "print week 2025-01-15"},
+      {"print all events", "print all events"},
+      {"show status on", "show status on 2025-01-16T10:00"},
+      {"show status from", "show status from 2025-01-16T08:00 to 2025-01-16T18:00"},
+      {"search", "search \"design review\" --from 2025-01-01T00:00 --to 2025-02-01T00:00"},
+      {"stats", "stats by location"},
+      {"utilization", "utilization --from 2025-01-01 --to 2025-01-31 --granularity week"},
+      {"delete event", "delete event Review from 2025-01-15T09:00 to 2025-01-15T10:00"},
+      {"delete events", "delete events between 2025-01-01 and 2025-01-31"},
+      {"delete series", "delete series Standup from 2025-01-20T09:00"},
+      {"export cal", "export cal work.ics"},
+      {"export freebusy", "export freebusy busy.ics --from 2025-01-01T00:00 --to "
+          + "2026-01-01T00:00"},
+      {"exit", "exit"},
+      {"invalid", "frobnicate the calendar"},
+  };
+
+  /**
+   * The matchers in the order the former parser tried them.
+   *
+   * @return a fresh matcher chain
+   */
+  static List<CommandMatcher> legacyChain() {
+    return Arrays.asList(
+        new ExitCommandMatcher(),
+        new CreateCalendarCommandMatcher(),
+        new EditCalendarCommandMatcher(),
+        new UseCalendarCommandMatcher(),
+        new CopyEventsRangeCommandMatcher(),
+        new CopyEventsOnDayCommandMatcher(),
+        new CopyEventCommandMatcher(),
+        new PrintAllEventsCommandMatcher(),
+        new PrintEventsOnCommandMatcher(),
+        new PrintEventsRangeCommandMatcher(),
+        new PrintNextEventsCommandMatcher(),
+        new PrintMonthCommandMatcher(),
+        new PrintWeekCommandMatcher(),
+        new ShowStatusCommandMatcher(),
+        new ShowStatusRangeCommandMatcher(),
+        new ShowStatusFileCommandMatcher(),
+        new SearchCommandMatcher(),
+        new CompleteSubjectCommandMatcher(),
+        new StatsCommandMatcher(),
+        new UtilizationCommandMatcher(),
+        new EditAllCommandMatcher(),
+        new EditEventCommandMatcher(),
+        new EditEventsCommandMatcher(),
+        new EditSeriesCommandMatcher(),
+        new DeleteEventsBetweenCommandMatcher(),
+        new DeleteEventCommandMatcher(),
+        new DeleteSeriesCommandMatcher(),
+        new ExportCommandMatcher(),
+        new ExportFreeBusyCommandMatcher(),
+        new CreateEventSeriesFromToForCommandMatcher(),
+        new CreateEventSeriesFromToUntilCommandMatcher(),
+        new CreateAllDayEventSeriesForCommandMatcher(),
+        new CreateAllDayEventSeriesUntilCommandMatcher(),
+        new CreateAllDayEventCommandMatcher(),
+        new CreateEventCommandMatcher()
+    );
+  }
+
+  /**
+   * Parses a line the way the former parser did: every matcher in sequence.
+   *
+   * @param chain the matcher chain
+   * @param input the line
+   * @return the first match, or a NoOpCommand
+   */
+  static CommandInterface legacyParse(List<CommandMatcher> chain, String input) {
+    if (input == null || input.trim().isEmpty()) {
+      return new NoOpCommand();
+    }
+    String trimmed = input.trim();
+    for (CommandMatcher matcher : chain) {
+      CommandInterface command = matcher.tryMatch(trimmed);
+      if (command != null) {
+        return command;
+      }
+    }
+    return new NoOpCommand(input);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args optional iteration count per sample (default 200000)
+   */
+  public static void main(String[] args) {
+    int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+    List<CommandMatcher> chain = legacyChain();
+    CommandParser parser = new CommandParser();
+
+    System.out.printf("%-30s %12s %12s %8s%n", "command", "chain ns", "dispatch ns", "speedup");
+    long sink = 0;
+    for (String[] sample : SAMPLES) {
+      String line = sample[1];
+      for (int i = 0; i < iterations; i++) {
+        sink += legacyParse(chain, line).hashCode();
+        sink += parser.parse(line).hashCode();
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        sink += legacyParse(chain, line).hashCode();
+      }
+      double before = (System.nanoTime() - start) / (double) iterations;
+      start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        sink += parser.parse(line).hashCode();
+      }
+      double after = (System.nanoTime() - start) / (double) iterations;
+      System.out.printf("%-30s %12.0f %12.0f %7.1fx%n", sample[0], before, after, before / after);
+    }
+    if (sink == 42) {
+      System.out.println();
+    }
+  }
+}
@@ -1,13 +1,16 @@
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import calendar.command.CommandInterface;
+import calendar.command.CommandMatcher;
 import calendar.command.CommandParser;
 import calendar.command.CreateEventCommand;
 import calendar.command.EditEventCommand;
 import calendar.command.ExitCommand;
 import calendar.command.NoOpCommand;
 import calendar.command.PrintAllEventsCommand;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -189,5 +192,35 @@ public class CommandParserTest {
         parser.parse("create event TestMeeting from 2025-06-01T09:00 to 2025-06-01T10:00");
     assertNotNull(cmd);
   }
-}
 
+  @Test
+  public void testKeywordDispatchAgreesWithMatcherChain() {
+    List<CommandMatcher> chain = CommandParserBenchmark.legacyChain();
+    String[] tricky = {
+        "create event Lunch on roof from 2025-01-15T12:00 to 2025-01-15T13:00",
+        "create event Trip from A to B on 2025-01-15",
+        "create event Week on 2025-01-20 repeats until 2025-02-28 repeats M until 2025-03-01",
+        "create event X on times",
+        "create event X from a to b repeats M for two times",
+        "CREATE   EVENT\tStandup from 2025-01-16T09:00 to 2025-01-16T09:15",
+        "  Print Events On 2025-01-15  ",
+        "copy events somewhere",
+        "show status on 2025-01-16T10:00,2025-01-16T11:00",
+        "show status --file probes.txt",
+        "edit",
+        "create",
+        "print next events after 2025-01-15T09:00",
+    };
+    for (String[] sample : CommandParserBenchmark.SAMPLES) {
+      assertSameCommand(chain, sample[1]);
+    }
+    for (String line : tricky) {
+      assertSameCommand(chain, line);
+    }
+  }
+
+  private void assertSameCommand(List<CommandMatcher> chain, String line) {
+    assertEquals(line, CommandParserBenchmark.legacyParse(chain, line).getClass(),
+        parser.parse(line).getClass());
+  }
+}
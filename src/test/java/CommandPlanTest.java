@@ -0,0 +1,263 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.NoOpCommand;
+import calendar.controller.CommandPlan;
+import calendar.controller.Controller;
+import calendar.controller.PlanController;
+import calendar.model.CalendarManager;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for compiled command plans and their on-disk cache.
+ */
+public class CommandPlanTest {
+  private static final String SCRIPT = String.join("\n",
+      "create calendar --name Work --timezone America/New_York",
+      "use calendar --name Work",
+      "",
+      "create event \"Team  Sync\" from 2025-01-15T09:00 to 2025-01-15T10:00",
+      "create event Standup from 2025-01-06T09:00 to 2025-01-06T09:15 repeats MW for 4 times",
+      "bogus command",
+      "print events on 2025-01-15",
+      "exit");
+
+  private Path source;
+  private CommandParser parser;
+
+  /**
+   * Writes the script to a fresh temporary directory.
+   */
+  @Before
+  public void setUp() throws IOException {
+    source = Files.createTempDirectory("plan").resolve("commands.txt");
+    Files.write(source, SCRIPT.getBytes(StandardCharsets.UTF_8));
+    parser = new CommandParser();
+  }
+
+  private static List<Class<?>> commandKinds() throws Exception {
+    Path root = Paths.get(CommandInterface.class.getProtectionDomain().getCodeSource()
+        .getLocation().toURI());
+    List<Class<?>> kinds = new ArrayList<>();
+    try (Stream<Path> files = Files.list(root.resolve("calendar/command"))) {
+      for (Path file : files.sorted().collect(Collectors.toList())) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(".class") || name.contains("$")) {
+          continue;
+        }
+        Class<?> type = Class.forName("calendar.command." + name.replace(".class", ""));
+        if (CommandInterface.class.isAssignableFrom(type) && !type.isInterface()
+            && !Modifier.isAbstract(type.getModifiers())) {
+          kinds.add(type);
+        }
+      }
+    }
+    return kinds;
+  }
+
+  private static List<Field> recordFields(Class<?> kind) {
+    List<Field> fields = new ArrayList<>();
+    for (Field field : kind.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+        field.setAccessible(true);
+        fields.add(field);
+      }
+    }
+    return fields;
+  }
+
+  private TestView runPlan(CommandPlan plan) throws IOException {
+    TestView view = new TestView();
+    new PlanController(new CalendarManager(), view, plan).run();
+    return view;
+  }
+
+  @Test
+  public void testPlanRunsLikeController() throws IOException {
+    TestView expected = new TestView();
+    new Controller(new CalendarManager(), expected, parser, new StringReader(SCRIPT), false)
+        .run();
+
+    TestView actual = runPlan(CommandPlan.load(source, parser));
+    assertEquals(expected.getMessages(), actual.getMessages());
+    assertEquals(expected.getErrors(), actual.getErrors());
+    assertEquals(1, actual.getErrorCount());
+  }
+
+  @Test
+  public void testSecondLoadReadsCache() throws IOException {
+    CommandPlan first = CommandPlan.load(source, parser);
+    assertFalse(first.isFromCache());
+    assertTrue(Files.isRegularFile(CommandPlan.cachePathFor(source)));
+    assertEquals(7, first.getCommands().size());
+
+    CommandPlan second = CommandPlan.load(source, parser);
+    assertTrue(second.isFromCache());
+    assertEquals(first.getCommands().size(), second.getCommands().size());
+    assertTrue(second.getCommands().get(4) instanceof NoOpCommand);
+    TestView fromCache = runPlan(second);
+    assertEquals(runPlan(first).getMessages(), fromCache.getMessages());
+  }
+
+  @Test
+  public void testEditedSourceIsRecompiled() throws IOException {
+    CommandPlan.load(source, parser);
+    Files.write(source, (SCRIPT.replace("exit", "") + "print all events\nexit\n")
+        .getBytes(StandardCharsets.UTF_8));
+
+    CommandPlan plan = CommandPlan.load(source, parser);
+    assertFalse(plan.isFromCache());
+    assertEquals(8, plan.getCommands().size());
+    assertTrue(CommandPlan.load(source, parser).isFromCache());
+  }
+
+  @Test
+  public void testCorruptCacheIsReplaced() throws IOException {
+    Files.write(CommandPlan.cachePathFor(source), new byte[] {1, 2, 3});
+    assertFalse(CommandPlan.load(source, parser).isFromCache());
+    assertTrue(CommandPlan.load(source, parser).isFromCache());
+  }
+
+  @Test
+  public void testEveryCommandKindReadsBack() throws IOException {
+    Path dir = source.getParent();
+    String script = String.join("\n",
+        "create calendar --name Work --timezone America/New_York",
+        "create calendar --name Home --timezone Europe/Paris",
+        "use calendar --name Work",
+        "edit calendar --name Work --property policy no-overlap",
+        "create event \"Team Meeting\" from 2025-01-15T09:00 to 2025-01-15T10:00",
+        "create event Holiday on 2025-12-25",
+        "create event Standup from 2025-01-16T09:00 to 2025-01-16T09:15 repeats MWF for 6 times",
+        "create event Sync from 2025-01-17T15:00 to 2025-01-17T16:00 repeats T until 2025-03-31",
+        "create event Training on 2025-01-20 repeats R for 4 times",
+        "create event Gym on 2025-01-20 repeats SU until 2025-02-28",
+        "edit event location \"Team Meeting\" from 2025-01-15T09:00 to 2025-01-15T10:00 with A",
+        "edit events location Standup from 2025-01-20T09:00 with B",
+        "edit series description Sync from 2025-01-17T15:00 with Weekly",
+        "edit all --where subject=\"Standup\" --set location \"Room 4\"",
+        "print all events",
+        "print events on 2025-01-16",
+        "print events from 2025-01-15T00:00 to 2025-01-20T23:59",
+        "print next 3 events after 2025-01-15T09:00",
+        "print month 2025-01",
+        "print week 2025-01-15",
+        "show status on 2025-01-16T09:05",
+        "show status on 2025-01-16T09:05,2025-01-16T10:00",
+        "show status from 2025-01-16T08:00 to 2025-01-16T18:00",
+        "search standup --calendars Work,Home",
+        "complete subject \"Tr\"",
+        "stats by location",
+        "utilization --from 2025-01-01 --to 2025-03-31 --granularity month",
+        "copy event Holiday on 2025-12-25T00:00 --target Home to 2025-12-26T00:00",
+        "copy events on 2025-01-16 --target Home to 2025-01-26",
+        "copy events between 2025-01-15 and 2025-01-17 --target Home to 2025-02-01",
+        "export cal " + dir.resolve("work.csv"),
+        "export freebusy " + dir.resolve("busy.ics") + " --from 2025-01-01T00:00"
+            + " --to 2026-01-01T00:00",
+        "delete event Holiday from 2025-12-25T00:00 to 2025-12-26T00:00",
+        "delete series Standup from 2025-01-20T09:00",
+        "delete events between 2025-06-01 and 2025-06-30",
+        "nonsense",
+        "exit");
+    Files.write(source, script.getBytes(StandardCharsets.UTF_8));
+
+    CommandPlan compiled = CommandPlan.load(source, parser);
+    CommandPlan cached = CommandPlan.load(source, parser);
+    assertTrue(cached.isFromCache());
+    assertEquals(compiled.getCommands().size(), cached.getCommands().size());
+    for (int i = 0; i < compiled.getCommands().size(); i++) {
+      assertEquals(compiled.getCommands().get(i).getClass(),
+          cached.getCommands().get(i).getClass());
+    }
+
+    TestView expected = runPlan(compiled);
+    TestView actual = runPlan(cached);
+    assertEquals(expected.getMessages(), actual.getMessages());
+    assertEquals(expected.getErrors(), actual.getErrors());
+    assertEquals(1, actual.getErrorCount());
+  }
+
+  @Test
+  public void testEveryKindKeepsEachFieldInPlace() throws Exception {
+    List<CommandInterface> built = new ArrayList<>();
+    StringBuilder lines = new StringBuilder();
+    for (Class<?> kind : commandKinds()) {
+      List<Field> fields = recordFields(kind);
+      Constructor<?> constructor = kind.getConstructor(
+          fields.stream().map(Field::getType).toArray(Class<?>[]::new));
+      for (int marked = 0; marked < Math.max(1, fields.size()); marked++) {
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+          Class<?> type = fields.get(i).getType();
+          if (type == String.class) {
+            values[i] = marked + ":" + i;
+          } else if (type == int.class || type == Integer.class) {
+            values[i] = 100 * marked + i;
+          } else {
+            values[i] = i == marked;
+          }
+        }
+        lines.append(built.size()).append('\n');
+        built.add((CommandInterface) constructor.newInstance(values));
+      }
+    }
+    assertTrue(built.size() > 30);
+    Files.write(source, lines.toString().getBytes(StandardCharsets.UTF_8));
+    CommandParser replay = new CommandParser() {
+      @Override
+      public CommandInterface parse(String input) {
+        return built.get(Integer.parseInt(input));
+      }
+    };
+
+    CommandPlan.load(source, replay);
+    CommandPlan cached = CommandPlan.load(source, replay);
+    assertTrue(cached.isFromCache());
+    for (int i = 0; i < built.size(); i++) {
+      CommandInterface expected = built.get(i);
+      CommandInterface actual = cached.getCommands().get(i);
+      assertEquals(expected.getClass(), actual.getClass());
+      for (Field field : recordFields(expected.getClass())) {
+        assertEquals(field.toString(), field.get(expected), field.get(actual));
+      }
+    }
+  }
+
+  @Test
+  public void testPlanFromAnotherBuildIsRecompiled() throws IOException {
+    CommandPlan.load(source, parser);
+    Path cache = CommandPlan.cachePathFor(source);
+    byte[] bytes = Files.readAllBytes(cache);
+    bytes[8] ^= 1;
+    Files.write(cache, bytes);
+
+    assertFalse(CommandPlan.load(source, parser).isFromCache());
+    assertTrue(CommandPlan.load(source, parser).isFromCache());
+  }
+
+  @Test
+  public void testMissingExitReported() throws IOException {
+    Files.write(source, "create calendar --name A --timezone UTC\n".getBytes(
+        StandardCharsets.UTF_8));
+    TestView view = runPlan(CommandPlan.load(source, parser));
+    assertTrue(view.hasError("Error: Commands file must end with 'exit' command"));
+  }
+}
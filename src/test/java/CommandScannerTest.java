@@ -0,0 +1,117 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.command.CommandScanner;
+import calendar.model.CalendarManager;
+import calendar.model.EventInterface;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the cursor-based command scanner and the matchers built on it.
+ */
+public class CommandScannerTest {
+  private CalendarManager manager;
+  private TestView view;
+  private CommandParser parser;
+
+  /**
+   * Sets up a manager with one calendar selected.
+   */
+  @Before
+  public void setUp() {
+    manager = new CalendarManager();
+    view = new TestView();
+    parser = new CommandParser();
+    manager.createCalendar("Work", ZoneId.of("America/New_York"));
+    manager.setCurrentCalendar("Work");
+  }
+
+  private void run(String line) throws IOException {
+    parser.parse(line).execute(manager, view);
+  }
+
+  private List<EventInterface> events() {
+    return manager.getCurrentCalendar().getModel().getAllEvents();
+  }
+
+  @Test
+  public void testSplitsOnRegexWhitespaceOnly() {
+    CommandScanner line = new CommandScanner(" print\t events \u000B on  2025-01-15 ");
+    assertEquals(4, line.wordCount());
+    assertEquals("print", line.word(0));
+    assertEquals("2025-01-15", line.word(3));
+
+    CommandScanner other = new CommandScanner("print events");
+    assertEquals(1, other.wordCount());
+    assertEquals(0, new CommandScanner("   ").wordCount());
+  }
+
+  @Test
+  public void testKeywordsIgnoreAsciiCaseOnly() {
+    CommandScanner line = new CommandScanner("CrEaTe EVENT İtem");
+    assertTrue(line.wordIs(0, "create"));
+    assertTrue(line.wordIs(1, "event"));
+    assertFalse(line.wordIs(1, "events"));
+    assertFalse(line.wordIs(2, "item"));
+    assertFalse(line.wordIs(3, "create"));
+    assertFalse(line.wordIs(-1, "create"));
+    assertTrue(line.lastWordIs(2, "event"));
+    assertEquals(1, line.indexOf(0, "event"));
+    assertEquals(-1, line.indexOf(2, "event"));
+  }
+
+  @Test
+  public void testIntWordParsesDigitsInPlace() {
+    CommandScanner line = new CommandScanner("for 12 x1 -3 99999999999 007");
+    assertEquals(12, line.intWord(1));
+    assertEquals(-1, line.intWord(2));
+    assertEquals(-1, line.intWord(3));
+    assertEquals(-1, line.intWord(4));
+    assertEquals(7, line.intWord(5));
+    assertEquals(-1, line.intWord(6));
+  }
+
+  @Test
+  public void testSpanKeepsSpacingAndUnquotedStripsOnePair() {
+    CommandScanner line = new CommandScanner("a \"Team  Sync\" 'x' \" b");
+    assertEquals("\"Team  Sync\"", line.span(1, 3));
+    assertEquals("Team  Sync", line.unquoted(1, 3));
+    assertEquals("x", line.unquoted(3, 4));
+    assertEquals("\"", line.unquoted(4, 5));
+    assertEquals("'x' \"", line.unquoted(3, 5));
+  }
+
+  @Test
+  public void testQuotedSubjectKeepsInnerSpacing() throws IOException {
+    run("create event \"Team  Sync\" from 2025-01-15T09:00 to 2025-01-15T10:00");
+    assertEquals(1, events().size());
+    assertEquals("Team  Sync", events().get(0).getSubject());
+  }
+
+  @Test
+  public void testSubjectMayContainKeywords() throws IOException {
+    run("create event Lunch from home on roof from 2025-01-15T12:00 to 2025-01-15T13:00");
+    assertEquals("Lunch from home on roof", events().get(0).getSubject());
+
+    run("edit event subject Lunch from home on roof from 2025-01-15T12:00 "
+        + "to 2025-01-15T13:00 with 'Long lunch'");
+    assertEquals("Long lunch", events().get(0).getSubject());
+  }
+
+  @Test
+  public void testSeriesCountParsedFromScanner() throws IOException {
+    run("create event Standup from 2025-01-06T09:00 to 2025-01-06T09:15 repeats MW for 4 times");
+    assertEquals(4, events().size());
+
+    run("edit series location Standup from 2025-01-06T09:00 with \"Room 2\"");
+    for (EventInterface e : events()) {
+      assertEquals("Room 2", e.getLocation().orElse(null));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.CompleteSubjectCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.EventInterface;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests for subject lookups, subject completion and the complete subject command.
+ */
+public class CompleteSubjectCommandTest extends CalendarTestFixture {
+  private static final LocalDateTime NINE = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Team Meeting", NINE, NINE.plusHours(1)));
+    model.createEvent(event("Team Meeting", NINE, NINE.plusMinutes(30)));
+    model.createEvent(event("Team Lunch", NINE.plusHours(3), NINE.plusHours(4)));
+    model.createEvent(event("Standup", NINE, NINE.plusMinutes(15)));
+  }
+
+  @Test
+  public void testFindBySubjectAndStartReturnsEarliestEnd() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      EventInterface found = model.findEventBySubjectAndStart("Team Meeting", NINE);
+      assertEquals(NINE.plusMinutes(30), found.getEndDateTime());
+      assertNull(model.findEventBySubjectAndStart("Team Meeting", NINE.plusHours(1)));
+      assertNull(model.findEventBySubjectAndStart("team meeting", NINE));
+    }
+  }
+
+  @Test
+  public void testCompleteSubjectIsSortedDistinctAndLimited() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      assertEquals(Arrays.asList("Team Lunch", "Team Meeting"), model.completeSubject("Team", 10));
+      assertEquals(Arrays.asList("Team Lunch"), model.completeSubject("Te", 1));
+      assertTrue(model.completeSubject("X", 10).isEmpty());
+    }
+  }
+
+  @Test
+  public void testSubjectIndexFollowsEdits() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    EventInterface e = event("Standup", NINE, NINE.plusMinutes(15));
+    model.createEvent(e);
+    model.editEvent(e.getId(), new EditSpec("Daily Sync", null, null, null, null, null));
+
+    assertNull(model.findEventBySubjectAndStart("Standup", NINE));
+    assertEquals(e.getId(), model.findEventBySubjectAndStart("Daily Sync", NINE).getId());
+    assertEquals(Arrays.asList("Daily Sync"), model.completeSubject("", 10));
+  }
+
+  @Test
+  public void testCompleteSubjectCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse("complete subject \"Team \"");
+    assertTrue(cmd instanceof CompleteSubjectCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(Arrays.asList("Team Lunch", "Team Meeting"), view.getMessages());
+
+    view.clear();
+    assertTrue(new CompleteSubjectCommand("Zzz").execute(manager, view));
+    assertTrue(view.hasMessage("No subjects found"));
+  }
+
+  @Test
+  public void testCompleteSubjectWithoutCalendar() throws IOException {
+    assertFalse(new CompleteSubjectCommand("T").execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
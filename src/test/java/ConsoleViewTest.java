@@ -1,5 +1,10 @@
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import calendar.command.CommandParser;
+import calendar.controller.Controller;
+import calendar.model.CalendarManager;
 import calendar.model.Event;
 import calendar.model.EventInterface;
 import calendar.view.ConsoleView;
@@ -9,6 +14,8 @@ import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import org.junit.After;
@@ -111,5 +118,163 @@ public class ConsoleViewTest {
     assertTrue(output.contains("Meeting1"));
     assertTrue(output.contains("Meeting2"));
   }
-}
 
+  private static EventInterface event(String subject, LocalDateTime start, LocalDateTime end) {
+    return new Event(subject, start, end, null, null, false, UUID.randomUUID(), null);
+  }
+
+  @Test
+  public void testTimesAndDatesMatchFormatter() throws IOException {
+    StringBuilder out = new StringBuilder();
+    ConsoleView plain = new ConsoleView(out);
+    List<EventInterface> events = new ArrayList<>();
+    StringBuilder expected = new StringBuilder();
+    int[] years = {1, 999, 2025, 9999};
+    for (int h = 0; h < 24; h++) {
+      for (int m = 0; m < 60; m += 7) {
+        LocalDateTime start = LocalDateTime.of(years[(h + m) % 4], 1 + h % 12, 1 + m % 28, h, m);
+        LocalDateTime end = start.plusMinutes(59);
+        events.add(event("E", start, end));
+        expected.append("- E starting on ").append(start.toLocalDate()).append(" at ")
+            .append(String.format("%02d:%02d", start.getHour(), start.getMinute()))
+            .append(", ending on ").append(end.toLocalDate()).append(" at ")
+            .append(String.format("%02d:%02d", end.getHour(), end.getMinute()))
+            .append(System.lineSeparator());
+      }
+    }
+    plain.displayEvents(events);
+    assertEquals(expected.toString(), out.toString());
+  }
+
+  @Test
+  public void testBufferedViewHoldsOutputUntilFlush() throws IOException {
+    StringBuilder out = new StringBuilder();
+    ConsoleView buffered = new ConsoleView(out, 1024);
+    buffered.displayMessage("first");
+    buffered.displayError("second");
+    assertEquals("", out.toString());
+    buffered.flush();
+    assertEquals("first" + System.lineSeparator() + "ERROR: second" + System.lineSeparator(),
+        out.toString());
+  }
+
+  @Test
+  public void testBufferedViewWritesFullChunks() throws IOException {
+    StringBuilder out = new StringBuilder();
+    ConsoleView buffered = new ConsoleView(out, 64);
+    List<EventInterface> events = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      events.add(event("Meeting" + i, LocalDateTime.of(2025, 6, 1, 10, 0),
+          LocalDateTime.of(2025, 6, 1, 11, 0)));
+    }
+    buffered.displayEvents(events);
+    String written = out.toString();
+    assertTrue(written.contains("Meeting98"));
+    buffered.flush();
+
+    StringBuilder direct = new StringBuilder();
+    new ConsoleView(direct).displayEvents(events);
+    assertEquals(direct.toString(), out.toString());
+  }
+
+  @Test
+  public void testBufferedViewFlushesInteractiveCommandsRightAway() throws IOException {
+    StringBuilder out = new StringBuilder();
+    ConsoleView buffered = new ConsoleView(out, 1 << 16);
+    Readable input = new Readable() {
+      private final String[] lines = {"create calendar --name A --timezone UTC\n", "exit\n"};
+      private int next;
+
+      @Override
+      public int read(java.nio.CharBuffer cb) {
+        if (next == lines.length) {
+          return -1;
+        }
+        if (next == 1) {
+          assertTrue(out.toString().contains("Calendar 'A' created"));
+        }
+        cb.put(lines[next++]);
+        return lines[next - 1].length();
+      }
+    };
+    new Controller(new CalendarManager(), buffered, new CommandParser(), input, true).run();
+    assertTrue(out.toString().startsWith("Enter commands"));
+  }
+
+  @Test
+  public void testBufferedViewFlushedWhenHeadlessRunFails() throws IOException {
+    StringBuilder out = new StringBuilder();
+    ConsoleView buffered = new ConsoleView(out, 1 << 16);
+    Readable input = new Readable() {
+      private boolean sent;
+
+      @Override
+      public int read(java.nio.CharBuffer cb) {
+        if (sent) {
+          throw new IllegalStateException("input gone");
+        }
+        sent = true;
+        String line = "create calendar --name A --timezone UTC\n";
+        cb.put(line);
+        return line.length();
+      }
+    };
+    try {
+      new Controller(new CalendarManager(), buffered, new CommandParser(), input, false).run();
+      fail("Expected the read failure to propagate");
+    } catch (IllegalStateException e) {
+      assertEquals("input gone", e.getMessage());
+    }
+    assertTrue(out.toString().contains("Calendar 'A' created"));
+  }
+
+  @Test
+  public void testStreamedEventsAreWrittenInChunks() throws IOException {
+    int[] longest = new int[1];
+    int[] total = new int[1];
+    Appendable sink = new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) {
+        longest[0] = Math.max(longest[0], csq.length());
+        total[0] += csq.length();
+        return this;
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) {
+        return append(csq.subSequence(start, end));
+      }
+
+      @Override
+      public Appendable append(char c) {
+        return append(String.valueOf(c));
+      }
+    };
+    Iterator<EventInterface> events = new Iterator<EventInterface>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < 200_000;
+      }
+
+      @Override
+      public EventInterface next() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(next++);
+        return event("E", start, start.plusMinutes(30));
+      }
+    };
+    ConsoleView buffered = new ConsoleView(sink, 4096);
+    buffered.displayEvents(events);
+    buffered.flush();
+    assertTrue(total[0] > 200_000 * 40);
+    assertTrue(longest[0] < 4096 + 200);
+  }
+
+  @Test
+  public void testStreamedEmptyIteratorPrintsNoEvents() throws IOException {
+    StringBuilder out = new StringBuilder();
+    new ConsoleView(out).displayEvents(Collections.emptyIterator());
+    assertEquals("No events found." + System.lineSeparator(), out.toString());
+  }
+}
@@ -132,11 +132,60 @@ public class ControllerTest {
       return java.util.Collections.emptyList();
     }
 
+    @Override
+    public java.util.Iterator<calendar.model.EventInterface> iterateEventsOnDate(
+        java.time.LocalDate date) {
+      return java.util.Collections.emptyIterator();
+    }
+
+    @Override
+    public java.util.Iterator<calendar.model.EventInterface> iterateEventsInRange(
+        java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime) {
+      return java.util.Collections.emptyIterator();
+    }
+
+    @Override
+    public java.util.Iterator<calendar.model.EventInterface> iterateAllEvents() {
+      return java.util.Collections.emptyIterator();
+    }
+
     @Override
     public boolean isBusy(java.time.LocalDateTime dateTime) {
       return false;
     }
 
+    @Override
+    public java.util.List<calendar.model.DaySummary> getDaySummaries(
+        java.time.LocalDate startDate, java.time.LocalDate endDate) {
+      return new java.util.ArrayList<>();
+    }
+
+    @Override
+    public java.util.List<calendar.model.EventInterface> getNextEvents(
+        java.time.LocalDateTime dateTime, int limit) {
+      return new java.util.ArrayList<>();
+    }
+
+    @Override
+    public boolean[] isBusyAt(java.util.List<java.time.LocalDateTime> dateTimes) {
+      return new boolean[dateTimes.size()];
+    }
+
+    @Override
+    public calendar.model.QueryCacheStats getQueryCacheStats() {
+      return new calendar.model.QueryCacheStats(0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public void addEventListener(calendar.model.EventListener listener) {
+    }
+
+    @Override
+    public java.util.List<calendar.model.TimeBlock> getAvailability(
+        java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime) {
+      return new java.util.ArrayList<>();
+    }
+
     @Override
     public void exportToCsv(java.nio.file.Path filePath) throws java.io.IOException {
     }
@@ -151,6 +200,66 @@ public class ControllerTest {
         java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime) {
       return null;
     }
+
+    @Override
+    public java.util.List<calendar.model.EventInterface> searchEvents(String query,
+        java.time.LocalDateTime startDateTime, java.time.LocalDateTime endDateTime) {
+      return java.util.Collections.emptyList();
+    }
+
+    @Override
+    public calendar.model.EventInterface findEventBySubjectAndStart(String subject,
+        java.time.LocalDateTime startDateTime) {
+      return null;
+    }
+
+    @Override
+    public java.util.List<String> completeSubject(String prefix, int limit) {
+      return java.util.Collections.emptyList();
+    }
+
+    @Override
+    public java.util.List<calendar.model.GroupStats> getStatistics(
+        calendar.model.EventAttribute attribute, java.time.LocalDateTime startDateTime,
+        java.time.LocalDateTime endDateTime) {
+      return java.util.Collections.emptyList();
+    }
+
+    @Override
+    public long getBookedMinutes(java.time.LocalDate startDate, java.time.LocalDate endDate,
+        boolean merged) {
+      return 0;
+    }
+
+    @Override
+    public boolean deleteEvent(java.util.UUID eventId) {
+      return false;
+    }
+
+    @Override
+    public int deleteEventsBetween(java.time.LocalDate startDate, java.time.LocalDate endDate) {
+      return 0;
+    }
+
+    @Override
+    public int deleteSeriesFrom(java.util.UUID seriesId, java.time.LocalDate fromDate) {
+      return 0;
+    }
+
+    @Override
+    public int editAll(calendar.model.EventFilter filter, calendar.model.EditSpec spec) {
+      return 0;
+    }
+
+    @Override
+    public calendar.model.OverlapPolicy getOverlapPolicy() {
+      return calendar.model.OverlapPolicy.ALLOW_OVERLAP;
+    }
+
+    @Override
+    public boolean setOverlapPolicy(calendar.model.OverlapPolicy policy) {
+      return true;
+    }
   }
 
   @Test
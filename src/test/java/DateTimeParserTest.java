@@ -1,10 +1,13 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 import calendar.util.DateTimeParser;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import org.junit.Test;
 
 /**
@@ -61,5 +64,52 @@ public class DateTimeParserTest {
     assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59),
         DateTimeParser.parseDateTime("2025-12-31T23:59"));
   }
-}
 
+  @Test
+  public void testFastPathAgreesWithFormatterForEveryDay() {
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    for (LocalDate d = LocalDate.of(1999, 12, 1); d.getYear() < 2002; d = d.plusDays(1)) {
+      String text = d.format(formatter);
+      assertEquals(LocalDate.parse(text, formatter), DateTimeParser.parseDate(text));
+    }
+    for (int minute = 0; minute < 24 * 60; minute++) {
+      String text = String.format("2000-02-29T%02d:%02d", minute / 60, minute % 60);
+      assertEquals(LocalDateTime.of(2000, 2, 29, minute / 60, minute % 60),
+          DateTimeParser.parseDateTime(text));
+    }
+  }
+
+  @Test
+  public void testOutOfRangeFieldsResolveLikeFormatter() {
+    assertEquals(LocalDate.of(2025, 2, 28), DateTimeParser.parseDate("2025-02-30"));
+    assertEquals(LocalDate.of(2025, 4, 30), DateTimeParser.parseDate("2025-04-31"));
+    assertEquals(LocalDate.of(1900, 2, 28), DateTimeParser.parseDate("1900-02-29"));
+    assertEquals(LocalTime.of(0, 0), DateTimeParser.parseTime("24:00"));
+    assertEquals(LocalDateTime.of(2025, 1, 16, 0, 0),
+        DateTimeParser.parseDateTime("2025-01-15T24:00"));
+  }
+
+  @Test
+  public void testMalformedInputThrowsParseException() {
+    String[] dates = {"2025-01-32", "2025-13-01", "0000-01-01", "2025/01/01", "2025-1-01",
+        "２０２５-01-01", ""};
+    for (String text : dates) {
+      assertThrowsParse(() -> DateTimeParser.parseDate(text));
+    }
+    for (String text : new String[] {"23:60", "9:00", "09-00", "0９:00"}) {
+      assertThrowsParse(() -> DateTimeParser.parseTime(text));
+    }
+    for (String text : new String[] {"2025-01-15t10:00", "2025-01-15 10:00", "2025-01-15T1000"}) {
+      assertThrowsParse(() -> DateTimeParser.parseDateTime(text));
+    }
+  }
+
+  private static void assertThrowsParse(Runnable parse) {
+    try {
+      parse.run();
+      fail("expected DateTimeParseException");
+    } catch (DateTimeParseException e) {
+      // expected
+    }
+  }
+}
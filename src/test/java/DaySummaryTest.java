@@ -0,0 +1,118 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.PrintMonthCommand;
+import calendar.command.PrintWeekCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.DaySummary;
+import calendar.model.EditSpec;
+import calendar.model.EventInterface;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for day summaries and the month and week views.
+ */
+public class DaySummaryTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Sync", march(3, 10, 0), march(3, 10, 30)));
+    model.createEvent(event("Standup", march(3, 9, 0), march(3, 9, 30)));
+    model.createEvent(event("Review", march(3, 9, 15), march(3, 10, 0)));
+    model.createEvent(event("Lunch", march(3, 12, 0), march(3, 13, 0)));
+    model.createEvent(event("Overnight", march(4, 22, 0), march(5, 2, 0)));
+  }
+
+  @Test
+  public void testSummariesMatchAcrossModels() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<DaySummary> days = model.getDaySummaries(LocalDate.of(2025, 3, 3),
+          LocalDate.of(2025, 3, 6));
+      assertEquals(4, days.size());
+      assertEquals(new DaySummary(LocalDate.of(2025, 3, 3), 4, 150,
+          Arrays.asList("Standup", "Review", "Sync")), days.get(0));
+      assertEquals(new DaySummary(LocalDate.of(2025, 3, 4), 1, 120,
+          Arrays.asList("Overnight")), days.get(1));
+      assertEquals(new DaySummary(LocalDate.of(2025, 3, 5), 1, 120,
+          Arrays.asList("Overnight")), days.get(2));
+      assertEquals(0, days.get(3).getEventCount());
+      assertTrue(days.get(3).getSubjects().isEmpty());
+    }
+  }
+
+  @Test
+  public void testSummariesFollowEditsAndDeletes() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    populate(model);
+    EventInterface standup = model.findEventBySubjectAndStart("Standup", march(3, 9, 0));
+    model.editEvent(standup.getId(), new EditSpec(null, march(6, 9, 0), null, null, null, null));
+    EventInterface lunch = model.findEventBySubjectAndStart("Lunch", march(3, 12, 0));
+    model.deleteEvent(lunch.getId());
+
+    List<DaySummary> days = model.getDaySummaries(LocalDate.of(2025, 3, 3),
+        LocalDate.of(2025, 3, 6));
+    assertEquals(new DaySummary(LocalDate.of(2025, 3, 3), 2, 75,
+        Arrays.asList("Review", "Sync")), days.get(0));
+    assertEquals(new DaySummary(LocalDate.of(2025, 3, 6), 1, 30,
+        Arrays.asList("Standup")), days.get(3));
+    assertEquals(model.getEventsOnDate(LocalDate.of(2025, 3, 5)).size(),
+        days.get(2).getEventCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReversedRangeRejected() {
+    new PartitionedCalendarModel().getDaySummaries(LocalDate.of(2025, 3, 2),
+        LocalDate.of(2025, 3, 1));
+  }
+
+  @Test
+  public void testPrintWeekCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+    manager.getCurrentCalendar().getModel().createEvent(
+        event("Retro", march(3, 16, 0), march(3, 17, 0)));
+
+    CommandInterface cmd = new CommandParser().parse("print week 2025-03-05");
+    assertTrue(cmd instanceof PrintWeekCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(8, view.getMessageCount());
+    assertEquals("Week of 2025-03-03:", view.getMessages().get(0));
+    assertEquals("Mon 2025-03-03  5 event(s)  210 min  Standup, Review, Sync +2 more",
+        view.getMessages().get(1));
+    assertEquals("Sun 2025-03-09  0 event(s)  0 min", view.getMessages().get(7));
+  }
+
+  @Test
+  public void testPrintMonthCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse("print month 2025-03");
+    assertTrue(cmd instanceof PrintMonthCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals("March 2025:", view.getMessages().get(0));
+    assertEquals(1 + 31 + 5, view.getMessageCount());
+    assertTrue(view.hasMessage("Tue 2025-03-04  1 event(s)  120 min  Overnight"));
+  }
+
+  @Test
+  public void testPrintMonthAndWeekErrors() throws IOException {
+    assertFalse(new PrintMonthCommand("2025-13").execute(manager, view));
+    assertTrue(view.hasError("Failed to print month: Invalid month format"));
+
+    assertFalse(new PrintWeekCommand("March").execute(manager, view));
+    assertTrue(view.hasError("Failed to print week"));
+
+    assertFalse(new PrintMonthCommand("2025-03").execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
@@ -0,0 +1,147 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.command.DeleteEventCommand;
+import calendar.command.DeleteEventsBetweenCommand;
+import calendar.command.DeleteSeriesCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.Event;
+import calendar.model.EventAttribute;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for deleting events from the models and the delete commands.
+ */
+public class DeleteCommandTest extends CalendarTestFixture {
+
+  private static CalendarModelInterface[] models() {
+    return new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()};
+  }
+
+  @Test
+  public void testDeleteEvent() {
+    for (CalendarModelInterface model : models()) {
+      EventInterface e = event("Sync", LocalDateTime.of(2025, 5, 5, 9, 0),
+          LocalDateTime.of(2025, 5, 5, 10, 0), null, "Room 1", false);
+      model.createEvent(e);
+
+      assertTrue(model.deleteEvent(e.getId()));
+      assertFalse(model.deleteEvent(e.getId()));
+      assertNull(model.findEventById(e.getId()));
+      assertTrue(model.getEventsOnDate(LocalDate.of(2025, 5, 5)).isEmpty());
+      assertTrue(model.searchEvents("sync", null, null).isEmpty());
+      assertTrue(model.getStatistics(EventAttribute.LOCATION, null, null).isEmpty());
+      assertTrue(model.createEvent(e));
+    }
+  }
+
+  @Test
+  public void testDeleteEventsBetweenSpansMonths() {
+    for (CalendarModelInterface model : models()) {
+      LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+      for (int i = 0; i < 120; i++) {
+        model.createEvent(event("Day " + i, start.plusDays(i), start.plusDays(i).plusHours(1), null,
+            i % 2 == 0 ? "Room 1" : "Room 2", false));
+      }
+
+      assertEquals(59, model.deleteEventsBetween(LocalDate.of(2025, 1, 15),
+          LocalDate.of(2025, 3, 14)));
+      assertEquals(61, model.getAllEvents().size());
+      assertTrue(model.getEventsInRange(LocalDateTime.of(2025, 1, 15, 0, 0),
+          LocalDateTime.of(2025, 3, 15, 0, 0)).isEmpty());
+      assertEquals(1, model.getEventsOnDate(LocalDate.of(2025, 3, 15)).size());
+      assertEquals(61, model.getStatistics(EventAttribute.LOCATION, null, null).stream()
+          .mapToLong(g -> g.getEventCount()).sum());
+      assertEquals(0, model.searchEvents("day 20", null, null).size());
+      assertEquals(1, model.searchEvents("day 13", null, null).size());
+      assertEquals(0, model.getBookedMinutes(LocalDate.of(2025, 2, 1),
+          LocalDate.of(2025, 2, 28), false));
+      assertEquals(0, model.deleteEventsBetween(LocalDate.of(2025, 2, 1),
+          LocalDate.of(2025, 2, 28)));
+    }
+  }
+
+  @Test
+  public void testDeleteSeriesFrom() {
+    for (CalendarModelInterface model : models()) {
+      UUID seriesId = UUID.randomUUID();
+      model.createEventSeries(new EventSeries(seriesId,
+          event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0), LocalDateTime.of(2025, 6, 2, 10, 0)),
+          EnumSet.of(DayOfWeek.MONDAY), null, 6, false));
+
+      assertEquals(4, model.deleteSeriesFrom(seriesId, LocalDate.of(2025, 6, 16)));
+      assertEquals(2, model.getAllEvents().size());
+      assertTrue(model.editEntireSeries(seriesId,
+          new EditSpec("Daily", null, null, null, null, null)));
+      assertEquals(2, model.searchEvents("daily", null, null).size());
+
+      assertEquals(2, model.deleteSeriesFrom(seriesId, LocalDate.of(2025, 1, 1)));
+      assertTrue(model.getAllEvents().isEmpty());
+      assertFalse(model.editEntireSeries(seriesId,
+          new EditSpec("Weekly", null, null, null, null, null)));
+      assertEquals(0, model.deleteSeriesFrom(seriesId, LocalDate.of(2025, 1, 1)));
+    }
+  }
+
+  @Test
+  public void testDeleteCommands() throws IOException {
+    CalendarModelInterface model = manager.getCurrentCalendar().getModel();
+    model.createEvent(event("Review", march(3, 9, 0), march(3, 10, 0)));
+    model.createEvent(event("Lunch", march(4, 12, 0), march(4, 13, 0)));
+    model.createEventSeries(new EventSeries(UUID.randomUUID(),
+        event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0), LocalDateTime.of(2025, 6, 2, 10, 0)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 4, false));
+    CommandParser parser = new CommandParser();
+
+    assertTrue(parser.parse("delete event \"Review\" from 2025-03-03T09:00 to 2025-03-03T10:00")
+        instanceof DeleteEventCommand);
+    assertTrue(parser.parse("delete event \"Review\" from 2025-03-03T09:00 to 2025-03-03T10:00")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Event deleted successfully"));
+
+    assertTrue(parser.parse("delete series \"Standup\" from 2025-06-16T09:00")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Deleted 2 event(s)"));
+
+    assertTrue(parser.parse("delete events between 2025-03-01 and 2025-06-30")
+        instanceof DeleteEventsBetweenCommand);
+    assertTrue(parser.parse("delete events between 2025-03-01 and 2025-06-30")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Deleted 3 event(s)"));
+    assertTrue(model.getAllEvents().isEmpty());
+  }
+
+  @Test
+  public void testDeleteCommandErrors() throws IOException {
+    CalendarManager empty = new CalendarManager();
+    assertFalse(new DeleteEventsBetweenCommand("2025-01-01", "2025-01-02")
+        .execute(empty, view));
+    assertTrue(view.hasError("No calendar selected"));
+
+    assertFalse(new DeleteEventCommand("Missing", "2025-01-01T09:00", "2025-01-01T10:00")
+        .execute(manager, view));
+    assertTrue(view.hasError("Event not found: Missing"));
+
+    assertFalse(new DeleteSeriesCommand("Missing", "2025-01-01T09:00").execute(manager, view));
+    assertTrue(view.hasError("Event not found: Missing at 2025-01-01T09:00"));
+
+    assertFalse(new DeleteEventsBetweenCommand("2025-02-01", "2025-01-01")
+        .execute(manager, view));
+    assertTrue(view.hasError("End date must not be before start date"));
+  }
+}
@@ -0,0 +1,157 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.EditAllCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.EventAttribute;
+import calendar.model.EventFilter;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for bulk edits in the models and the edit all command.
+ */
+public class EditAllCommandTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEventSeries(new EventSeries(UUID.randomUUID(),
+        event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0), LocalDateTime.of(2025, 6, 2, 9, 15),
+            null, "Room 1", false),
+        EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), null, 20, false));
+    model.createEventSeries(new EventSeries(UUID.randomUUID(),
+        event("Standup", LocalDateTime.of(2025, 6, 3, 9, 0), LocalDateTime.of(2025, 6, 3, 9, 15),
+            null, "Room 2", false),
+        EnumSet.of(DayOfWeek.TUESDAY), null, 10, false));
+    model.createEvent(event("Retro", LocalDateTime.of(2025, 7, 4, 9, 0),
+        LocalDateTime.of(2025, 7, 4, 9, 15), null, "Room 1", false));
+  }
+
+  private static EventFilter where(EventAttribute attribute, String value,
+                                   LocalDateTime from, LocalDateTime to) {
+    Map<EventAttribute, String> conditions = new EnumMap<>(EventAttribute.class);
+    conditions.put(attribute, value);
+    return new EventFilter(conditions, from, to);
+  }
+
+  @Test
+  public void testEditAllAcrossSeriesInWindow() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      LocalDateTime from = LocalDateTime.of(2025, 7, 1, 0, 0);
+      LocalDateTime to = LocalDateTime.of(2025, 8, 1, 0, 0);
+
+      int edited = model.editAll(where(EventAttribute.SUBJECT, "Standup", from, to),
+          new EditSpec(null, null, null, null, "Room 4", null));
+      assertEquals(14, edited);
+      List<EventInterface> july = model.getEventsInRange(from, to);
+      assertEquals(15, july.size());
+      for (EventInterface e : july) {
+        String expected = e.getSubject().equals("Retro") ? "Room 1" : "Room 4";
+        assertEquals(expected, e.getLocation().get());
+      }
+      assertEquals(17, model.getStatistics(EventAttribute.LOCATION, null, null).stream()
+          .filter(g -> !g.getKey().equals("Room 4"))
+          .mapToLong(g -> g.getEventCount()).sum());
+    }
+  }
+
+  @Test
+  public void testConditionsAreCombined() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      Map<EventAttribute, String> conditions = new EnumMap<>(EventAttribute.class);
+      conditions.put(EventAttribute.SUBJECT, "Standup");
+      conditions.put(EventAttribute.LOCATION, "Room 2");
+
+      assertEquals(10, model.editAll(new EventFilter(conditions, null, null),
+          new EditSpec("Sync", null, null, null, null, null)));
+      assertEquals(10, model.searchEvents("sync", null, null).size());
+      assertEquals(20, model.searchEvents("standup", null, null).size());
+      assertEquals(0, model.editAll(where(EventAttribute.LOCATION, "Room 9", null, null),
+          new EditSpec("Sync", null, null, null, null, null)));
+    }
+  }
+
+  @Test
+  public void testDuplicateLeavesEverythingUnchanged() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      LocalDateTime start = LocalDateTime.of(2025, 7, 7, 9, 0);
+      model.createEvent(event("A", start, start.plusMinutes(15), null, "Room 1", false));
+      model.createEvent(event("B", start, start.plusMinutes(15), null, "Room 1", false));
+      model.createEvent(event("C", start.plusDays(1), start.plusDays(1).plusMinutes(15), null,
+          "Room 2", false));
+
+      assertEquals(-1, model.editAll(where(EventAttribute.LOCATION, "Room 1", null, null),
+          new EditSpec("Same", null, null, null, null, null)));
+      assertEquals(1, model.searchEvents("a", null, null).size());
+      assertEquals(0, model.searchEvents("same", null, null).size());
+
+      assertEquals(2, model.editAll(where(EventAttribute.LOCATION, "Room 1", null, null),
+          new EditSpec(null, null, null, null, "Room 3", null)));
+      assertEquals(1, model.editAll(new EventFilter(Collections.emptyMap(),
+          start.plusDays(1), start.plusDays(2)),
+          new EditSpec("Moved", start, null, null, null, null)));
+      assertEquals(3, model.getEventsOnDate(start.toLocalDate()).size());
+    }
+  }
+
+  @Test
+  public void testEditAllCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse("edit all --where subject=\"Standup\" "
+        + "location=\"Room 2\" --from 2025-07-01T00:00 --to 2025-08-01T00:00 "
+        + "--set location \"Room 4\"");
+    assertTrue(cmd instanceof EditAllCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertTrue(view.hasMessage("Edited 5 event(s)"));
+
+    assertTrue(new CommandParser().parse("edit all --where subject=Nothing --set subject X")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("No events matched"));
+
+    assertFalse(new CommandParser().parse(
+        "edit all --where location=\"Room 1\" --set start 2025-06-02T09:00")
+        .execute(manager, view));
+    assertTrue(view.hasError("Failed to edit: would create duplicate event"));
+  }
+
+  @Test
+  public void testEditAllCommandErrors() throws IOException {
+    assertFalse(new EditAllCommand("subject=\"A\"", null, null, "location", "B")
+        .execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+
+    assertFalse(new EditAllCommand("colour=\"red\"", null, null, "location", "B")
+        .execute(manager, view));
+    assertTrue(view.hasError("Invalid attribute colour"));
+
+    assertFalse(new EditAllCommand("subject=\"A\" junk", null, null, "location", "B")
+        .execute(manager, view));
+    assertTrue(view.hasError("Invalid condition"));
+
+    assertFalse(new EditAllCommand("subject=\"A\"", null, null, "colour", "B")
+        .execute(manager, view));
+    assertTrue(view.hasError("Invalid property: colour"));
+  }
+}
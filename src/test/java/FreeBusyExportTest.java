@@ -0,0 +1,142 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.ExportFreeBusyCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EventInterface;
+import calendar.model.PartitionedCalendarModel;
+import calendar.utils.FreeBusyExporter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for VFREEBUSY export.
+ */
+public class FreeBusyExportTest extends CalendarTestFixture {
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  private static EventInterface busy(String subject, LocalDateTime start, LocalDateTime end) {
+    return event(subject, start, end, "secret notes", "Room 4", false);
+  }
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(busy("Winter", LocalDateTime.of(2025, 3, 7, 9, 0),
+        LocalDateTime.of(2025, 3, 7, 10, 0)));
+    model.createEvent(busy("Overlap", LocalDateTime.of(2025, 3, 7, 9, 30),
+        LocalDateTime.of(2025, 3, 7, 11, 0)));
+    model.createEvent(busy("Summer", LocalDateTime.of(2025, 3, 10, 9, 0),
+        LocalDateTime.of(2025, 3, 10, 10, 0)));
+    model.createEvent(busy("Late", LocalDateTime.of(2025, 3, 31, 23, 0),
+        LocalDateTime.of(2025, 4, 1, 0, 0)));
+    model.createEvent(busy("Early", LocalDateTime.of(2025, 4, 1, 0, 0),
+        LocalDateTime.of(2025, 4, 1, 1, 0)));
+  }
+
+  private static List<String> periods(String ical) {
+    List<String> periods = new ArrayList<>();
+    for (String line : ical.split("\r\n")) {
+      if (line.startsWith("FREEBUSY:")) {
+        periods.add(line.substring("FREEBUSY:".length()));
+      }
+    }
+    return periods;
+  }
+
+  @Test
+  public void testPeriodsAreMergedAndWrittenInUtc() throws IOException {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      StringWriter out = new StringWriter();
+      int count = FreeBusyExporter.writeFreeBusy(out, model, "Work", NEW_YORK,
+          LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 5, 1, 0, 0));
+
+      List<String> periods = periods(out.toString());
+      assertEquals(3, count);
+      assertEquals(3, periods.size());
+      assertEquals("20250307T140000Z/20250307T160000Z", periods.get(0));
+      assertEquals("20250310T130000Z/20250310T140000Z", periods.get(1));
+      assertEquals("20250401T030000Z/20250401T050000Z", periods.get(2));
+    }
+  }
+
+  @Test
+  public void testOutputHasNoEventDetails() throws IOException {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    populate(model);
+    StringWriter out = new StringWriter();
+    FreeBusyExporter.writeFreeBusy(out, model, "Work", NEW_YORK,
+        LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0));
+
+    String ical = out.toString();
+    assertTrue(ical.startsWith("BEGIN:VCALENDAR\r\n"));
+    assertTrue(ical.contains("BEGIN:VFREEBUSY\r\n"));
+    assertTrue(ical.contains("DTSTART:20250301T050000Z\r\n"));
+    assertTrue(ical.contains("DTEND:20250401T040000Z\r\n"));
+    assertTrue(ical.endsWith("END:VFREEBUSY\r\nEND:VCALENDAR\r\n"));
+    assertFalse(ical.contains("Winter"));
+    assertFalse(ical.contains("secret"));
+    assertFalse(ical.contains("Room"));
+    assertEquals("20250401T030000Z/20250401T040000Z", periods(ical).get(2));
+  }
+
+  @Test
+  public void testWindowClipsPeriods() throws IOException {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    populate(model);
+    StringWriter out = new StringWriter();
+    assertEquals(1, FreeBusyExporter.writeFreeBusy(out, model, "Work", NEW_YORK,
+        LocalDateTime.of(2025, 3, 7, 10, 30), LocalDateTime.of(2025, 3, 8, 0, 0)));
+    assertEquals("20250307T153000Z/20250307T160000Z", periods(out.toString()).get(0));
+  }
+
+  @Test
+  public void testExportFreeBusyCommandWritesFile() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+    Path file = Files.createTempFile("freebusy", ".ics");
+    try {
+      CommandInterface cmd = new CommandParser().parse("export freebusy " + file
+          + " --from 2025-03-01T00:00 --to 2025-05-01T00:00");
+      assertTrue(cmd instanceof ExportFreeBusyCommand);
+      assertTrue(cmd.execute(manager, view));
+      assertTrue(view.hasMessage("Exported 3 busy period(s) to: "));
+      assertEquals(3, periods(Files.readString(file)).size());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testExportFreeBusyCommandErrors() throws IOException {
+    assertFalse(new ExportFreeBusyCommand("busy.csv", "2025-03-01T00:00", "2025-04-01T00:00")
+        .execute(manager, view));
+    assertTrue(view.hasError("Unsupported file format"));
+
+    Path file = Files.createTempFile("freebusy", ".ics");
+    try {
+      Files.writeString(file, "BEGIN:VCALENDAR");
+      assertFalse(new ExportFreeBusyCommand(file.toString(), "2025-04-01T00:00",
+          "2025-03-01T00:00").execute(manager, view));
+      assertTrue(view.hasError("End time must be after start time"));
+      assertEquals("BEGIN:VCALENDAR", Files.readString(file));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+
+    assertFalse(new ExportFreeBusyCommand("busy.ics", "2025-03-01T00:00", "2025-04-01T00:00")
+        .execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
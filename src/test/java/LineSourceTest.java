@@ -0,0 +1,92 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import calendar.controller.LineSource;
+import calendar.controller.MappedFileLineSource;
+import calendar.controller.ReadableLineSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import org.junit.Test;
+
+/**
+ * Tests that every line source splits a script into the same lines as Scanner.
+ */
+public class LineSourceTest {
+  private static final char REPLACEMENT = (char) 0xFFFD;
+  private static final String[] SCRIPTS = {
+      "",
+      "exit",
+      "exit\n",
+      "\n\n",
+      "a\r\nb\rc\n\r\nd",
+      "create event \"Café ☕\" on 2025-01-15\nexit\n",
+      "one two three four five\u0085six\r",
+      "ends with cr\r",
+      "日本語のイベント\r\n  padded  \r\n",
+      "latin ÿ\u2028line\u2029sep\u2028",
+  };
+
+  private static List<String> scannerLines(String text) {
+    List<String> lines = new ArrayList<>();
+    try (Scanner scanner = new Scanner(new StringReader(text))) {
+      while (scanner.hasNextLine()) {
+        lines.add(scanner.nextLine());
+      }
+    }
+    return lines;
+  }
+
+  private static List<String> drain(LineSource source) throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (LineSource s = source) {
+      String line;
+      while ((line = s.nextLine()) != null) {
+        lines.add(line);
+      }
+      assertNull(s.nextLine());
+    }
+    return lines;
+  }
+
+  @Test
+  public void testReadableSourceMatchesScanner() throws IOException {
+    for (String script : SCRIPTS) {
+      assertEquals(script, scannerLines(script),
+          drain(new ReadableLineSource(new StringReader(script))));
+    }
+  }
+
+  @Test
+  public void testMappedSourceMatchesScannerAcrossWindows() throws IOException {
+    Path file = Files.createTempFile("commands", ".txt");
+    try {
+      for (String script : SCRIPTS) {
+        Files.write(file, script.getBytes(StandardCharsets.UTF_8));
+        for (long window : new long[] {1, 2, 3, 5, 1 << 20}) {
+          assertEquals(script + " @" + window, scannerLines(script),
+              drain(new MappedFileLineSource(file, window)));
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testMalformedUtf8BecomesReplacementCharacter() throws IOException {
+    Path file = Files.createTempFile("commands", ".txt");
+    try {
+      Files.write(file, new byte[] {'a', (byte) 0xC3, '\n', (byte) 0xE2, (byte) 0x80, 'b'});
+      assertEquals(List.of("a" + REPLACEMENT, REPLACEMENT + "b"),
+          drain(new MappedFileLineSource(file)));
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.Event;
+import calendar.model.EventAttribute;
+import calendar.model.EventFilter;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.OverlapPolicy;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for the per-calendar no-overlap policy.
+ */
+public class OverlapPolicyTest extends CalendarTestFixture {
+
+  private static CalendarModelInterface[] models() {
+    return new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()};
+  }
+
+  @Test
+  public void testCreateRejectsOverlapOnlyUnderPolicy() {
+    for (CalendarModelInterface model : models()) {
+      LocalDateTime nine = LocalDateTime.of(2025, 3, 3, 9, 0);
+      assertEquals(OverlapPolicy.ALLOW_OVERLAP, model.getOverlapPolicy());
+      assertTrue(model.createEvent(event("A", nine, nine.plusHours(1))));
+      assertTrue(model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP));
+
+      assertFalse(model.createEvent(event("B", nine.plusMinutes(30), nine.plusMinutes(90))));
+      assertFalse(model.createEvent(event("B", nine.minusMinutes(30), nine.plusMinutes(1))));
+      assertFalse(model.createEvent(event("B", nine.minusHours(1), nine.plusHours(2))));
+      assertTrue(model.createEvent(event("B", nine.plusMinutes(60), nine.plusMinutes(90))));
+      assertTrue(model.createEvent(event("C", nine.minusMinutes(30), nine)));
+      assertEquals(3, model.getAllEvents().size());
+
+      assertTrue(model.setOverlapPolicy(OverlapPolicy.ALLOW_OVERLAP));
+      assertTrue(model.createEvent(event("D", nine, nine.plusHours(1))));
+      assertFalse(model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP));
+      assertEquals(OverlapPolicy.ALLOW_OVERLAP, model.getOverlapPolicy());
+    }
+  }
+
+  @Test
+  public void testSeriesCheckedAgainstEventsAndItself() {
+    for (CalendarModelInterface model : models()) {
+      model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP);
+      model.createEvent(event("Review", LocalDateTime.of(2025, 6, 23, 9, 10),
+          LocalDateTime.of(2025, 6, 23, 9, 30)));
+
+      EventSeries clashing = new EventSeries(UUID.randomUUID(),
+          event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0), LocalDateTime.of(2025, 6, 2, 9, 15)),
+          EnumSet.of(DayOfWeek.MONDAY), null, 6, false);
+      assertFalse(model.createEventSeries(clashing));
+      assertEquals(1, model.getAllEvents().size());
+
+      EventSeries fine = new EventSeries(UUID.randomUUID(),
+          event("Standup", LocalDateTime.of(2025, 6, 2, 8, 45),
+              LocalDateTime.of(2025, 6, 2, 9, 10)),
+          EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), null, 6, false);
+      assertTrue(model.createEventSeries(fine));
+      assertEquals(7, model.getAllEvents().size());
+
+      EventSeries overnight = new EventSeries(UUID.randomUUID(),
+          event("Backup", LocalDateTime.of(2025, 9, 1, 12, 0), LocalDateTime.of(2025, 9, 2, 13, 0)),
+          EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), null, 2, false);
+      assertFalse(model.createEventSeries(overnight));
+    }
+  }
+
+  @Test
+  public void testEditsRejectOverlapAndKeepOriginal() {
+    for (CalendarModelInterface model : models()) {
+      model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP);
+      LocalDateTime nine = LocalDateTime.of(2025, 3, 3, 9, 0);
+      EventInterface a = event("A", nine, nine.plusHours(1));
+      model.createEvent(a);
+      model.createEvent(event("B", nine.plusHours(2), nine.plusHours(3)));
+
+      assertFalse(model.editEvent(a.getId(),
+          new EditSpec(null, nine.plusMinutes(90), null, null, null, null)));
+      assertEquals(nine, model.findEventById(a.getId()).getStartDateTime());
+      assertTrue(model.editEvent(a.getId(),
+          new EditSpec(null, nine.plusMinutes(30), null, null, null, null)));
+      assertTrue(model.editEvent(a.getId(),
+          new EditSpec(null, null, null, null, "Room 4", null)));
+
+      UUID seriesId = UUID.randomUUID();
+      model.createEventSeries(new EventSeries(seriesId,
+          event("Standup", LocalDateTime.of(2025, 4, 7, 9, 0), LocalDateTime.of(2025, 4, 7, 9, 15)),
+          EnumSet.of(DayOfWeek.MONDAY), null, 3, false));
+      model.createEvent(event("Lunch", LocalDateTime.of(2025, 4, 14, 12, 0),
+          LocalDateTime.of(2025, 4, 14, 13, 0)));
+      assertFalse(model.editEntireSeries(seriesId,
+          new EditSpec(null, LocalDateTime.of(2025, 4, 7, 11, 50), null, null, null, null)));
+      assertEquals(3, model.searchEvents("standup", LocalDateTime.of(2025, 4, 7, 9, 0),
+          LocalDateTime.of(2025, 4, 22, 9, 15)).size());
+
+      assertEquals(-1, model.editAll(new EventFilter(
+          Collections.singletonMap(EventAttribute.SUBJECT, "Lunch"), null, null),
+          new EditSpec(null, LocalDateTime.of(2025, 4, 21, 9, 5), null, null, null, null)));
+      assertEquals(2, model.getEventsOnDate(LocalDate.of(2025, 4, 14)).size());
+    }
+  }
+
+  @Test
+  public void testRejectedEditsLeaveModelUntouched() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP);
+    LocalDateTime nine = LocalDateTime.of(2025, 6, 2, 9, 0);
+    UUID seriesId = UUID.randomUUID();
+    model.createEventSeries(new EventSeries(seriesId,
+        event("Standup", nine, nine.plusMinutes(15)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 20, false));
+    model.createEvent(event("Review", nine.plusMinutes(20), nine.plusMinutes(60)));
+    assertEquals(2, model.getEventsOnDate(nine.toLocalDate()).size());
+
+    EventFilter firstStandup = new EventFilter(
+        Collections.singletonMap(EventAttribute.SUBJECT, "Standup"), nine, nine.plusDays(1));
+    int capacity = model.getSlotCapacity();
+    assertEquals(-1, model.editAll(firstStandup,
+        new EditSpec(null, nine.plusMinutes(10), null, null, null, null)));
+    assertFalse(model.editEntireSeries(seriesId,
+        new EditSpec(null, nine.plusMinutes(10), null, null, null, null)));
+    assertEquals(capacity, model.getSlotCapacity());
+
+    assertEquals(2, model.getEventsOnDate(nine.toLocalDate()).size());
+    assertEquals(1, model.getQueryCacheStats().getHits());
+    assertEquals(0, model.getQueryCacheStats().getInvalidations());
+
+    assertEquals(1, model.editAll(firstStandup,
+        new EditSpec(null, nine.plusMinutes(5), null, null, null, null)));
+    assertTrue(model.editEntireSeries(seriesId,
+        new EditSpec(null, null, null, null, "Room 4", null)));
+  }
+
+  @Test
+  public void testRandomSeriesMatchesReferenceModel() {
+    CalendarModel reference = new CalendarModel();
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    reference.setOverlapPolicy(OverlapPolicy.NO_OVERLAP);
+    model.setOverlapPolicy(OverlapPolicy.NO_OVERLAP);
+    Random random = new Random(7);
+    LocalDateTime origin = LocalDateTime.of(2025, 1, 6, 0, 0);
+    for (int i = 0; i < 300; i++) {
+      LocalDateTime start = origin.plusMinutes(random.nextInt(90 * 24 * 4) * 15L);
+      EventInterface template = event("E" + i, start, start.plusMinutes(15 + random.nextInt(240)));
+      if (random.nextBoolean()) {
+        EventSeries series = new EventSeries(UUID.randomUUID(), template,
+            EnumSet.of(start.getDayOfWeek()), null, 1 + random.nextInt(5), false);
+        assertEquals(reference.createEventSeries(series), model.createEventSeries(series));
+      } else {
+        assertEquals(reference.createEvent(template), model.createEvent(template));
+      }
+    }
+    assertEquals(reference.getAllEvents().size(), model.getAllEvents().size());
+    assertTrue(model.getAllEvents().size() > 20);
+  }
+
+  @Test
+  public void testEditCalendarPolicyCommand() throws IOException {
+    CommandParser parser = new CommandParser();
+    assertTrue(parser.parse("edit calendar --name Work --property policy no-overlap")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Calendar 'Work' policy changed to 'no-overlap'."));
+
+    assertTrue(parser.parse("create event Sync from 2025-03-03T09:00 to 2025-03-03T10:00")
+        .execute(manager, view));
+    assertFalse(parser.parse("create event Other from 2025-03-03T09:30 to 2025-03-03T10:30")
+        .execute(manager, view));
+    assertTrue(view.hasError("Event overlaps an existing event: Other"));
+
+    assertTrue(parser.parse("edit calendar --name Work --property policy allow-overlap")
+        .execute(manager, view));
+    assertTrue(parser.parse("create event Other from 2025-03-03T09:30 to 2025-03-03T10:30")
+        .execute(manager, view));
+    assertFalse(parser.parse("edit calendar --name Work --property policy no-overlap")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Error: Calendar 'Work' already has overlapping events."));
+
+    assertFalse(parser.parse("edit calendar --name Work --property policy sometimes")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Error: Invalid policy sometimes"));
+    assertFalse(parser.parse("edit calendar --name Missing --property policy no-overlap")
+        .execute(manager, view));
+    assertTrue(view.hasMessage("Error: Calendar 'Missing' not found."));
+  }
+}
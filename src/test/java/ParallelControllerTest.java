@@ -0,0 +1,175 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.controller.Controller;
+import calendar.controller.ParallelController;
+import calendar.model.CalendarManager;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that the parallel headless controller behaves like the sequential one.
+ */
+public class ParallelControllerTest {
+  private static final String[] NAMES = {"Work", "Home", "Gym", "Club"};
+
+  private Path script;
+
+  /**
+   * Deletes the script written by the test, if any.
+   */
+  @After
+  public void tearDown() throws IOException {
+    if (script != null) {
+      Files.deleteIfExists(script);
+    }
+  }
+
+  private static TestView sequential(String text) throws IOException {
+    TestView view = new TestView();
+    new Controller(new CalendarManager(), view, new CommandParser(), new StringReader(text),
+        false).run();
+    return view;
+  }
+
+  private ParallelController parallel(String text, TestView view, int workers)
+      throws IOException {
+    script = Files.createTempFile("parallel", ".txt");
+    Files.write(script, text.getBytes(StandardCharsets.UTF_8));
+    ParallelController controller =
+        new ParallelController(CalendarManager::new, view, new CommandParser(), script, workers);
+    controller.run();
+    return controller;
+  }
+
+  private void assertSameOutput(String text) throws IOException {
+    TestView expected = sequential(text);
+    for (int workers = 1; workers <= 4; workers++) {
+      TestView actual = new TestView();
+      parallel(text, actual, workers);
+      assertEquals(expected.getMessages(), actual.getMessages());
+      assertEquals(expected.getErrors(), actual.getErrors());
+      assertEquals(expected.getDisplayedEvents().size(), actual.getDisplayedEvents().size());
+    }
+  }
+
+  private static String day(int i) {
+    return String.format("2025-%02d-%02d", 1 + i % 12, 1 + i % 28);
+  }
+
+  private static String script(int rounds, boolean copies) {
+    StringBuilder text = new StringBuilder();
+    for (String name : NAMES) {
+      text.append("create calendar --name ").append(name).append(" --timezone UTC\n");
+    }
+    for (int i = 0; i < rounds; i++) {
+      String name = NAMES[i % NAMES.length];
+      text.append("use calendar --name ").append(name).append('\n');
+      for (int j = 0; j < 40; j++) {
+        String d = day(i * 40 + j);
+        text.append("create event ").append(name).append(i).append('_').append(j)
+            .append(" from ").append(d).append("T09:00 to ").append(d).append("T09:30\n");
+      }
+      text.append("print events on ").append(day(i * 40)).append('\n');
+      text.append("not a command\n");
+      if (copies && i % 3 == 0) {
+        String target = NAMES[(i + 1) % NAMES.length];
+        text.append("copy events on ").append(day(i * 40)).append(" --target ").append(target)
+            .append(" to ").append(day(i * 40 + 7)).append('\n');
+      }
+    }
+    for (String name : NAMES) {
+      text.append("use calendar --name ").append(name).append('\n');
+      text.append("print events from 2025-01-01T00:00 to 2026-01-01T00:00\n");
+    }
+    return text.toString();
+  }
+
+  @Test
+  public void testIndependentCalendarsMatchSequentialRun() throws IOException {
+    assertSameOutput(script(40, false) + "exit\n");
+  }
+
+  @Test
+  public void testCopiesBetweenCalendarsMatchSequentialRun() throws IOException {
+    assertSameOutput(script(40, true) + "exit\n");
+  }
+
+  @Test
+  public void testMissingExitReported() throws IOException {
+    assertSameOutput(script(8, true));
+    TestView view = new TestView();
+    parallel(script(2, false), view, 2);
+    assertTrue(view.hasError("Error: Commands file must end with 'exit' command"));
+  }
+
+  @Test
+  public void testStopsAtExit() throws IOException {
+    String text = script(12, true) + "exit\n" + "create calendar --name Late --timezone UTC\n";
+    assertSameOutput(text);
+    ParallelController controller = parallel(text, new TestView(), 3);
+    assertNotNull(controller.getManager().getCalendar("Work"));
+    assertEquals(null, controller.getManager().getCalendar("Late"));
+  }
+
+  @Test
+  public void testFailedCopyMidRunMatchesSequentialRun() throws IOException {
+    StringBuilder rest = new StringBuilder();
+    for (String name : NAMES) {
+      rest.append("use calendar --name ").append(name).append('\n');
+      rest.append("create event Late").append(name).append(" from ").append(day(3))
+          .append("T09:00 to ").append(day(3)).append("T10:00\n");
+    }
+    String text = script(10, true) + "use calendar --name Home\n"
+        + "copy events on " + day(1) + " --target Nowhere to " + day(2) + "\n"
+        + rest + "exit\n";
+    assertSameOutput(text);
+
+    CalendarManager expected = new CalendarManager();
+    new Controller(expected, new TestView(), new CommandParser(), new StringReader(text), false)
+        .run();
+    ParallelController controller = parallel(text, new TestView(), 4);
+    for (String name : NAMES) {
+      assertEquals(expected.getCalendar(name).getModel().getAllEvents().size(),
+          controller.getManager().getCalendar(name).getModel().getAllEvents().size());
+    }
+  }
+
+  @Test
+  public void testCommandsBeforeAnyCalendarMatchSequentialRun() throws IOException {
+    assertSameOutput("print events on 2025-01-01\ncreate event A from 2025-01-01T09:00 to "
+        + "2025-01-01T10:00\n" + script(4, true) + "exit\n");
+  }
+
+  @Test
+  public void testSearchOfOtherCalendarsWaitsForTheirWrites() throws IOException {
+    StringBuilder text = new StringBuilder("create calendar --name A --timezone UTC\n"
+        + "create calendar --name B --timezone UTC\n"
+        + "use calendar --name A\n");
+    for (int i = 0; i < 3000; i++) {
+      String d = day(i);
+      text.append("create event Meet").append(i).append(" from ").append(d).append("T00:00 to ")
+          .append(d).append("T23:59\n");
+    }
+    text.append("use calendar --name B\n")
+        .append("search Meet2999 --calendars A\n")
+        .append("exit\n");
+    assertSameOutput(text.toString());
+    TestView view = new TestView();
+    parallel(text.toString(), view, 4);
+    assertEquals(1, view.getDisplayedEvents().get(0).size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsZeroWorkers() {
+    new ParallelController(CalendarManager::new, new TestView(), new CommandParser(),
+        Path.of("unused"), 0);
+  }
+}
@@ -0,0 +1,265 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import calendar.model.EditSpec;
+import calendar.model.Event;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import calendar.model.QueryCacheStats;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the month-partitioned calendar model.
+ */
+public class PartitionedCalendarModelTest {
+  private PartitionedCalendarModel model;
+
+  /**
+   * Creates an empty model before each test.
+   */
+  @Before
+  public void setUp() {
+    model = new PartitionedCalendarModel();
+  }
+
+  private static EventInterface event(String subject, LocalDateTime start, LocalDateTime end) {
+    return new Event(subject, start, end, null, null, false, UUID.randomUUID(), null);
+  }
+
+  @Test
+  public void testCreateAndQueryAcrossShards() {
+    assertTrue(model.createEvent(event("Jan", LocalDateTime.of(2025, 1, 10, 9, 0),
+        LocalDateTime.of(2025, 1, 10, 10, 0))));
+    assertTrue(model.createEvent(event("Mar", LocalDateTime.of(2025, 3, 10, 9, 0),
+        LocalDateTime.of(2025, 3, 10, 10, 0))));
+
+    assertEquals(2, model.getShardMonths().size());
+    List<EventInterface> march = model.getEventsInRange(LocalDateTime.of(2025, 3, 1, 0, 0),
+        LocalDateTime.of(2025, 4, 1, 0, 0));
+    assertEquals(1, march.size());
+    assertEquals("Mar", march.get(0).getSubject());
+    assertEquals(2, model.getAllEvents().size());
+  }
+
+  @Test
+  public void testDuplicateRejected() {
+    LocalDateTime start = LocalDateTime.of(2025, 5, 5, 10, 0);
+    assertTrue(model.createEvent(event("Meeting", start, start.plusHours(1))));
+    assertFalse(model.createEvent(event("Meeting", start, start.plusHours(1))));
+    assertTrue(model.createEvent(event("Meeting", start, start.plusHours(2))));
+  }
+
+  @Test
+  public void testEventSpanningMonthBoundaryIsFound() {
+    model.createEvent(event("Overnight", LocalDateTime.of(2025, 1, 31, 22, 0),
+        LocalDateTime.of(2025, 2, 1, 2, 0)));
+
+    assertEquals(1, model.getEventsOnDate(LocalDate.of(2025, 2, 1)).size());
+    assertTrue(model.isBusy(LocalDateTime.of(2025, 2, 1, 1, 0)));
+    assertFalse(model.isBusy(LocalDateTime.of(2025, 2, 1, 2, 0)));
+    assertEquals(1, model.getEventsInRange(LocalDateTime.of(2025, 2, 1, 0, 0),
+        LocalDateTime.of(2025, 2, 2, 0, 0)).size());
+  }
+
+  @Test
+  public void testEventEndingAtMidnightListedOnEndDate() {
+    model.createEvent(event("Late", LocalDateTime.of(2025, 6, 1, 22, 0),
+        LocalDateTime.of(2025, 6, 2, 0, 0)));
+
+    assertEquals(1, model.getEventsOnDate(LocalDate.of(2025, 6, 2)).size());
+    assertEquals(0, model.getEventsOnDate(LocalDate.of(2025, 6, 3)).size());
+  }
+
+  @Test
+  public void testQueriesAreStartOrdered() {
+    model.createEvent(event("B", LocalDateTime.of(2025, 5, 5, 14, 0),
+        LocalDateTime.of(2025, 5, 5, 15, 0)));
+    model.createEvent(event("A", LocalDateTime.of(2025, 5, 5, 9, 0),
+        LocalDateTime.of(2025, 5, 5, 10, 0)));
+
+    List<EventInterface> events = model.getEventsOnDate(LocalDate.of(2025, 5, 5));
+    assertEquals("A", events.get(0).getSubject());
+    assertEquals("B", events.get(1).getSubject());
+  }
+
+  @Test
+  public void testSeriesEditsMoveEventsBetweenShards() {
+    LocalDateTime start = LocalDateTime.of(2025, 1, 27, 9, 0);
+    UUID seriesId = UUID.randomUUID();
+    EventSeries series = new EventSeries(seriesId, event("Standup", start, start.plusMinutes(15)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 3, false);
+    assertTrue(model.createEventSeries(series));
+    assertEquals(2, model.getShardMonths().size());
+
+    EditSpec spec = new EditSpec(null, null, null, null, "Room 4", null);
+    assertTrue(model.editSeriesFrom(seriesId, LocalDate.of(2025, 2, 1), spec));
+    List<EventInterface> all = model.getAllEvents();
+    assertFalse(all.get(0).getLocation().isPresent());
+    assertEquals("Room 4", all.get(1).getLocation().get());
+    assertEquals("Room 4", all.get(2).getLocation().get());
+
+    EditSpec rename = new EditSpec("Daily", null, null, null, null, null);
+    assertTrue(model.editEntireSeries(seriesId, rename));
+    for (EventInterface e : model.getAllEvents()) {
+      assertEquals("Daily", e.getSubject());
+    }
+  }
+
+  @Test
+  public void testRepeatedEditsReuseSlots() {
+    LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+    UUID seriesId = UUID.randomUUID();
+    EventSeries series = new EventSeries(seriesId, event("Standup", start, start.plusMinutes(15)),
+        EnumSet.allOf(DayOfWeek.class), null, 1000, false);
+    assertTrue(model.createEventSeries(series));
+    int capacity = model.getSlotCapacity();
+
+    for (int i = 0; i < 200; i++) {
+      EditSpec spec = new EditSpec(null, null, null, null, "Room " + i, null);
+      assertTrue(model.editEntireSeries(seriesId, spec));
+    }
+
+    assertEquals(capacity, model.getSlotCapacity());
+    assertEquals(1000, model.getAllEvents().size());
+    assertEquals(1000, model.searchEvents("Room 199", null, null).size());
+    assertTrue(model.searchEvents("Room 198", null, null).isEmpty());
+  }
+
+  @Test
+  public void testEditEventKeepsIdLookup() {
+    EventInterface e = event("Review", LocalDateTime.of(2025, 4, 30, 9, 0),
+        LocalDateTime.of(2025, 4, 30, 10, 0));
+    model.createEvent(e);
+
+    EditSpec spec = new EditSpec(null, LocalDateTime.of(2025, 5, 2, 9, 0), null, null, null,
+        null);
+    assertTrue(model.editEvent(e.getId(), spec));
+
+    EventInterface moved = model.findEventById(e.getId());
+    assertNotNull(moved);
+    assertEquals(LocalDateTime.of(2025, 5, 2, 10, 0), moved.getEndDateTime());
+    assertNull(model.findEventByProperties("Review", LocalDateTime.of(2025, 4, 30, 9, 0),
+        LocalDateTime.of(2025, 4, 30, 10, 0)));
+    assertEquals(1, model.getShardMonths().size());
+    assertEquals(YearMonth.of(2025, 5), model.getShardMonths().get(0));
+  }
+
+  @Test
+  public void testSnapshotEvictAndRestoreShard() {
+    EventInterface e = event("Audit", LocalDateTime.of(2025, 7, 1, 9, 0),
+        LocalDateTime.of(2025, 7, 1, 10, 0));
+    model.createEvent(e);
+
+    assertEquals(1, model.snapshotShard(YearMonth.of(2025, 7)).size());
+    assertTrue(model.snapshotShard(YearMonth.of(2025, 8)).isEmpty());
+
+    List<EventInterface> evicted = model.evictShard(YearMonth.of(2025, 7));
+    assertEquals(1, evicted.size());
+    assertNull(model.findEventById(e.getId()));
+    assertTrue(model.getEventsOnDate(LocalDate.of(2025, 7, 1)).isEmpty());
+
+    assertEquals(1, model.restoreShard(evicted));
+    assertNotNull(model.findEventById(e.getId()));
+  }
+
+  @Test
+  public void testRepeatedQueriesHitCache() {
+    model.createEvent(event("Audit", LocalDateTime.of(2025, 4, 7, 9, 0),
+        LocalDateTime.of(2025, 4, 7, 10, 0)));
+
+    LocalDate day = LocalDate.of(2025, 4, 7);
+    assertEquals(1, model.getEventsOnDate(day).size());
+    model.getEventsOnDate(day).clear();
+    assertEquals(1, model.getEventsOnDate(day).size());
+    assertTrue(model.isBusy(LocalDateTime.of(2025, 4, 7, 9, 30)));
+    assertTrue(model.isBusy(LocalDateTime.of(2025, 4, 7, 9, 30)));
+
+    QueryCacheStats stats = model.getQueryCacheStats();
+    assertEquals(2, stats.getMisses());
+    assertEquals(3, stats.getHits());
+    assertEquals(0.6, stats.getHitRate(), 1e-9);
+  }
+
+  @Test
+  public void testWriteToOtherMonthKeepsCachedResults() {
+    model.createEvent(event("Audit", LocalDateTime.of(2025, 4, 7, 9, 0),
+        LocalDateTime.of(2025, 4, 7, 10, 0)));
+    LocalDate day = LocalDate.of(2025, 4, 7);
+    model.getEventsOnDate(day);
+
+    model.createEvent(event("Plan", LocalDateTime.of(2025, 3, 3, 9, 0),
+        LocalDateTime.of(2025, 3, 3, 10, 0)));
+    assertEquals(1, model.getEventsOnDate(day).size());
+    assertEquals(1, model.getQueryCacheStats().getHits());
+
+    model.createEvent(event("Review", LocalDateTime.of(2025, 4, 7, 14, 0),
+        LocalDateTime.of(2025, 4, 7, 15, 0)));
+    assertEquals(2, model.getEventsOnDate(day).size());
+    assertEquals(1, model.getQueryCacheStats().getInvalidations());
+  }
+
+  @Test
+  public void testLongEventFromEarlierMonthInvalidatesCache() {
+    LocalDate day = LocalDate.of(2025, 4, 7);
+    assertTrue(model.getEventsOnDate(day).isEmpty());
+    assertFalse(model.isBusy(day.atTime(12, 0)));
+
+    model.createEvent(event("Leave", LocalDateTime.of(2025, 3, 28, 0, 0),
+        LocalDateTime.of(2025, 4, 10, 0, 0)));
+    assertEquals(1, model.getEventsOnDate(day).size());
+    assertTrue(model.isBusy(day.atTime(12, 0)));
+    assertEquals(0, model.getQueryCacheStats().getHits());
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    LocalDate start = LocalDate.of(2025, 1, 1);
+    for (int i = 0; i < 600; i++) {
+      model.getEventsOnDate(start.plusDays(i));
+    }
+    QueryCacheStats stats = model.getQueryCacheStats();
+    assertEquals(88, stats.getEvictions());
+    assertEquals(512, stats.getSize());
+  }
+
+  private static List<EventInterface> drain(Iterator<EventInterface> events) {
+    List<EventInterface> list = new ArrayList<>();
+    events.forEachRemaining(list::add);
+    return list;
+  }
+
+  @Test
+  public void testIteratorsMatchListQueries() {
+    LocalDateTime base = LocalDateTime.of(2024, 11, 20, 8, 0);
+    for (int i = 0; i < 400; i++) {
+      LocalDateTime start = base.plusHours(i * 7L);
+      assertTrue(model.createEvent(event("E" + i, start, start.plusMinutes(30 + i % 5 * 60))));
+    }
+    LocalDateTime longStart = LocalDateTime.of(2024, 12, 30, 22, 0);
+    assertTrue(model.createEvent(event("Long", longStart, longStart.plusDays(5))));
+
+    assertEquals(model.getAllEvents(), drain(model.iterateAllEvents()));
+    for (int d = 0; d < 130; d += 3) {
+      LocalDate day = LocalDate.of(2024, 11, 18).plusDays(d);
+      assertEquals(model.getEventsOnDate(day), drain(model.iterateEventsOnDate(day)));
+      LocalDateTime from = day.atTime(13, 0);
+      LocalDateTime to = from.plusDays(d % 40);
+      assertEquals(model.getEventsInRange(from, to), drain(model.iterateEventsInRange(from, to)));
+    }
+    assertFalse(new PartitionedCalendarModel().iterateAllEvents().hasNext());
+  }
+}
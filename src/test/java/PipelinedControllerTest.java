@@ -0,0 +1,110 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.controller.Controller;
+import calendar.controller.PipelinedController;
+import calendar.model.CalendarManager;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests that the pipelined headless controller behaves like the sequential one.
+ */
+public class PipelinedControllerTest {
+
+  private static TestView sequential(String script) throws IOException {
+    TestView view = new TestView();
+    new Controller(new CalendarManager(), view, new CommandParser(), new StringReader(script),
+        false).run();
+    return view;
+  }
+
+  private static TestView pipelined(Reader script, int workers) throws IOException {
+    TestView view = new TestView();
+    new PipelinedController(new CalendarManager(), view, new CommandParser(), script, workers)
+        .run();
+    return view;
+  }
+
+  private static void assertSameOutput(String script) throws IOException {
+    TestView expected = sequential(script);
+    for (int workers = 1; workers <= 3; workers++) {
+      TestView actual = pipelined(new StringReader(script), workers);
+      assertEquals(expected.getMessages(), actual.getMessages());
+      assertEquals(expected.getErrors(), actual.getErrors());
+    }
+  }
+
+  private static String longScript(int events) {
+    StringBuilder script = new StringBuilder();
+    script.append("create calendar --name Work --timezone America/New_York\n");
+    script.append("use calendar --name Work\n");
+    for (int i = 0; i < events; i++) {
+      String day = String.format("2025-%02d-%02d", 1 + i % 12, 1 + i % 28);
+      script.append("create event E").append(i).append(" from ").append(day)
+          .append("T09:00 to ").append(day).append("T09:30\n");
+      if (i % 97 == 0) {
+        script.append("not a command ").append(i).append('\n');
+      }
+      if (i % 50 == 0) {
+        script.append("print events on ").append(day).append("\r\n");
+      }
+    }
+    return script.toString();
+  }
+
+  @Test
+  public void testLongScriptMatchesSequentialRun() throws IOException {
+    assertSameOutput(longScript(2000) + "exit\n");
+  }
+
+  @Test
+  public void testMissingExitReported() throws IOException {
+    assertSameOutput(longScript(300));
+    TestView view = pipelined(new StringReader(longScript(10)), 2);
+    assertTrue(view.hasError("Error: Commands file must end with 'exit' command"));
+  }
+
+  @Test
+  public void testStopsAtExit() throws IOException {
+    assertSameOutput(longScript(600) + "exit\n" + "create calendar --name Late --timezone UTC\n"
+        + longScript(600));
+  }
+
+  @Test
+  public void testLineTerminatorsMatchScanner() throws IOException {
+    assertSameOutput("create calendar --name A --timezone UTC\r\n\r\nuse calendar --name A\r"
+        + "print all events bogus\u0085\n  \nexit");
+    assertSameOutput("");
+    assertSameOutput("\n\n\n");
+  }
+
+  @Test
+  public void testReadFailureEndsInputLikeScanner() throws IOException {
+    Reader broken = new Reader() {
+      private boolean served;
+
+      @Override
+      public int read(char[] buf, int off, int len) throws IOException {
+        if (served) {
+          throw new IOException("disk gone");
+        }
+        served = true;
+        String head = "create calendar --name A --timezone UTC\n";
+        head.getChars(0, head.length(), buf, off);
+        return head.length();
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    TestView view = pipelined(broken, 2);
+    assertEquals(List.of("Error: Commands file must end with 'exit' command"),
+        view.getErrors());
+  }
+}
@@ -0,0 +1,96 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.PrintNextEventsCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for the next-N-events query and the print next command.
+ */
+public class PrintNextEventsTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Kickoff", LocalDateTime.of(2025, 1, 6, 9, 0),
+        LocalDateTime.of(2025, 1, 6, 10, 0)));
+    model.createEventSeries(new EventSeries(UUID.randomUUID(),
+        event("Standup", LocalDateTime.of(2025, 1, 27, 9, 0), LocalDateTime.of(2025, 1, 27, 10, 0)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 4, false));
+    model.createEvent(event("Review", LocalDateTime.of(2025, 2, 3, 14, 0),
+        LocalDateTime.of(2025, 2, 3, 15, 0)));
+    model.createEvent(event("Retro", LocalDateTime.of(2025, 6, 2, 9, 0),
+        LocalDateTime.of(2025, 6, 2, 10, 0)));
+  }
+
+  @Test
+  public void testNextEventsAcrossShardsInOrder() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<EventInterface> next = model.getNextEvents(LocalDateTime.of(2025, 1, 27, 9, 0), 3);
+      assertEquals(3, next.size());
+      assertEquals(LocalDateTime.of(2025, 1, 27, 9, 0), next.get(0).getStartDateTime());
+      assertEquals(LocalDateTime.of(2025, 2, 3, 9, 0), next.get(1).getStartDateTime());
+      assertEquals("Review", next.get(2).getSubject());
+
+      assertEquals(2, model.getNextEvents(LocalDateTime.of(2025, 2, 17, 9, 0), 10).size());
+      assertEquals("Retro",
+          model.getNextEvents(LocalDateTime.of(2025, 3, 1, 0, 0), 10).get(0).getSubject());
+      assertTrue(model.getNextEvents(LocalDateTime.of(2025, 6, 2, 9, 1), 10).isEmpty());
+      assertTrue(model.getNextEvents(LocalDateTime.of(2025, 1, 1, 0, 0), 0).isEmpty());
+    }
+  }
+
+  @Test
+  public void testNextEventsMatchesSortedScan() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    populate(model);
+    LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+    assertEquals(model.getAllEvents(), model.getNextEvents(from, 100));
+    assertEquals(model.getAllEvents().subList(0, 4), model.getNextEvents(from, 4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeLimitRejected() {
+    new PartitionedCalendarModel().getNextEvents(LocalDateTime.of(2025, 1, 1, 0, 0), -1);
+  }
+
+  @Test
+  public void testPrintNextCommand() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse("print next 2 events after 2025-02-01T00:00");
+    assertTrue(cmd instanceof PrintNextEventsCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(1, view.getDisplayedEvents().size());
+    assertEquals(2, view.getDisplayedEvents().get(0).size());
+    assertEquals("Standup", view.getDisplayedEvents().get(0).get(0).getSubject());
+  }
+
+  @Test
+  public void testPrintNextCommandErrors() throws IOException {
+    assertFalse(new PrintNextEventsCommand("0", "2025-02-01T00:00").execute(manager, view));
+    assertTrue(view.hasError("Count must be positive"));
+
+    assertFalse(new PrintNextEventsCommand("3", "bad").execute(manager, view));
+    assertTrue(view.hasError("Failed to print events"));
+
+    assertFalse(new PrintNextEventsCommand("3", "2025-02-01T00:00")
+        .execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
@@ -0,0 +1,162 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.SearchCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for full-text event search in the models and the search command.
+ */
+public class SearchCommandTest extends CalendarTestFixture {
+
+  /**
+   * Adds a second calendar next to the selected "Work" calendar.
+   */
+  @Before
+  public void setUp() {
+    manager.createCalendar("Home", ZoneId.of("America/New_York"));
+  }
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Quarterly Review", LocalDateTime.of(2025, 7, 1, 9, 0),
+        LocalDateTime.of(2025, 7, 1, 10, 0), "Budget numbers", "Room 4", false));
+    model.createEvent(event("Design review", LocalDateTime.of(2025, 8, 5, 9, 0),
+        LocalDateTime.of(2025, 8, 5, 10, 0), null, "Room 12", false));
+    model.createEvent(event("Lunch", LocalDateTime.of(2025, 9, 3, 12, 0),
+        LocalDateTime.of(2025, 9, 3, 13, 0), "with the design team", null, false));
+  }
+
+  @Test
+  public void testSearchMatchesAllFieldsCaseInsensitively() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      assertEquals(2, model.searchEvents("REVIEW", null, null).size());
+      assertEquals(1, model.searchEvents("budget", null, null).size());
+      assertEquals(2, model.searchEvents("design", null, null).size());
+      assertEquals(1, model.searchEvents("room 4", null, null).size());
+      assertEquals(0, model.searchEvents("roo", null, null).size());
+      assertEquals(0, model.searchEvents("   ", null, null).size());
+    }
+  }
+
+  @Test
+  public void testPrefixTermsAndChronologicalOrder() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<EventInterface> hits = model.searchEvents("rev*", null, null);
+      assertEquals(2, hits.size());
+      assertEquals("Quarterly Review", hits.get(0).getSubject());
+      assertEquals("Design review", hits.get(1).getSubject());
+      assertEquals(1, model.searchEvents("room 1*", null, null).size());
+      assertEquals(2, model.searchEvents("ro*", null, null).size());
+    }
+  }
+
+  @Test
+  public void testSearchWindowIsIntersected() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<EventInterface> hits = model.searchEvents("review",
+          LocalDateTime.of(2025, 8, 1, 0, 0), LocalDateTime.of(2025, 9, 1, 0, 0));
+      assertEquals(1, hits.size());
+      assertEquals("Design review", hits.get(0).getSubject());
+    }
+  }
+
+  @Test
+  public void testIndexFollowsEditsAndSeriesEdits() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    EventInterface e = event("Sync", LocalDateTime.of(2025, 5, 5, 9, 0),
+        LocalDateTime.of(2025, 5, 5, 10, 0));
+    model.createEvent(e);
+    model.editEvent(e.getId(), new EditSpec("Retro", null, null, null, null, null));
+    assertEquals(0, model.searchEvents("sync", null, null).size());
+    assertEquals(1, model.searchEvents("retro", null, null).size());
+
+    LocalDateTime start = LocalDateTime.of(2025, 6, 2, 9, 0);
+    UUID seriesId = UUID.randomUUID();
+    model.createEventSeries(new EventSeries(seriesId,
+        event("Standup", start, start.plusHours(1)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 4, false));
+    model.editSeriesFrom(seriesId, LocalDate.of(2025, 6, 16),
+        new EditSpec(null, null, null, null, "Room 4", null));
+    assertEquals(2, model.searchEvents("standup room", null, null).size());
+    assertEquals(4, model.searchEvents("standup", null, null).size());
+  }
+
+  @Test
+  public void testNarrowWindowOverManyMatches() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    LocalDateTime start = LocalDateTime.of(2025, 1, 6, 9, 0);
+    model.createEventSeries(new EventSeries(UUID.randomUUID(),
+        event("Standup", start, start.plusHours(1)),
+        EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), null, 100, false));
+
+    List<EventInterface> hits = model.searchEvents("standup",
+        LocalDateTime.of(2025, 3, 3, 0, 0), LocalDateTime.of(2025, 3, 8, 0, 0));
+    assertEquals(2, hits.size());
+    assertEquals(LocalDateTime.of(2025, 3, 3, 9, 0), hits.get(0).getStartDateTime());
+  }
+
+  @Test
+  public void testSearchCommandCurrentCalendar() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse("search \"design review\"");
+    assertTrue(cmd instanceof SearchCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(1, view.getDisplayedEvents().size());
+    assertEquals(1, view.getDisplayedEvents().get(0).size());
+  }
+
+  @Test
+  public void testSearchCommandAcrossCalendarsWithWindow() throws IOException {
+    populate(manager.getCalendar("Work").getModel());
+    manager.getCalendar("Home").getModel().createEvent(event("Review bills",
+        LocalDateTime.of(2025, 8, 20, 18, 0), LocalDateTime.of(2025, 8, 20, 19, 0)));
+
+    CommandInterface cmd = new CommandParser().parse(
+        "search review --from 2025-08-01T00:00 --to 2025-09-01T00:00 --calendars Work,Home");
+    assertTrue(cmd.execute(manager, view));
+    assertTrue(view.hasMessage("Calendar 'Work':"));
+    assertTrue(view.hasMessage("Calendar 'Home':"));
+    assertEquals(2, view.getDisplayedEvents().size());
+    assertEquals(1, view.getDisplayedEvents().get(0).size());
+    assertEquals(1, view.getDisplayedEvents().get(1).size());
+  }
+
+  @Test
+  public void testSearchCommandErrors() throws IOException {
+    CalendarManager empty = new CalendarManager();
+    assertFalse(new SearchCommand("x", null, null, null).execute(empty, view));
+    assertTrue(view.hasError("No calendar selected"));
+
+    assertFalse(new SearchCommand("x", null, null, "Missing").execute(manager, view));
+    assertTrue(view.hasError("Calendar 'Missing' not found."));
+
+    assertFalse(new SearchCommand("x", "bad", "2025-01-01T00:00", null).execute(manager, view));
+    assertTrue(view.hasError("Failed to search events"));
+  }
+}
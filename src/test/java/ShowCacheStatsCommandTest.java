@@ -0,0 +1,49 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandParser;
+import calendar.command.ShowCacheStatsCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * Tests for reporting query cache statistics.
+ */
+public class ShowCacheStatsCommandTest extends CalendarTestFixture {
+
+  @Test
+  public void testReportsHitsAndInvalidations() throws IOException {
+    CalendarModelInterface model = manager.getCurrentCalendar().getModel();
+    model.createEvent(event("Standup", march(3, 9, 0), march(3, 9, 30)));
+    model.getEventsOnDate(march(3, 0, 0).toLocalDate());
+    model.getEventsOnDate(march(3, 0, 0).toLocalDate());
+    model.isBusy(march(3, 9, 10));
+    model.createEvent(event("Review", march(3, 10, 0), march(3, 11, 0)));
+    model.getEventsOnDate(march(3, 0, 0).toLocalDate());
+
+    assertTrue(new CommandParser().parse("show cache stats") instanceof ShowCacheStatsCommand);
+    assertTrue(new CommandParser().parse("  SHOW  Cache stats ") instanceof ShowCacheStatsCommand);
+    assertTrue(new CommandParser().parse("show cache stats").execute(manager, view));
+    assertEquals("Query cache: 1 hit(s), 3 miss(es), 25.0% hit rate, 0 eviction(s), "
+        + "1 invalidation(s), 2 cached", view.getMessages().get(0));
+  }
+
+  @Test
+  public void testUncachedModelReportsZeros() {
+    CalendarModel model = new CalendarModel();
+    model.getEventsOnDate(march(3, 0, 0).toLocalDate());
+    assertEquals(0, model.getQueryCacheStats().getHits());
+    assertEquals(0, model.getQueryCacheStats().getMisses());
+    assertEquals(0.0, model.getQueryCacheStats().getHitRate(), 0.0);
+  }
+
+  @Test
+  public void testRequiresCalendar() throws IOException {
+    assertFalse(new ShowCacheStatsCommand().execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+  }
+}
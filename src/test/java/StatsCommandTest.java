@@ -0,0 +1,153 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.StatsCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.EventAttribute;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.EventStatus;
+import calendar.model.GroupStats;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for grouped event statistics in the models and the stats command.
+ */
+public class StatsCommandTest extends CalendarTestFixture {
+
+  private static void populate(CalendarModelInterface model) {
+    model.createEvent(event("Review", LocalDateTime.of(2025, 7, 1, 9, 0),
+        LocalDateTime.of(2025, 7, 1, 10, 0), null, "Room 4", false));
+    model.createEvent(event("Review", LocalDateTime.of(2025, 7, 2, 9, 0),
+        LocalDateTime.of(2025, 7, 2, 9, 30), null, "Room 12", true));
+    model.createEvent(event("Lunch", LocalDateTime.of(2025, 7, 2, 12, 0),
+        LocalDateTime.of(2025, 7, 2, 12, 45)));
+    model.createEvent(event("Review", LocalDateTime.of(2025, 8, 1, 9, 0),
+        LocalDateTime.of(2025, 8, 1, 10, 30), null, "Room 4", false));
+  }
+
+  @Test
+  public void testGroupsByEachAttribute() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+
+      List<GroupStats> bySubject = model.getStatistics(EventAttribute.SUBJECT, null, null);
+      assertEquals(2, bySubject.size());
+      assertEquals(new GroupStats("Lunch", 1, 45), bySubject.get(0));
+      assertEquals(new GroupStats("Review", 3, 180), bySubject.get(1));
+
+      List<GroupStats> byLocation = model.getStatistics(EventAttribute.LOCATION, null, null);
+      assertEquals(3, byLocation.size());
+      assertEquals(new GroupStats("", 1, 45), byLocation.get(0));
+      assertEquals(new GroupStats("Room 12", 1, 30), byLocation.get(1));
+      assertEquals(new GroupStats("Room 4", 2, 150), byLocation.get(2));
+
+      List<GroupStats> byStatus = model.getStatistics(EventAttribute.STATUS, null, null);
+      assertEquals(2, byStatus.size());
+      assertEquals(new GroupStats("private", 1, 30), byStatus.get(0));
+      assertEquals(new GroupStats("public", 3, 195), byStatus.get(1));
+    }
+  }
+
+  @Test
+  public void testWindowClipsMinutes() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      populate(model);
+      List<GroupStats> stats = model.getStatistics(EventAttribute.LOCATION,
+          LocalDateTime.of(2025, 7, 1, 9, 30), LocalDateTime.of(2025, 7, 2, 9, 10));
+      assertEquals(2, stats.size());
+      assertEquals(new GroupStats("Room 12", 1, 10), stats.get(0));
+      assertEquals(new GroupStats("Room 4", 1, 30), stats.get(1));
+    }
+  }
+
+  @Test
+  public void testNarrowWindowMatchesFullScan() {
+    CalendarModel reference = new CalendarModel();
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    for (CalendarModelInterface m : new CalendarModelInterface[] {reference, model}) {
+      for (int i = 0; i < 300; i++) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0).plusDays(i).plusMinutes(i % 7);
+        m.createEvent(event("Subject" + i % 5, start, start.plusMinutes(30 + i % 90), null,
+            i % 3 == 0 ? null : "Room " + i % 4, i % 2 == 0));
+      }
+      m.createEvent(event("Offsite", LocalDateTime.of(2025, 5, 30, 9, 0),
+          LocalDateTime.of(2025, 6, 3, 17, 0), null, "Lodge", false));
+    }
+    LocalDateTime from = LocalDateTime.of(2025, 6, 2, 12, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 6, 20, 9, 0);
+    for (EventAttribute attribute : EventAttribute.values()) {
+      List<GroupStats> expected = reference.getStatistics(attribute, from, to);
+      assertEquals(expected, model.getStatistics(attribute, from, to));
+    }
+    assertTrue(model.getStatistics(EventAttribute.LOCATION, from, to)
+        .contains(new GroupStats("Lodge", 1, 29 * 60)));
+  }
+
+  @Test
+  public void testIndexesFollowEditsAndSeriesEdits() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    EventInterface e = event("Sync", LocalDateTime.of(2025, 5, 5, 9, 0),
+        LocalDateTime.of(2025, 5, 5, 10, 0), null, "Room 1", false);
+    model.createEvent(e);
+    model.editEvent(e.getId(), new EditSpec(null, null, null, null, "Room 2", EventStatus.PRIVATE));
+    assertEquals(new GroupStats("Room 2", 1, 60),
+        model.getStatistics(EventAttribute.LOCATION, null, null).get(0));
+    assertEquals(new GroupStats("private", 1, 60),
+        model.getStatistics(EventAttribute.STATUS, null, null).get(0));
+
+    UUID seriesId = UUID.randomUUID();
+    model.createEventSeries(new EventSeries(seriesId,
+        event("Standup", LocalDateTime.of(2025, 6, 2, 9, 0), LocalDateTime.of(2025, 6, 2, 9, 15)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 4, false));
+    model.editEntireSeries(seriesId, new EditSpec(null, null, null, null, "Room 2", null));
+    List<GroupStats> stats = model.getStatistics(EventAttribute.LOCATION, null, null);
+    assertEquals(1, stats.size());
+    assertEquals(new GroupStats("Room 2", 5, 120), stats.get(0));
+  }
+
+  @Test
+  public void testStatsCommandOutput() throws IOException {
+    populate(manager.getCurrentCalendar().getModel());
+
+    CommandInterface cmd = new CommandParser().parse(
+        "stats by location --from 2025-07-01T00:00 --to 2025-08-01T00:00");
+    assertTrue(cmd instanceof StatsCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertTrue(view.hasMessage("(none): 1 event(s), 45 minute(s)"));
+    assertTrue(view.hasMessage("Room 12: 1 event(s), 30 minute(s)"));
+    assertTrue(view.hasMessage("Room 4: 1 event(s), 60 minute(s)"));
+
+    assertTrue(new CommandParser().parse("stats by subject --from 2026-01-01T00:00 "
+        + "--to 2026-02-01T00:00").execute(manager, view));
+    assertTrue(view.hasMessage("No events found."));
+  }
+
+  @Test
+  public void testStatsCommandErrors() throws IOException {
+    assertFalse(new StatsCommand("subject", null, null).execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+
+    assertFalse(new StatsCommand("colour", null, null).execute(manager, view));
+    assertTrue(view.hasError("Invalid attribute colour"));
+
+    assertFalse(new StatsCommand("subject", "2025-02-01T00:00", "2025-01-01T00:00")
+        .execute(manager, view));
+    assertTrue(view.hasError("Failed to compute statistics"));
+  }
+}
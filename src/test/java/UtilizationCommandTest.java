@@ -0,0 +1,143 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import calendar.command.CommandInterface;
+import calendar.command.CommandParser;
+import calendar.command.UtilizationCommand;
+import calendar.model.CalendarManager;
+import calendar.model.CalendarModel;
+import calendar.model.CalendarModelInterface;
+import calendar.model.EditSpec;
+import calendar.model.EventInterface;
+import calendar.model.EventSeries;
+import calendar.model.PartitionedCalendarModel;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.Test;
+
+/**
+ * Tests for booked-minute aggregates in the models and the utilization command.
+ */
+public class UtilizationCommandTest extends CalendarTestFixture {
+
+  @Test
+  public void testOverlapsCountedOnceWhenMerged() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      model.createEvent(event("A", march(3, 9, 0), march(3, 10, 0)));
+      model.createEvent(event("B", march(3, 9, 30), march(3, 10, 30)));
+      model.createEvent(event("C", march(4, 9, 0), march(4, 9, 30)));
+
+      LocalDate day = LocalDate.of(2025, 3, 3);
+      assertEquals(120, model.getBookedMinutes(day, day, false));
+      assertEquals(90, model.getBookedMinutes(day, day, true));
+      assertEquals(150, model.getBookedMinutes(day, day.plusDays(1), false));
+      assertEquals(120, model.getBookedMinutes(day, day.plusDays(1), true));
+      assertEquals(0, model.getBookedMinutes(day.plusDays(2), day.plusDays(9), true));
+    }
+  }
+
+  @Test
+  public void testEventSpanningMidnightSplitAcrossDays() {
+    for (CalendarModelInterface model
+        : new CalendarModelInterface[] {new CalendarModel(), new PartitionedCalendarModel()}) {
+      model.createEvent(event("Overnight", LocalDateTime.of(2025, 1, 31, 22, 0),
+          LocalDateTime.of(2025, 2, 1, 2, 0)));
+
+      assertEquals(120, model.getBookedMinutes(LocalDate.of(2025, 1, 31),
+          LocalDate.of(2025, 1, 31), true));
+      assertEquals(120, model.getBookedMinutes(LocalDate.of(2025, 2, 1),
+          LocalDate.of(2025, 2, 1), false));
+    }
+  }
+
+  @Test
+  public void testAggregatesFollowEditsAndSeriesEdits() {
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    LocalDate monday = LocalDate.of(2025, 6, 2);
+    EventInterface e = event("Sync", monday.atTime(9, 0), monday.atTime(10, 0));
+    model.createEvent(e);
+    model.createEvent(event("Overlap", monday.atTime(9, 30), monday.atTime(10, 30)));
+    model.editEvent(e.getId(), new EditSpec(null, monday.atTime(14, 0), null, null, null, null));
+    assertEquals(120, model.getBookedMinutes(monday, monday, true));
+
+    UUID seriesId = UUID.randomUUID();
+    model.createEventSeries(new EventSeries(seriesId,
+        event("Standup", monday.atTime(9, 0), monday.atTime(9, 15)),
+        EnumSet.of(DayOfWeek.MONDAY), null, 4, false));
+    assertEquals(135, model.getBookedMinutes(monday, monday, false));
+    assertEquals(135, model.getBookedMinutes(monday, monday, true));
+    model.editEntireSeries(seriesId,
+        new EditSpec(null, monday.atTime(9, 45), null, null, null, null));
+    assertEquals(135, model.getBookedMinutes(monday, monday, false));
+    assertEquals(120, model.getBookedMinutes(monday, monday, true));
+    assertEquals(15, model.getBookedMinutes(monday.plusDays(7), monday.plusDays(7), true));
+  }
+
+  @Test
+  public void testRandomScheduleMatchesReferenceModel() {
+    CalendarModel reference = new CalendarModel();
+    PartitionedCalendarModel model = new PartitionedCalendarModel();
+    Random random = new Random(42);
+    LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0);
+    for (int i = 0; i < 400; i++) {
+      LocalDateTime start = origin.plusMinutes(random.nextInt(5 * 365 * 24 * 4) * 15L);
+      EventInterface e = event("E" + i, start, start.plusMinutes(15 + random.nextInt(3000)));
+      reference.createEvent(e);
+      model.createEvent(e);
+      if (i % 3 == 0) {
+        EditSpec spec = new EditSpec(null, e.getStartDateTime().plusHours(random.nextInt(48)),
+            null, null, null, null);
+        reference.editEvent(e.getId(), spec);
+        model.editEvent(e.getId(), spec);
+      }
+    }
+
+    for (int i = 0; i < 100; i++) {
+      LocalDate from = origin.toLocalDate().plusDays(random.nextInt(5 * 365));
+      LocalDate to = from.plusDays(random.nextInt(120));
+      assertEquals(reference.getBookedMinutes(from, to, false),
+          model.getBookedMinutes(from, to, false));
+      assertEquals(reference.getBookedMinutes(from, to, true),
+          model.getBookedMinutes(from, to, true));
+    }
+  }
+
+  @Test
+  public void testUtilizationCommandWeeklyBuckets() throws IOException {
+    manager.getCurrentCalendar().getModel().createEvent(
+        event("Workshop", LocalDateTime.of(2025, 1, 8, 9, 0),
+            LocalDateTime.of(2025, 1, 8, 11, 24)));
+
+    CommandInterface cmd = new CommandParser().parse(
+        "utilization --from 2025-01-01 --to 2025-01-14 --granularity week");
+    assertTrue(cmd instanceof UtilizationCommand);
+    assertTrue(cmd.execute(manager, view));
+    assertEquals(3, view.getMessageCount());
+    assertTrue(view.hasMessage(
+        "2025-01-01 to 2025-01-05: 0 minute(s) booked, 0 minute(s) busy, 0.0% utilized"));
+    assertTrue(view.hasMessage(
+        "2025-01-06 to 2025-01-12: 144 minute(s) booked, 144 minute(s) busy, 1.4% utilized"));
+    assertTrue(view.hasMessage("2025-01-13 to 2025-01-14: 0 minute(s) booked"));
+  }
+
+  @Test
+  public void testUtilizationCommandErrors() throws IOException {
+    assertFalse(new UtilizationCommand("2025-01-01", "2025-01-02", null)
+        .execute(new CalendarManager(), view));
+    assertTrue(view.hasError("No calendar selected"));
+
+    assertFalse(new UtilizationCommand("2025-01-02", "2025-01-01", null).execute(manager, view));
+    assertTrue(view.hasError("Failed to compute utilization"));
+
+    assertFalse(new UtilizationCommand("2025-01-01", "2025-01-02", "year")
+        .execute(manager, view));
+    assertTrue(view.hasError("Invalid granularity year"));
+  }
+}